@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.knx.internal.dpt.ValueDecoder;
+import org.openhab.binding.knx.internal.dpt.ValueEncoder;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link DptBenchmark} measures decoding of group telegrams and encoding of commands for the most common DPTs.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DptBenchmark {
+
+    private static final int VARIANTS = 16;
+
+    /**
+     * 1.001 switch, 5.001 scaling, 9.001 temperature, 14.056 power
+     */
+    @Param({ "1.001", "5.001", "9.001", "14.056" })
+    public String dpt;
+
+    private final byte[][] telegrams = new byte[VARIANTS][];
+    private final Type[] commands = new Type[VARIANTS];
+    private Class<? extends Type> preferredType;
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < VARIANTS; i++) {
+            switch (dpt) {
+                case "1.001" -> {
+                    telegrams[i] = new byte[] { (byte) (i % 2) };
+                    commands[i] = OnOffType.from(i % 2 == 1);
+                    preferredType = OnOffType.class;
+                }
+                case "5.001" -> {
+                    telegrams[i] = new byte[] { (byte) (i * 16) };
+                    commands[i] = new PercentType(i * 6);
+                    preferredType = PercentType.class;
+                }
+                case "9.001" -> {
+                    // 0x0c00 + i: 20.48 °C and up in steps of 0.02 K
+                    telegrams[i] = new byte[] { 0x0c, (byte) i };
+                    commands[i] = new QuantityType<>((20 + i * 0.1) + " °C");
+                    preferredType = QuantityType.class;
+                }
+                case "14.056" -> {
+                    int bits = Float.floatToIntBits(1000.0f + i * 12.5f);
+                    telegrams[i] = new byte[] { (byte) (bits >> 24), (byte) (bits >> 16), (byte) (bits >> 8),
+                            (byte) bits };
+                    commands[i] = i % 2 == 0 ? new QuantityType<>((1000 + i * 12.5) + " W")
+                            : new DecimalType(1000 + i * 12.5);
+                    preferredType = QuantityType.class;
+                }
+                default -> throw new IllegalArgumentException("Unsupported DPT " + dpt);
+            }
+        }
+    }
+
+    @Benchmark
+    public Type decode() {
+        index = (index + 1) % VARIANTS;
+        return ValueDecoder.decode(dpt, telegrams[index], preferredType);
+    }
+
+    @Benchmark
+    public String encode() {
+        index = (index + 1) % VARIANTS;
+        return ValueEncoder.encode(commands[index], dpt);
+    }
+}
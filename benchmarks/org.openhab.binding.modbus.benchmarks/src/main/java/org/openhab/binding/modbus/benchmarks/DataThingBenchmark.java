@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.thing.Bridge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link DataThingBenchmark} measures how a poll result is processed by the data things of a poller, i.e.
+ * {@link ModbusDataThingHandler#onReadResult} for each data thing: parsing of the value, transformation and channel
+ * updates. One operation is one poll, so <code>-prof gc</code> reports the allocation per poll.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataThingBenchmark {
+
+    private static final int REGISTERS = 120;
+    private static final int VARIANTS = 16;
+
+    /**
+     * Number of data things of the poller, several data things read the same register if there are more than fit
+     */
+    @Param({ "10", "100", "500" })
+    public int dataThings;
+
+    @Param({ "int16", "float32" })
+    public String valueType;
+
+    private final List<ModbusDataThingHandler> handlers = new ArrayList<>();
+    private final AsyncModbusReadResult[] results = new AsyncModbusReadResult[VARIANTS];
+    private ModbusSetup setup;
+    private int index;
+    private long channelUpdates;
+
+    @Setup
+    public void setup() {
+        ModbusManager modbusManager = mock(ModbusManager.class, withSettings().stubOnly());
+        ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class, withSettings().stubOnly());
+        when(modbusManager.newModbusCommunicationInterface(any(), any())).thenReturn(comms);
+
+        setup = new ModbusSetup(modbusManager, (channelUID, state) -> channelUpdates++);
+        Bridge endpoint = setup.addTcp("endpoint", "localhost", 502, false);
+        // polling is disabled, the results are passed to the data things by the benchmark
+        Bridge poller = setup.addPoller(endpoint, "poller", "holding", 0, REGISTERS, 0);
+        int registersPerValue = "float32".equals(valueType) ? 2 : 1;
+        for (int i = 0; i < dataThings; i++) {
+            int readStart = (i * registersPerValue) % REGISTERS;
+            handlers.add(setup.getDataHandler(setup.addData(poller, "data" + i, readStart, valueType)));
+        }
+
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, REGISTERS, 1);
+        for (int variant = 0; variant < VARIANTS; variant++) {
+            int[] registers = new int[REGISTERS];
+            for (int i = 0; i < REGISTERS; i++) {
+                registers[i] = (i * 31 + variant * 7) & 0xffff;
+            }
+            results[variant] = new AsyncModbusReadResult(request, new ModbusRegisterArray(registers));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        setup.close();
+    }
+
+    /**
+     * All values change with every poll, so every channel is updated.
+     */
+    @Benchmark
+    public long changedValues() {
+        index = (index + 1) % VARIANTS;
+        AsyncModbusReadResult result = results[index];
+        for (ModbusDataThingHandler handler : handlers) {
+            handler.onReadResult(result);
+        }
+        return channelUpdates;
+    }
+
+    /**
+     * The values are unchanged, the channels are only updated when <code>updateUnchangedValuesEveryMillis</code> has
+     * passed.
+     */
+    @Benchmark
+    public long unchangedValues() {
+        AsyncModbusReadResult result = results[0];
+        for (ModbusDataThingHandler handler : handlers) {
+            handler.onReadResult(result);
+        }
+        return channelUpdates;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ModbusLoadTest} drives pollers and data things of the Modbus binding against in-process
+ * {@link ModbusSlaveSimulator}s, using the Modbus manager of openHAB core over TCP.
+ * <p>
+ * While polling, the register of one data thing after the other is changed in the simulator. The test reports the
+ * achieved polls per second, the latency from the register change to the channel update of the data thing and the
+ * memory allocated per poll by all threads except the simulator threads.
+ * <p>
+ * Options (with defaults): <code>--slaves 4 --pollers 100 --dataPerPoller 10 --refresh 1000 --changeInterval 50
+ * --warmup 10 --duration 60 --mergeReads false</code>
+ *
+ * @author agent - Initial contribution
+ */
+public class ModbusLoadTest {
+
+    private final int slaves;
+    private final int pollers;
+    private final int dataPerPoller;
+    private final long refresh;
+    private final long changeInterval;
+    private final long warmup;
+    private final long duration;
+    private final boolean mergeReads;
+
+    private final List<ModbusSlaveSimulator> simulators = new ArrayList<>();
+    private final Map<ThingUID, Integer> registerOfThing = new HashMap<>();
+    private int[] slaveOfRegister = new int[0];
+    private int[] addressOfRegister = new int[0];
+    private AtomicIntegerArray expectedValues = new AtomicIntegerArray(0);
+    private AtomicLongArray changeTimes = new AtomicLongArray(0);
+
+    private final AtomicLong channelUpdates = new AtomicLong();
+    private final List<Long> latencies = new ArrayList<>();
+    private volatile boolean measuring;
+
+    public ModbusLoadTest(Map<String, String> options) {
+        slaves = Integer.parseInt(options.getOrDefault("slaves", "4"));
+        pollers = Integer.parseInt(options.getOrDefault("pollers", "100"));
+        dataPerPoller = Integer.parseInt(options.getOrDefault("dataPerPoller", "10"));
+        refresh = Long.parseLong(options.getOrDefault("refresh", "1000"));
+        changeInterval = Long.parseLong(options.getOrDefault("changeInterval", "50"));
+        warmup = Long.parseLong(options.getOrDefault("warmup", "10"));
+        duration = Long.parseLong(options.getOrDefault("duration", "60"));
+        mergeReads = Boolean.parseBoolean(options.getOrDefault("mergeReads", "false"));
+        if (dataPerPoller < 1 || dataPerPoller > 125) {
+            throw new IllegalArgumentException("dataPerPoller must be between 1 and 125");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        new ModbusLoadTest(options).run();
+        // the thread pools of the Modbus manager are not daemon threads
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        int registers = pollers * dataPerPoller;
+        slaveOfRegister = new int[registers];
+        addressOfRegister = new int[registers];
+        expectedValues = new AtomicIntegerArray(registers);
+        changeTimes = new AtomicLongArray(registers);
+
+        ModbusManager modbusManager = ModbusSetup.createModbusManager();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (ModbusSetup setup = new ModbusSetup(modbusManager, this::channelUpdated)) {
+            List<Bridge> endpoints = new ArrayList<>();
+            for (int slave = 0; slave < slaves; slave++) {
+                ModbusSlaveSimulator simulator = new ModbusSlaveSimulator();
+                simulators.add(simulator);
+                endpoints.add(setup.addTcp("slave" + slave, simulator.getHost(), simulator.getPort(), mergeReads));
+            }
+            for (int p = 0; p < pollers; p++) {
+                int slave = p % slaves;
+                // the pollers of a slave read adjacent blocks, which can be merged
+                int start = (p / slaves) * dataPerPoller;
+                Bridge poller = setup.addPoller(endpoints.get(slave), "poller" + p, "holding", start, dataPerPoller,
+                        refresh);
+                for (int d = 0; d < dataPerPoller; d++) {
+                    int register = p * dataPerPoller + d;
+                    slaveOfRegister[register] = slave;
+                    addressOfRegister[register] = start + d;
+                    Thing data = setup.addData(poller, "data" + d, start + d, "uint16");
+                    registerOfThing.put(data.getUID(), register);
+                }
+            }
+            System.out.printf("Slaves: %d, pollers: %d, data things: %d, refresh: %d ms, merge reads: %s%n", slaves,
+                    pollers, registers, refresh, mergeReads);
+
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                private int next;
+
+                @Override
+                public void run() {
+                    changeRegister(next);
+                    next = (next + 1) % registers;
+                }
+            }, changeInterval, changeInterval, TimeUnit.MILLISECONDS);
+
+            System.out.printf("Warming up for %d s%n", warmup);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(warmup));
+
+            long readRequests = readRequests();
+            long updates = channelUpdates.get();
+            long allocatedBytes = allocatedBytes();
+            long start = System.nanoTime();
+            measuring = true;
+            System.out.printf("Measuring for %d s%n", duration);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+            measuring = false;
+            double seconds = (System.nanoTime() - start) / 1e9;
+            readRequests = readRequests() - readRequests;
+            updates = channelUpdates.get() - updates;
+            allocatedBytes = allocatedBytes() - allocatedBytes;
+
+            System.out.printf("Read requests: %d (%.1f/s, polls expected without merging: %.1f/s)%n", readRequests,
+                    readRequests / seconds, pollers * 1000.0 / refresh);
+            System.out.printf("Channel updates: %d (%.1f/s)%n", updates, updates / seconds);
+            printLatencies();
+            System.out.printf("Allocated per read request: %d bytes%n",
+                    readRequests == 0 ? 0 : allocatedBytes / readRequests);
+        } finally {
+            scheduler.shutdownNow();
+            ModbusSetup.deactivate(modbusManager);
+            for (ModbusSlaveSimulator simulator : simulators) {
+                simulator.close();
+            }
+        }
+    }
+
+    private void changeRegister(int register) {
+        int value = (expectedValues.get(register) + 1) & 0xffff;
+        expectedValues.set(register, value);
+        changeTimes.set(register, System.nanoTime());
+        simulators.get(slaveOfRegister[register]).setHoldingRegister(addressOfRegister[register], value);
+    }
+
+    private void channelUpdated(ChannelUID channelUID, State state) {
+        channelUpdates.incrementAndGet();
+        Integer register = registerOfThing.get(channelUID.getThingUID());
+        if (register == null || !(state instanceof DecimalType value)) {
+            return;
+        }
+        long changeTime = changeTimes.get(register);
+        if (changeTime != 0 && value.intValue() == expectedValues.get(register)
+                && changeTimes.compareAndSet(register, changeTime, 0)) {
+            long latency = System.nanoTime() - changeTime;
+            if (measuring) {
+                synchronized (latencies) {
+                    latencies.add(latency);
+                }
+            }
+        }
+    }
+
+    private void printLatencies() {
+        long[] sorted;
+        synchronized (latencies) {
+            sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        }
+        if (sorted.length == 0) {
+            System.out.println("Latency register change -> channel update: no samples");
+            return;
+        }
+        Arrays.sort(sorted);
+        System.out.printf("Latency register change -> channel update: %d samples, "
+                + "p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n", sorted.length, percentile(sorted, 0.5),
+                percentile(sorted, 0.9), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)))] / 1e6;
+    }
+
+    private long readRequests() {
+        return simulators.stream().mapToLong(ModbusSlaveSimulator::getReadRequests).sum();
+    }
+
+    /**
+     * @return the bytes allocated by the live threads, except the simulator threads
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        ThreadInfo[] infos = threads.getThreadInfo(ids);
+        long sum = 0;
+        for (int i = 0; i < ids.length; i++) {
+            ThreadInfo info = infos[i];
+            if (info != null && allocated[i] > 0 && !info.getThreadName().startsWith("modbus-slave-simulator")) {
+                sum += allocated[i];
+            }
+        }
+        return sum;
+    }
+}
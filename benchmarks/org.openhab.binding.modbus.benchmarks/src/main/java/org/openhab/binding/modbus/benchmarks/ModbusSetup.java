@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
+import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
+import org.openhab.binding.modbus.internal.handler.ModbusTcpThingHandler;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.io.transport.modbus.internal.ModbusManagerImpl;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ModbusSetup} creates and initializes the things and handlers of the Modbus binding without the framework.
+ * It takes the part of the thing manager: the thing status is updated, bridges are resolved, child handlers are
+ * announced to the poller and the <code>number</code> channel of each data thing is linked.
+ * <p>
+ * The callback is a Mockito mock created with <code>stubOnly()</code>, so invocations are not recorded.
+ *
+ * @author agent - Initial contribution
+ */
+public class ModbusSetup implements AutoCloseable {
+
+    private final ModbusManager modbusManager;
+    private final Map<ThingUID, Bridge> bridges = new ConcurrentHashMap<>();
+    private final List<BaseThingHandler> handlers = new ArrayList<>();
+    private final ThingHandlerCallback callback;
+
+    /**
+     * @param modbusManager the manager used by the endpoint things
+     * @param stateListener receives all channel updates
+     */
+    public ModbusSetup(ModbusManager modbusManager, BiConsumer<ChannelUID, State> stateListener) {
+        this.modbusManager = modbusManager;
+        callback = mock(ThingHandlerCallback.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            Thing thing = invocation.getArgument(0);
+            ThingStatusInfo statusInfo = invocation.getArgument(1);
+            thing.setStatusInfo(statusInfo);
+            return null;
+        }).when(callback).statusUpdated(any(), any());
+        when(callback.getBridge(any())).thenAnswer(invocation -> bridges.get(invocation.getArgument(0)));
+        when(callback.isChannelLinked(any()))
+                .thenAnswer(invocation -> CHANNEL_NUMBER.equals(((ChannelUID) invocation.getArgument(0)).getId()));
+        doAnswer(invocation -> {
+            stateListener.accept(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(callback).stateUpdated(any(), any());
+    }
+
+    /**
+     * Create the Modbus manager of openHAB core. It is activated like the OSGi component would be.
+     */
+    public static ModbusManager createModbusManager() throws ReflectiveOperationException {
+        ModbusManagerImpl modbusManager = new ModbusManagerImpl();
+        Method activate = ModbusManagerImpl.class.getDeclaredMethod("activate", Map.class);
+        activate.setAccessible(true);
+        activate.invoke(modbusManager, new HashMap<String, Object>());
+        return modbusManager;
+    }
+
+    /**
+     * Deactivate a Modbus manager created with {@link #createModbusManager()}.
+     */
+    public static void deactivate(ModbusManager modbusManager) throws ReflectiveOperationException {
+        Method deactivate = ModbusManagerImpl.class.getDeclaredMethod("deactivate");
+        deactivate.setAccessible(true);
+        deactivate.invoke(modbusManager);
+    }
+
+    /**
+     * Add a <code>tcp</code> thing. The connection is kept open, and there is no delay between transactions.
+     *
+     * @param mergeReads whether the regular polls of the pollers are merged
+     */
+    public Bridge addTcp(String id, String host, int port, boolean mergeReads) {
+        Configuration configuration = new Configuration();
+        configuration.put("host", host);
+        configuration.put("port", port);
+        configuration.put("id", 1);
+        configuration.put("timeBetweenTransactionsMillis", 0);
+        configuration.put("reconnectAfterMillis", 600_000);
+        configuration.put("mergeReads", mergeReads);
+        Bridge bridge = BridgeBuilder.create(THING_TYPE_MODBUS_TCP, new ThingUID(THING_TYPE_MODBUS_TCP, id))
+                .withConfiguration(configuration).build();
+        initialize(bridge, new ModbusTcpThingHandler(bridge, modbusManager));
+        bridges.put(bridge.getUID(), bridge);
+        return bridge;
+    }
+
+    /**
+     * Add a <code>poller</code> thing.
+     *
+     * @param refresh the poll period in ms, polling is disabled with 0
+     */
+    public Bridge addPoller(Bridge endpoint, String id, String type, int start, int length, long refresh) {
+        Configuration configuration = new Configuration();
+        configuration.put("type", type);
+        configuration.put("start", start);
+        configuration.put("length", length);
+        configuration.put("refresh", refresh);
+        configuration.put("cacheMillis", 0);
+        Bridge bridge = BridgeBuilder
+                .create(THING_TYPE_MODBUS_POLLER, new ThingUID(THING_TYPE_MODBUS_POLLER, endpoint.getUID(), id))
+                .withBridge(endpoint.getUID()).withConfiguration(configuration).build();
+        initialize(bridge, new ModbusPollerThingHandler(bridge));
+        bridges.put(bridge.getUID(), bridge);
+        return bridge;
+    }
+
+    /**
+     * Add a read only <code>data</code> thing to a poller.
+     */
+    public Thing addData(Bridge poller, String id, int readStart, String readValueType) {
+        Configuration configuration = new Configuration();
+        configuration.put("readStart", String.valueOf(readStart));
+        configuration.put("readValueType", readValueType);
+        configuration.put("readTransform", List.of("default"));
+        Thing thing = ThingBuilder
+                .create(THING_TYPE_MODBUS_DATA, new ThingUID(THING_TYPE_MODBUS_DATA, poller.getUID(), id))
+                .withBridge(poller.getUID()).withConfiguration(configuration).build();
+        ModbusDataThingHandler handler = new ModbusDataThingHandler(thing);
+        initialize(thing, handler);
+        ThingHandler pollerHandler = poller.getHandler();
+        if (pollerHandler != null) {
+            pollerHandler.childHandlerInitialized(handler, thing);
+        }
+        return thing;
+    }
+
+    public ModbusDataThingHandler getDataHandler(Thing thing) {
+        return (ModbusDataThingHandler) thing.getHandler();
+    }
+
+    private void initialize(Thing thing, BaseThingHandler handler) {
+        thing.setHandler(handler);
+        handler.setCallback(callback);
+        handler.initialize();
+        if (thing.getStatus() != ThingStatus.ONLINE) {
+            throw new IllegalStateException(
+                    "Thing " + thing.getUID() + " is " + thing.getStatus() + ": " + thing.getStatusInfo());
+        }
+        handlers.add(handler);
+    }
+
+    @Override
+    public void close() {
+        List<BaseThingHandler> reversed = new ArrayList<>(handlers);
+        Collections.reverse(reversed);
+        reversed.forEach(ThingHandler::dispose);
+        handlers.clear();
+        bridges.clear();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link ModbusSlaveSimulator} is a minimal in-process Modbus TCP slave. It answers the read function codes 1 to 4
+ * and the write function codes 5, 6, 15 and 16 for any unit id. The register contents are set by the benchmark, which
+ * allows scripting changes and measuring how long it takes until they are seen by the binding.
+ *
+ * @author agent - Initial contribution
+ */
+public class ModbusSlaveSimulator implements AutoCloseable {
+
+    private static final int ADDRESSES = 65536;
+    private static final int ILLEGAL_FUNCTION = 1;
+    private static final int ILLEGAL_DATA_ADDRESS = 2;
+
+    private final AtomicIntegerArray coils = new AtomicIntegerArray(ADDRESSES);
+    private final AtomicIntegerArray discreteInputs = new AtomicIntegerArray(ADDRESSES);
+    private final AtomicIntegerArray holdingRegisters = new AtomicIntegerArray(ADDRESSES);
+    private final AtomicIntegerArray inputRegisters = new AtomicIntegerArray(ADDRESSES);
+
+    private final AtomicLong readRequests = new AtomicLong();
+    private final AtomicLong writeRequests = new AtomicLong();
+
+    private final ServerSocket serverSocket;
+    private final List<Socket> connections = new CopyOnWriteArrayList<>();
+    private final Thread acceptThread;
+
+    /**
+     * Start a slave listening on a free port of the loopback interface.
+     */
+    public ModbusSlaveSimulator() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptThread = new Thread(this::accept, "modbus-slave-simulator-" + getPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void setHoldingRegister(int address, int value) {
+        holdingRegisters.set(address, value & 0xffff);
+    }
+
+    public int getHoldingRegister(int address) {
+        return holdingRegisters.get(address);
+    }
+
+    public void setInputRegister(int address, int value) {
+        inputRegisters.set(address, value & 0xffff);
+    }
+
+    public void setCoil(int address, boolean value) {
+        coils.set(address, value ? 1 : 0);
+    }
+
+    public void setDiscreteInput(int address, boolean value) {
+        discreteInputs.set(address, value ? 1 : 0);
+    }
+
+    /**
+     * @return the number of read requests answered since the start
+     */
+    public long getReadRequests() {
+        return readRequests.get();
+    }
+
+    /**
+     * @return the number of write requests answered since the start
+     */
+    public long getWriteRequests() {
+        return writeRequests.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connection.setTcpNoDelay(true);
+                connections.add(connection);
+                Thread thread = new Thread(() -> serve(connection), "modbus-slave-simulator-" + getPort() + "-"
+                        + connection.getPort());
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection;
+                DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+            while (true) {
+                int transactionId = in.readUnsignedShort();
+                int protocolId = in.readUnsignedShort();
+                int length = in.readUnsignedShort();
+                int unitId = in.readUnsignedByte();
+                byte[] pdu = new byte[length - 1];
+                in.readFully(pdu);
+
+                byte[] response = handle(pdu);
+                out.writeShort(transactionId);
+                out.writeShort(protocolId);
+                out.writeShort(response.length + 1);
+                out.writeByte(unitId);
+                out.write(response);
+                out.flush();
+            }
+        } catch (EOFException | SocketException e) {
+            // connection closed by the master or the simulator
+        } catch (IOException e) {
+            System.err.println("Modbus slave simulator connection failed: " + e.getMessage());
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private byte[] handle(byte[] pdu) {
+        int functionCode = pdu[0] & 0xff;
+        int address = readShort(pdu, 1);
+        int quantity = readShort(pdu, 3);
+        switch (functionCode) {
+            case 1:
+                return readBits(functionCode, coils, address, quantity);
+            case 2:
+                return readBits(functionCode, discreteInputs, address, quantity);
+            case 3:
+                return readRegisters(functionCode, holdingRegisters, address, quantity);
+            case 4:
+                return readRegisters(functionCode, inputRegisters, address, quantity);
+            case 5:
+                writeRequests.incrementAndGet();
+                coils.set(address, quantity == 0xff00 ? 1 : 0);
+                return pdu;
+            case 6:
+                writeRequests.incrementAndGet();
+                holdingRegisters.set(address, quantity);
+                return pdu;
+            case 15:
+                if (address + quantity > ADDRESSES) {
+                    return error(functionCode, ILLEGAL_DATA_ADDRESS);
+                }
+                writeRequests.incrementAndGet();
+                for (int i = 0; i < quantity; i++) {
+                    coils.set(address + i, (pdu[6 + i / 8] >> (i % 8)) & 1);
+                }
+                return new byte[] { pdu[0], pdu[1], pdu[2], pdu[3], pdu[4] };
+            case 16:
+                if (address + quantity > ADDRESSES) {
+                    return error(functionCode, ILLEGAL_DATA_ADDRESS);
+                }
+                writeRequests.incrementAndGet();
+                for (int i = 0; i < quantity; i++) {
+                    holdingRegisters.set(address + i, readShort(pdu, 6 + i * 2));
+                }
+                return new byte[] { pdu[0], pdu[1], pdu[2], pdu[3], pdu[4] };
+            default:
+                return error(functionCode, ILLEGAL_FUNCTION);
+        }
+    }
+
+    private byte[] readBits(int functionCode, AtomicIntegerArray bits, int address, int quantity) {
+        if (quantity < 1 || quantity > 2000 || address + quantity > ADDRESSES) {
+            return error(functionCode, ILLEGAL_DATA_ADDRESS);
+        }
+        readRequests.incrementAndGet();
+        int byteCount = (quantity + 7) / 8;
+        byte[] response = new byte[2 + byteCount];
+        response[0] = (byte) functionCode;
+        response[1] = (byte) byteCount;
+        for (int i = 0; i < quantity; i++) {
+            if (bits.get(address + i) != 0) {
+                response[2 + i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        return response;
+    }
+
+    private byte[] readRegisters(int functionCode, AtomicIntegerArray registers, int address, int quantity) {
+        if (quantity < 1 || quantity > 125 || address + quantity > ADDRESSES) {
+            return error(functionCode, ILLEGAL_DATA_ADDRESS);
+        }
+        readRequests.incrementAndGet();
+        byte[] response = new byte[2 + quantity * 2];
+        response[0] = (byte) functionCode;
+        response[1] = (byte) (quantity * 2);
+        for (int i = 0; i < quantity; i++) {
+            int value = registers.get(address + i);
+            response[2 + i * 2] = (byte) (value >> 8);
+            response[3 + i * 2] = (byte) value;
+        }
+        return response;
+    }
+
+    private static byte[] error(int functionCode, int exceptionCode) {
+        return new byte[] { (byte) (functionCode | 0x80), (byte) exceptionCode };
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return offset + 1 < bytes.length ? ((bytes[offset] & 0xff) << 8) | (bytes[offset + 1] & 0xff) : 0;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.transform.TransformationException;
+import org.openhab.transform.bin2json.internal.Bin2JsonTransformationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link Bin2JsonTransformationBenchmark} measures the BIN2JSON transformation. This transformation has no
+ * profile.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Bin2JsonTransformationBenchmark {
+
+    private static final String SYNTAX = "ubyte header; int length; ubyte[_] data;";
+
+    @Param({ "16", "256", "4096" })
+    public int dataSize;
+
+    private final String[] payloads = new String[Payloads.VARIANTS];
+    private int index;
+
+    private Bin2JsonTransformationService service;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < Payloads.VARIANTS; i++) {
+            byte[] data = new byte[5 + dataSize];
+            data[0] = (byte) i;
+            data[1] = (byte) (dataSize >> 24);
+            data[2] = (byte) (dataSize >> 16);
+            data[3] = (byte) (dataSize >> 8);
+            data[4] = (byte) dataSize;
+            for (int j = 5; j < data.length; j++) {
+                data[j] = (byte) (i + j);
+            }
+            payloads[i] = HexFormat.of().withUpperCase().formatHex(data);
+        }
+        service = new Bin2JsonTransformationService();
+    }
+
+    @Benchmark
+    public String transform() throws TransformationException {
+        index = (index + 1) % Payloads.VARIANTS;
+        return service.transform(SYNTAX, payloads[index]);
+    }
+}
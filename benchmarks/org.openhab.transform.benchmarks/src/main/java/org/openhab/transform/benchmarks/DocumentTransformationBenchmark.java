@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.profiles.StateProfile;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link DocumentTransformationBenchmark} is the base of the benchmarks of transformations that extract a value
+ * from a JSON or XML document. The subclasses provide the service, the profile, the expression and the payloads; JMH
+ * runs the benchmarks of this class for each subclass.
+ *
+ * @param <S> the type of the transformation service
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public abstract class DocumentTransformationBenchmark<S extends TransformationService> {
+
+    @Param({ "1024", "65536", "1048576" })
+    public int payloadSize;
+
+    private final String[] payloads = new String[Payloads.VARIANTS];
+    private final StringType[] states = new StringType[Payloads.VARIANTS];
+    private int index;
+
+    private S service;
+    private StateProfile profile;
+
+    /**
+     * @return the expression extracting the temperature of the first device
+     */
+    protected abstract String expression();
+
+    /**
+     * @return a payload created by {@link Payloads}
+     */
+    protected abstract String payload(int size, int variant);
+
+    protected abstract S createService() throws Exception;
+
+    protected abstract StateProfile createProfile(S service);
+
+    @Setup
+    public void setup() throws Exception {
+        for (int i = 0; i < Payloads.VARIANTS; i++) {
+            payloads[i] = payload(payloadSize, i);
+            states[i] = new StringType(payloads[i]);
+        }
+        service = createService();
+        profile = createProfile(service);
+    }
+
+    /**
+     * Several channels extracting values from the same payload.
+     */
+    @Benchmark
+    public String transformSamePayload() throws TransformationException {
+        return service.transform(expression(), payloads[0]);
+    }
+
+    /**
+     * Every transformation receives a new payload.
+     */
+    @Benchmark
+    public String transformNewPayload() throws TransformationException {
+        index = (index + 1) % Payloads.VARIANTS;
+        return service.transform(expression(), payloads[index]);
+    }
+
+    @Benchmark
+    public void profileNewPayload() {
+        index = (index + 1) % Payloads.VARIANTS;
+        profile.onStateUpdateFromHandler(states[index]);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import org.openhab.core.thing.profiles.StateProfile;
+import org.openhab.transform.jsonpath.internal.JSonPathTransformationService;
+import org.openhab.transform.jsonpath.internal.profiles.JSonPathTransformationProfile;
+
+/**
+ * The {@link JSonPathTransformationBenchmark} measures the JSONPATH transformation and profile.
+ *
+ * @author agent - Initial contribution
+ */
+public class JSonPathTransformationBenchmark extends DocumentTransformationBenchmark<JSonPathTransformationService> {
+
+    private static final String EXPRESSION = "$.devices[0].status.temperature";
+
+    @Override
+    protected String expression() {
+        return EXPRESSION;
+    }
+
+    @Override
+    protected String payload(int size, int variant) {
+        return Payloads.json(size, variant);
+    }
+
+    @Override
+    protected JSonPathTransformationService createService() {
+        return new JSonPathTransformationService();
+    }
+
+    @Override
+    protected StateProfile createProfile(JSonPathTransformationService service) {
+        return new JSonPathTransformationProfile(Profiles.callback(), Profiles.context(EXPRESSION), service);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import org.openhab.core.thing.profiles.StateProfile;
+import org.openhab.transform.jinja.internal.JinjaTransformationService;
+import org.openhab.transform.jinja.internal.profiles.JinjaTransformationProfile;
+
+/**
+ * The {@link JinjaTransformationBenchmark} measures the JINJA transformation and profile.
+ *
+ * @author agent - Initial contribution
+ */
+public class JinjaTransformationBenchmark extends DocumentTransformationBenchmark<JinjaTransformationService> {
+
+    private static final String EXPRESSION = "{{ value_json.devices[0].status.temperature }}";
+
+    @Override
+    protected String expression() {
+        return EXPRESSION;
+    }
+
+    @Override
+    protected String payload(int size, int variant) {
+        return Payloads.json(size, variant);
+    }
+
+    @Override
+    protected JinjaTransformationService createService() {
+        return new JinjaTransformationService();
+    }
+
+    @Override
+    protected StateProfile createProfile(JinjaTransformationService service) {
+        return new JinjaTransformationProfile(Profiles.callback(), Profiles.context(EXPRESSION), service);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
+import org.openhab.transform.map.internal.MapTransformationService;
+import org.openhab.transform.map.internal.profiles.MapTransformationProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link MapTransformationBenchmark} measures the MAP transformation and profile with an inline map.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapTransformationBenchmark {
+
+    private static final String FUNCTION = "|ON=1;OFF=0;OPEN=1;CLOSED=0;UNDEF=-;NULL=-;=_source_";
+    private static final String[] SOURCES = { "ON", "OFF", "OPEN", "CLOSED", "UNDEF", "NULL", "other" };
+
+    private final StringType[] states = new StringType[SOURCES.length];
+    private int index;
+
+    private MapTransformationService service;
+    private MapTransformationProfile profile;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SOURCES.length; i++) {
+            states[i] = new StringType(SOURCES[i]);
+        }
+        service = new MapTransformationService(mock(TransformationRegistry.class, withSettings().stubOnly()));
+        profile = new MapTransformationProfile(Profiles.callback(), Profiles.context(FUNCTION), service);
+    }
+
+    @Benchmark
+    public String transform() throws TransformationException {
+        index = (index + 1) % SOURCES.length;
+        return service.transform(FUNCTION, SOURCES[index]);
+    }
+
+    @Benchmark
+    public void profile() {
+        index = (index + 1) % SOURCES.length;
+        profile.onStateUpdateFromHandler(states[index]);
+    }
+}
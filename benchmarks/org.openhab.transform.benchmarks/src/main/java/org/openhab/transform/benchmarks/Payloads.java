@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import java.util.Locale;
+
+/**
+ * The {@link Payloads} class creates JSON and XML payloads of a given size that resemble the responses of devices
+ * polled by bindings.
+ *
+ * @author agent - Initial contribution
+ */
+public final class Payloads {
+
+    /**
+     * Number of different payloads created by the benchmarks. It is larger than the document caches of the
+     * transformations, so rotating through them always measures a full parse.
+     */
+    public static final int VARIANTS = 32;
+
+    private Payloads() {
+        // prevent instantiation
+    }
+
+    /**
+     * Create a JSON payload of approximately the given size. The first device always reports
+     * <code>$.devices[0].status.temperature</code> as <code>21.5 + variant</code>.
+     *
+     * @param size the size in bytes
+     * @param variant number to make the payload unique
+     * @return the payload
+     */
+    public static String json(int size, int variant) {
+        StringBuilder sb = new StringBuilder(size + 256);
+        sb.append("{\"variant\":").append(variant).append(",\"devices\":[");
+        int i = 0;
+        do {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(String.format(Locale.ROOT, "{\"id\":%d,\"name\":\"device-%d\",\"online\":true,"
+                    + "\"status\":{\"temperature\":%.1f,\"humidity\":%d,\"battery\":%d}}", i, i,
+                    21.5 + (i == 0 ? variant : i % 10), 40 + i % 50, 100 - i % 100));
+            i++;
+        } while (sb.length() < size);
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    /**
+     * Create an XML payload of approximately the given size. The first device always reports
+     * <code>/devices/device[1]/status/temperature</code> as <code>21.5 + variant</code>.
+     *
+     * @param size the size in bytes
+     * @param variant number to make the payload unique
+     * @return the payload
+     */
+    public static String xml(int size, int variant) {
+        StringBuilder sb = new StringBuilder(size + 256);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><devices variant=\"").append(variant).append("\">");
+        int i = 0;
+        do {
+            sb.append(String.format(Locale.ROOT, "<device id=\"%d\"><name>device-%d</name><online>true</online>"
+                    + "<status><temperature>%.1f</temperature><humidity>%d</humidity><battery>%d</battery></status>"
+                    + "</device>", i, i, 21.5 + (i == 0 ? variant : i % 10), 40 + i % 50, 100 - i % 100));
+            i++;
+        } while (sb.length() < size);
+        sb.append("</devices>");
+        return sb.toString();
+    }
+}
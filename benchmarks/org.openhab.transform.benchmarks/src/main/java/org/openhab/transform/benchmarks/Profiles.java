@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.thing.profiles.ProfileCallback;
+import org.openhab.core.thing.profiles.ProfileContext;
+
+/**
+ * The {@link Profiles} class provides the context and callback for benchmarking transformation profiles.
+ * <p>
+ * The mocks are created with <code>stubOnly()</code>, so invocations are not recorded and do not distort the
+ * allocation rate.
+ *
+ * @author agent - Initial contribution
+ */
+public final class Profiles {
+
+    private Profiles() {
+        // prevent instantiation
+    }
+
+    public static ProfileContext context(String function) {
+        ProfileContext context = mock(ProfileContext.class, withSettings().stubOnly());
+        when(context.getConfiguration())
+                .thenReturn(new Configuration(Map.of("function", function, "sourceFormat", "%s")));
+        return context;
+    }
+
+    public static ProfileCallback callback() {
+        return mock(ProfileCallback.class, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.transform.regex.internal.RegExTransformationService;
+import org.openhab.transform.regex.internal.profiles.RegexTransformationProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link RegExTransformationBenchmark} measures the REGEX transformation and profile with lines as they are
+ * received from serial or TCP line protocols.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RegExTransformationBenchmark {
+
+    private static final String MATCH_EXPRESSION = "OP:(.*?),ARG:.*";
+    private static final String SUBSTITUTION_EXPRESSION = "s/^OP:(.*?),ARG:(.*)$/$1($2)/";
+
+    private final String[] lines = new String[Payloads.VARIANTS];
+    private final StringType[] states = new StringType[Payloads.VARIANTS];
+    private int index;
+
+    private RegExTransformationService service;
+    private RegexTransformationProfile profile;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < Payloads.VARIANTS; i++) {
+            lines[i] = "OP:SetMode" + i + ",ARG:" + (42 + i);
+            states[i] = new StringType(lines[i]);
+        }
+        service = new RegExTransformationService();
+        profile = new RegexTransformationProfile(Profiles.callback(), Profiles.context(MATCH_EXPRESSION), service);
+    }
+
+    @Benchmark
+    public String transformMatch() throws TransformationException {
+        index = (index + 1) % Payloads.VARIANTS;
+        return service.transform(MATCH_EXPRESSION, lines[index]);
+    }
+
+    @Benchmark
+    public String transformSubstitution() throws TransformationException {
+        index = (index + 1) % Payloads.VARIANTS;
+        return service.transform(SUBSTITUTION_EXPRESSION, lines[index]);
+    }
+
+    @Benchmark
+    public void profileMatch() {
+        index = (index + 1) % Payloads.VARIANTS;
+        profile.onStateUpdateFromHandler(states[index]);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.transform.Transformation;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
+import org.openhab.transform.scale.internal.ScaleTransformationService;
+import org.openhab.transform.scale.internal.profiles.ScaleTransformationProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ScaleTransformationBenchmark} measures the SCALE transformation and profile. The configuration is
+ * provided by a mocked {@link TransformationRegistry}, its lookup is part of the measurement.
+ *
+ * @author agent - Initial contribution
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScaleTransformationBenchmark {
+
+    private static final String FUNCTION = "benchmark.scale";
+    private static final String CONFIGURATION = """
+            [,10[=cold
+            [10,18[=cool
+            [18,24[=comfortable
+            [24,30[=warm
+            [30,]=hot
+            NaN=unknown
+            format=%label% (%value%)
+            """;
+    private static final String[] SOURCES = { "-5", "12.5", "21.3", "26", "35.7", "20 °C", "n/a" };
+
+    private final DecimalType[] states = new DecimalType[SOURCES.length];
+    private int index;
+
+    private ScaleTransformationService service;
+    private ScaleTransformationProfile profile;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new DecimalType(i * 7);
+        }
+        TransformationRegistry registry = mock(TransformationRegistry.class, withSettings().stubOnly());
+        when(registry.get(eq(FUNCTION), any())).thenReturn(
+                new Transformation(FUNCTION, FUNCTION, "scale", Map.of(Transformation.FUNCTION, CONFIGURATION)));
+        service = new ScaleTransformationService(registry);
+        profile = new ScaleTransformationProfile(Profiles.callback(), Profiles.context(FUNCTION), service);
+    }
+
+    @Benchmark
+    public String transform() throws TransformationException {
+        index = (index + 1) % SOURCES.length;
+        return service.transform(FUNCTION, SOURCES[index]);
+    }
+
+    @Benchmark
+    public void profile() {
+        index = (index + 1) % states.length;
+        profile.onStateUpdateFromHandler(states[index]);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import org.openhab.core.thing.profiles.StateProfile;
+import org.openhab.transform.xpath.internal.XPathTransformationService;
+import org.openhab.transform.xpath.internal.profiles.XPathTransformationProfile;
+
+/**
+ * The {@link XPathTransformationBenchmark} measures the XPATH transformation and profile.
+ *
+ * @author agent - Initial contribution
+ */
+public class XPathTransformationBenchmark extends DocumentTransformationBenchmark<XPathTransformationService> {
+
+    private static final String EXPRESSION = "/devices/device[1]/status/temperature";
+
+    @Override
+    protected String expression() {
+        return EXPRESSION;
+    }
+
+    @Override
+    protected String payload(int size, int variant) {
+        return Payloads.xml(size, variant);
+    }
+
+    @Override
+    protected XPathTransformationService createService() {
+        return new XPathTransformationService();
+    }
+
+    @Override
+    protected StateProfile createProfile(XPathTransformationService service) {
+        return new XPathTransformationProfile(Profiles.callback(), Profiles.context(EXPRESSION), service);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.benchmarks;
+
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
+import org.openhab.core.thing.profiles.StateProfile;
+import org.openhab.core.transform.TransformationService;
+import org.openhab.transform.xslt.internal.XsltTransformationService;
+import org.openhab.transform.xslt.internal.profiles.XSLTTransformationProfile;
+
+/**
+ * The {@link XsltTransformationBenchmark} measures the XSLT transformation and profile. The stylesheet is written to
+ * a temporary configuration folder.
+ *
+ * @author agent - Initial contribution
+ */
+public class XsltTransformationBenchmark extends DocumentTransformationBenchmark<XsltTransformationService> {
+
+    private static final String EXPRESSION = "benchmark.xsl";
+
+    private static final String STYLESHEET = """
+            <?xml version="1.0"?>
+            <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                <xsl:output method="text" encoding="UTF-8"/>
+                <xsl:template match="/">
+                    <xsl:value-of select="/devices/device[1]/status/temperature"/>
+                </xsl:template>
+            </xsl:stylesheet>
+            """;
+
+    @Override
+    protected String expression() {
+        return EXPRESSION;
+    }
+
+    @Override
+    protected String payload(int size, int variant) {
+        return Payloads.xml(size, variant);
+    }
+
+    @Override
+    protected XsltTransformationService createService() throws Exception {
+        Path configFolder = Files.createTempDirectory("openhab-benchmark");
+        Path transformFolder = configFolder.resolve(TransformationService.TRANSFORM_FOLDER_NAME);
+        Files.createDirectories(transformFolder);
+        Files.writeString(transformFolder.resolve(EXPRESSION), STYLESHEET);
+        System.setProperty(OpenHAB.CONFIG_DIR_PROG_ARGUMENT, configFolder.toString());
+        WatchService watchService = mock(WatchService.class, withSettings().stubOnly());
+        when(watchService.getWatchPath()).thenReturn(configFolder);
+        return new XsltTransformationService(watchService);
+    }
+
+    @Override
+    protected StateProfile createProfile(XsltTransformationService service) {
+        return new XSLTTransformationProfile(Profiles.callback(), Profiles.context(EXPRESSION), service);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.AbstractBluetoothBridgeHandler;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
 import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.BluetoothCharacteristic;
@@ -47,8 +48,11 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
     private final AtomicReference<@Nullable BluetoothDevice> currentDelegateRef = new AtomicReference<>();
 
+    private final RoamingBridgeHandler roamingAdapter;
+
     protected RoamingBluetoothDevice(RoamingBridgeHandler roamingAdapter, BluetoothAddress address) {
         super(roamingAdapter, address);
+        this.roamingAdapter = roamingAdapter;
     }
 
     public void addBluetoothDevice(BluetoothDevice device) {
@@ -67,6 +71,17 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
         return eventListeners;
     }
 
+    @Override
+    protected void listenerAdded(BluetoothDeviceListener listener) {
+        // the new listener should get the next scan record of any adapter, even if it has nothing new
+        roamingAdapter.getAdvertisementFilter().forget(getAddress());
+        for (BluetoothDevice device : devices.keySet()) {
+            if (device.getAdapter() instanceof AbstractBluetoothBridgeHandler<?> bridge) {
+                bridge.getAdvertisementFilter().forget(getAddress());
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
     protected @Nullable BluetoothDevice getDelegate() {
@@ -115,7 +130,9 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
         @Override
         public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
-            if (device == getDelegate()) {
+            // the adapters filter their notifications on their own, but the delegate may change between them
+            if (device == getDelegate()
+                    && roamingAdapter.getAdvertisementFilter().accept(getAddress(), scanNotification)) {
                 notifyListeners(BluetoothEventType.SCAN_RECORD, scanNotification);
             }
         }
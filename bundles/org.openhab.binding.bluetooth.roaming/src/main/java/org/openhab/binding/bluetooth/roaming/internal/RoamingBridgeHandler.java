@@ -17,12 +17,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BaseBluetoothBridgeHandlerConfiguration;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
 import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothAdvertisementFilter;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
 import org.openhab.core.thing.Bridge;
@@ -33,6 +37,8 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.types.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RoamingBridgeHandler} is responsible for handling commands, which are
@@ -43,6 +49,10 @@ import org.openhab.core.types.Command;
 @NonNullByDefault
 public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBluetoothAdapter {
 
+    private static final int STATISTICS_INTERVAL_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(RoamingBridgeHandler.class);
+
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
 
     /*
@@ -52,6 +62,11 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
     private Map<BluetoothAddress, RoamingBluetoothDevice> devices = new HashMap<>();
     private ThingUID[] groupUIDs = new ThingUID[0];
 
+    // Filters the scan notifications passed on by the roaming devices
+    private final BluetoothAdvertisementFilter advertisementFilter = new BluetoothAdvertisementFilter();
+
+    private @Nullable ScheduledFuture<?> statisticsJob;
+
     public RoamingBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -66,6 +81,14 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
             groupUIDs = Stream.of(groupIds.split(",")).map(ThingUID::new).toArray(ThingUID[]::new);
         }
 
+        BaseBluetoothBridgeHandlerConfiguration config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementFilter.configure(config.advertisementFilter, config.advertisementInterval,
+                config.rssiUpdateInterval);
+        statisticsJob = scheduler.scheduleWithFixedDelay(
+                () -> logger.debug("Advertisements received: {}, forwarded: {}", advertisementFilter.getReceived(),
+                        advertisementFilter.getForwarded()),
+                STATISTICS_INTERVAL_SECONDS, STATISTICS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
         if (adapters.stream().map(BluetoothAdapter::getUID).anyMatch(this::isGroupMember)) {
             updateStatus(ThingStatus.ONLINE);
         } else {
@@ -85,10 +108,23 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
 
     @Override
     public void dispose() {
-        // nothing that needs to be done here.
+        ScheduledFuture<?> statisticsJob = this.statisticsJob;
+        if (statisticsJob != null) {
+            statisticsJob.cancel(true);
+        }
+        this.statisticsJob = null;
         // Listener cleanup will be performed by the discovery participant anyway.
     }
 
+    /**
+     * Returns the filter for the scan notifications passed on by the roaming devices
+     *
+     * @return the {@link BluetoothAdvertisementFilter} of this bridge
+     */
+    public BluetoothAdvertisementFilter getAdvertisementFilter() {
+        return advertisementFilter;
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
@@ -59,6 +59,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
 
+    // Filters the scan notifications of the devices of this bridge
+    private final BluetoothAdvertisementFilter advertisementFilter = new BluetoothAdvertisementFilter();
+
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
     /**
@@ -88,6 +91,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        advertisementFilter.configure(config.advertisementFilter, config.advertisementInterval,
+                config.rssiUpdateInterval);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -113,7 +118,18 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    /**
+     * Returns the filter for the scan notifications of the devices of this bridge
+     *
+     * @return the {@link BluetoothAdvertisementFilter} of this bridge
+     */
+    public BluetoothAdvertisementFilter getAdvertisementFilter() {
+        return advertisementFilter;
+    }
+
     private void removeInactiveDevices() {
+        logger.debug("Advertisements received: {}, forwarded: {}", advertisementFilter.getReceived(),
+                advertisementFilter.getForwarded());
         // clean up orphaned entries
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -130,6 +146,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         synchronized (devices) {
             devices.remove(device.getAddress());
         }
+        advertisementFilter.forget(device.getAddress());
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -173,7 +190,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
         synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
+            devices.values().forEach(device -> deviceDiscovered(device, true));
         }
     }
 
@@ -211,11 +228,19 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     public void deviceDiscovered(BluetoothDevice device) {
+        deviceDiscovered(device, false);
+    }
+
+    private void deviceDiscovered(BluetoothDevice device, boolean refresh) {
         if (hasHandlerForDevice(device.getAddress())) {
             // no point in discovering a device that already has a handler
             return;
         }
         if (config.backgroundDiscovery || activeScanEnabled) {
+            if (!refresh && !advertisementFilter.acceptDiscovery(device.getAddress())) {
+                // the device has been passed on to the discovery listeners recently
+                return;
+            }
             if (deviceReachable(device)) {
                 discoveryListeners.forEach(listener -> listener.deviceDiscovered(device));
             } else {
@@ -26,4 +26,7 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public boolean advertisementFilter = false;
+    public int advertisementInterval = 0;
+    public int rssiUpdateInterval = 10000;
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -307,6 +308,14 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         return true;
     }
 
+    @Override
+    protected void listenerAdded(BluetoothDeviceListener listener) {
+        if (adapter instanceof AbstractBluetoothBridgeHandler<?> bridge) {
+            // the new listener should get the next scan record, even if it has nothing new
+            bridge.getAdvertisementFilter().forget(address);
+        }
+    }
+
     @Override
     protected void notifyListeners(BluetoothEventType event, Object... args) {
         switch (event) {
@@ -337,6 +346,13 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
                     deviceLock.unlock();
                 }
                 break;
+            case SCAN_RECORD:
+                if (adapter instanceof AbstractBluetoothBridgeHandler<?> bridge
+                        && !bridge.getAdvertisementFilter().accept(address, (BluetoothScanNotification) args[0])) {
+                    // nothing new since the last scan record passed on to the listeners
+                    return;
+                }
+                break;
             default:
                 break;
         }
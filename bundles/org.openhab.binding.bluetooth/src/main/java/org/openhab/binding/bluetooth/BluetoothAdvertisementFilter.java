@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link BluetoothAdvertisementFilter} decides which scan notifications received by an adapter are passed on to
+ * the listeners of its devices. Beacons advertise several times per second, mostly with unchanged data, and every
+ * notification passed on ends up in the channel updates of a handler.
+ * <ul>
+ * <li>Notifications without new manufacturer data, service data, name or RSSI are dropped.</li>
+ * <li>New data of a device is passed on at most once per advertisement interval.</li>
+ * <li>RSSI changes without new data are passed on at most once per RSSI update interval.</li>
+ * </ul>
+ * A dropped notification is not remembered, so the next notification after the interval carries the latest data.
+ * Listeners may rely on regular notifications of a device, e.g. to see that it is still in range, so a notification
+ * is passed on if nothing has been passed on for the keepalive interval, even if it has nothing new. The state of a
+ * device is forgotten when a listener is added to it, so a new listener gets the current data right away.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilter {
+
+    /*
+     * Maximum time in nanoseconds between two notifications of a device which are passed on
+     */
+    static final long KEEPALIVE_INTERVAL = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<BluetoothAddress, AdvertisementState> states = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder forwarded = new LongAdder();
+
+    private volatile boolean enabled = false;
+    private volatile long advertisementIntervalNanos = 0;
+    private volatile long rssiUpdateIntervalNanos = 0;
+
+    /**
+     * Configures the filter, the state of the known devices is kept.
+     *
+     * @param enabled whether notifications are filtered at all
+     * @param advertisementInterval the minimum time in milliseconds between two notifications with new data of a device
+     * @param rssiUpdateInterval the minimum time in milliseconds between two notifications with only a new RSSI
+     */
+    public void configure(boolean enabled, long advertisementInterval, long rssiUpdateInterval) {
+        this.advertisementIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, advertisementInterval));
+        this.rssiUpdateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, rssiUpdateInterval));
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether a scan notification of a device is passed on to the listeners of the device.
+     *
+     * @param address the address of the device
+     * @param notification the received {@link BluetoothScanNotification}
+     * @return true if the notification should be passed on
+     */
+    public boolean accept(BluetoothAddress address, BluetoothScanNotification notification) {
+        return accept(address, notification, System.nanoTime());
+    }
+
+    boolean accept(BluetoothAddress address, BluetoothScanNotification notification, long now) {
+        received.increment();
+        if (enabled) {
+            AdvertisementState state = getState(address);
+            synchronized (state) {
+                if (!state.accept(notification, now, advertisementIntervalNanos, rssiUpdateIntervalNanos)) {
+                    return false;
+                }
+            }
+        }
+        forwarded.increment();
+        return true;
+    }
+
+    /**
+     * Checks whether a device is passed on to the discovery listeners. Discovery of a device is limited to once per
+     * advertisement interval.
+     *
+     * @param address the address of the device
+     * @return true if the device should be passed on
+     */
+    public boolean acceptDiscovery(BluetoothAddress address) {
+        return acceptDiscovery(address, System.nanoTime());
+    }
+
+    boolean acceptDiscovery(BluetoothAddress address, long now) {
+        long interval = advertisementIntervalNanos;
+        if (!enabled || interval == 0) {
+            return true;
+        }
+        AdvertisementState state = getState(address);
+        synchronized (state) {
+            if (state.discovered && now - state.lastDiscoveryTime < interval) {
+                return false;
+            }
+            state.discovered = true;
+            state.lastDiscoveryTime = now;
+            return true;
+        }
+    }
+
+    /**
+     * Removes the state of a device, e.g. when the device is removed from the adapter.
+     *
+     * @param address the address of the device
+     */
+    public void forget(BluetoothAddress address) {
+        states.remove(address);
+    }
+
+    /**
+     * @return the number of scan notifications received since the start
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * @return the number of scan notifications passed on since the start
+     */
+    public long getForwarded() {
+        return forwarded.sum();
+    }
+
+    private AdvertisementState getState(BluetoothAddress address) {
+        return Objects.requireNonNull(states.computeIfAbsent(address, addr -> new AdvertisementState()));
+    }
+
+    /**
+     * The data of a device that was last passed on. BlueZ reports each kind of data in a separate notification, so
+     * each kind is compared on its own.
+     */
+    private static class AdvertisementState {
+        private final Map<Integer, byte[]> manufacturerData = new HashMap<>();
+        private final Map<String, byte[]> serviceData = new HashMap<>();
+        private byte[] data = new byte[0];
+        private @Nullable String name;
+        private int rssi = Integer.MIN_VALUE;
+
+        private boolean dataForwarded;
+        private long lastDataTime;
+        private boolean rssiForwarded;
+        private long lastRssiTime;
+        private boolean discovered;
+        private long lastDiscoveryTime;
+        private boolean forwarded;
+        private long lastForwardTime;
+
+        boolean accept(BluetoothScanNotification notification, long now, long advertisementInterval,
+                long rssiUpdateInterval) {
+            int newRssi = notification.getRssi();
+            boolean keepalive = !forwarded || now - lastForwardTime >= KEEPALIVE_INTERVAL;
+            if (hasNewData(notification)) {
+                if (!keepalive && dataForwarded && now - lastDataTime < advertisementInterval) {
+                    return false;
+                }
+                remember(notification);
+                dataForwarded = true;
+                lastDataTime = now;
+            } else if (newRssi != Integer.MIN_VALUE && newRssi != rssi) {
+                if (!keepalive && rssiForwarded && now - lastRssiTime < rssiUpdateInterval) {
+                    return false;
+                }
+            } else if (!keepalive) {
+                return false;
+            }
+            if (newRssi != Integer.MIN_VALUE) {
+                rememberRssi(newRssi, now);
+            }
+            forwarded = true;
+            lastForwardTime = now;
+            return true;
+        }
+
+        private boolean hasNewData(BluetoothScanNotification notification) {
+            byte[] newManufacturerData = notification.getManufacturerData();
+            if (newManufacturerData.length > 0
+                    && !Arrays.equals(newManufacturerData, manufacturerData.get(companyId(newManufacturerData)))) {
+                return true;
+            }
+            for (Map.Entry<String, byte[]> entry : notification.getServiceData().entrySet()) {
+                if (!Arrays.equals(entry.getValue(), serviceData.get(entry.getKey()))) {
+                    return true;
+                }
+            }
+            byte[] newData = notification.getData();
+            if (newData.length > 0 && !Arrays.equals(newData, data)) {
+                return true;
+            }
+            String newName = notification.getDeviceName();
+            return !newName.isEmpty() && !newName.equals(name);
+        }
+
+        private void remember(BluetoothScanNotification notification) {
+            byte[] newManufacturerData = notification.getManufacturerData();
+            if (newManufacturerData.length > 0) {
+                manufacturerData.put(companyId(newManufacturerData), newManufacturerData);
+            }
+            serviceData.putAll(notification.getServiceData());
+            if (notification.getData().length > 0) {
+                data = notification.getData();
+            }
+            if (!notification.getDeviceName().isEmpty()) {
+                name = notification.getDeviceName();
+            }
+        }
+
+        private void rememberRssi(int newRssi, long now) {
+            rssi = newRssi;
+            rssiForwarded = true;
+            lastRssiTime = now;
+        }
+
+        /**
+         * The manufacturer data starts with the company identifier, least significant byte first
+         */
+        private static int companyId(byte[] manufacturerData) {
+            return manufacturerData.length < 2 ? -1 : (manufacturerData[0] & 0xff) | (manufacturerData[1] & 0xff) << 8;
+        }
+    }
+}
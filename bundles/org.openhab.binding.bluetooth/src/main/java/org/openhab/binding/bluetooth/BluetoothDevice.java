@@ -345,6 +345,15 @@ public abstract class BluetoothDevice {
      */
     public final void addListener(BluetoothDeviceListener listener) {
         getListeners().add(listener);
+        listenerAdded(listener);
+    }
+
+    /**
+     * Called after a device listener has been added
+     *
+     * @param listener the {@link BluetoothDeviceListener} which has been added
+     */
+    protected void listenerAdded(BluetoothDeviceListener listener) {
     }
 
     /**
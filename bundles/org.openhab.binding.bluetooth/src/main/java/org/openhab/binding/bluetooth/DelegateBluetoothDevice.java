@@ -168,6 +168,14 @@ public abstract class DelegateBluetoothDevice extends BluetoothDevice {
         return delegate != null ? delegate.getListeners() : Collections.emptySet();
     }
 
+    @Override
+    protected void listenerAdded(BluetoothDeviceListener listener) {
+        BluetoothDevice delegate = getDelegate();
+        if (delegate != null) {
+            delegate.listenerAdded(listener);
+        }
+    }
+
     @Override
     public @Nullable BluetoothCharacteristic getCharacteristic(UUID uuid) {
         BluetoothDevice delegate = getDelegate();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link BluetoothAdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilterTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final BluetoothAddress address = new BluetoothAddress("12:34:56:78:9A:BC");
+    private final BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter();
+
+    private static BluetoothScanNotification manufacturerData(int rssi, int... data) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        byte[] bytes = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            bytes[i] = (byte) data[i];
+        }
+        notification.setManufacturerData(bytes);
+        return notification;
+    }
+
+    private static BluetoothScanNotification rssi(int rssi) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        return notification;
+    }
+
+    @Test
+    public void testDisabledFilterForwardsEverything() {
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertEquals(2, filter.getReceived());
+        assertEquals(2, filter.getForwarded());
+    }
+
+    @Test
+    public void testIdenticalAdvertisementsAreDropped() {
+        filter.configure(true, 0, 0);
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 10 * MS));
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 2), 20 * MS));
+        assertTrue(filter.accept(address, manufacturerData(-61, 0x99, 0x04, 2), 30 * MS));
+        assertEquals(4, filter.getReceived());
+        assertEquals(3, filter.getForwarded());
+    }
+
+    @Test
+    public void testEachManufacturerIsComparedOnItsOwn() {
+        filter.configure(true, 0, 0);
+
+        assertTrue(filter.accept(address, manufacturerData(Integer.MIN_VALUE, 0x99, 0x04, 1), 0));
+        assertTrue(filter.accept(address, manufacturerData(Integer.MIN_VALUE, 0x4c, 0x00, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(Integer.MIN_VALUE, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(Integer.MIN_VALUE, 0x4c, 0x00, 1), 0));
+    }
+
+    @Test
+    public void testServiceDataAndName() {
+        filter.configure(true, 0, 0);
+
+        BluetoothScanNotification serviceData = new BluetoothScanNotification();
+        serviceData.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 1, 2 }));
+        assertTrue(filter.accept(address, serviceData, 0));
+        assertFalse(filter.accept(address, serviceData, 0));
+
+        BluetoothScanNotification name = new BluetoothScanNotification();
+        name.setDeviceName("Ruuvi 1234");
+        assertTrue(filter.accept(address, name, 0));
+        assertFalse(filter.accept(address, name, 0));
+    }
+
+    @Test
+    public void testNewDataIsRateLimited() {
+        filter.configure(true, 1000, 0);
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 2), 500 * MS));
+        // the dropped data has not been remembered
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 2), 1000 * MS));
+    }
+
+    @Test
+    public void testRssiUpdatesAreLimited() {
+        filter.configure(true, 0, 10_000);
+
+        assertTrue(filter.accept(address, rssi(-60), 0));
+        assertFalse(filter.accept(address, rssi(-61), 1000 * MS));
+        assertFalse(filter.accept(address, rssi(-62), 9000 * MS));
+        assertTrue(filter.accept(address, rssi(-63), 10_000 * MS));
+        // new data is passed on regardless of the RSSI update interval
+        assertTrue(filter.accept(address, manufacturerData(-64, 0x99, 0x04, 1), 11_000 * MS));
+    }
+
+    @Test
+    public void testDevicesAreFilteredIndependently() {
+        filter.configure(true, 0, 0);
+        BluetoothAddress other = new BluetoothAddress("12:34:56:78:9A:BD");
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertTrue(filter.accept(other, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        filter.forget(address);
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(other, manufacturerData(-60, 0x99, 0x04, 1), 0));
+    }
+
+    @Test
+    public void testUnchangedAdvertisementIsPassedOnAfterKeepaliveInterval() {
+        filter.configure(true, 0, 0);
+        long keepalive = BluetoothAdvertisementFilter.KEEPALIVE_INTERVAL;
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), keepalive - MS));
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), keepalive));
+        // the interval starts again with the last notification passed on
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 2 * keepalive - MS));
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 2 * keepalive));
+    }
+
+    @Test
+    public void testKeepaliveIntervalOverridesLongerIntervals() {
+        filter.configure(true, 300_000, 300_000);
+        long keepalive = BluetoothAdvertisementFilter.KEEPALIVE_INTERVAL;
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, rssi(-61), 1000 * MS));
+        assertTrue(filter.accept(address, rssi(-61), keepalive));
+        assertFalse(filter.accept(address, manufacturerData(-61, 0x99, 0x04, 2), keepalive + 1000 * MS));
+        assertTrue(filter.accept(address, manufacturerData(-61, 0x99, 0x04, 2), 2 * keepalive));
+    }
+
+    @Test
+    public void testForgottenDeviceGetsFirstAdvertisement() {
+        filter.configure(true, 1000, 10_000);
+
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 0));
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 10 * MS));
+        // e.g. a listener has been added to the device
+        filter.forget(address);
+        assertTrue(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 1), 20 * MS));
+        assertFalse(filter.accept(address, manufacturerData(-60, 0x99, 0x04, 2), 30 * MS));
+    }
+
+    @Test
+    public void testDiscoveryIsRateLimited() {
+        filter.configure(true, 1000, 0);
+
+        assertTrue(filter.acceptDiscovery(address, 0));
+        assertFalse(filter.acceptDiscovery(address, 500 * MS));
+        assertTrue(filter.acceptDiscovery(address, 1000 * MS));
+    }
+}
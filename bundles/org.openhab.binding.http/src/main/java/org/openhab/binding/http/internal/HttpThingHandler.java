@@ -39,6 +39,7 @@ import org.eclipse.jetty.client.util.BasicAuthentication;
 import org.eclipse.jetty.client.util.DigestAuthentication;
 import org.openhab.binding.http.internal.config.HttpChannelConfig;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HostRequestScheduler;
 import org.openhab.binding.http.internal.http.HttpAuthException;
 import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
@@ -97,11 +98,13 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
+            HostRequestScheduler hostRequestScheduler,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
             TimeZoneProvider timeZoneProvider) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
+        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler,
+                hostRequestScheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
     }
@@ -167,6 +170,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
         rateLimitedHttpClient.setDelay(config.delay);
+        rateLimitedHttpClient.setMaxConcurrentRequests(Math.max(0, config.maxConcurrentRequests));
 
         // remove empty headers
         config.headers.removeIf(String::isBlank);
@@ -396,7 +400,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                             logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                         }
 
-                        request.send(new HttpResponseListener(responseContentFuture, null, config.bufferSize, this));
+                        rateLimitedHttpClient.send(request,
+                                new HttpResponseListener(responseContentFuture, null, config.bufferSize, this));
                     });
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
             logger.warn("Creating request for '{}' failed: {}", commandUrl, e.getMessage());
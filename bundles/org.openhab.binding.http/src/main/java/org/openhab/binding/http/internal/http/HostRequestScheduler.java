@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link HostRequestScheduler} is shared by all things and sends their requests with a limited number of
+ * concurrent requests per host
+ * <p>
+ * Requests that wait for a free slot are scheduled round-robin between the owners (things), so a thing with many
+ * channels can't starve other things polling the same host. Priority requests (commands) are sent first.
+ * <p>
+ * Identical GET requests (same client, URL, headers and timeout) that are queued or in-flight at the same time are
+ * coalesced: only the first one is sent and all listeners receive the events of that response. A listener that aborts
+ * the response (e.g. because its buffer is exceeded) only fails its own request, the response continues for the
+ * other listeners.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HostRequestScheduler {
+    private final Logger logger = LoggerFactory.getLogger(HostRequestScheduler.class);
+
+    private final Map<String, HostQueue> hosts = new HashMap<>();
+    private final Map<RequestKey, CoalescedRequest> coalescableRequests = new HashMap<>();
+
+    /**
+     * The statistics of a host
+     *
+     * @param queueWait the time requests waited for a free slot
+     * @param latency the time from sending a request until it completed
+     */
+    public record HostStatistics(LatencyHistogram queueWait, LatencyHistogram latency) {
+    }
+
+    /**
+     * send a request
+     * <p>
+     * The maximum number of concurrent requests to a host is the lowest value requested by any owner that sends
+     * requests to this host.
+     *
+     * @param owner the client that created the request
+     * @param request the request
+     * @param priority if true, the request is sent before all non-priority requests and never coalesced
+     * @param listener the listener for the response
+     */
+    public void send(RateLimitedHttpClient owner, Request request, boolean priority, Response.Listener listener) {
+        List<CoalescedRequest> requestsToSend;
+        synchronized (this) {
+            RequestKey key = !priority && HttpMethod.GET.is(request.getMethod())
+                    ? RequestKey.of(owner.getHttpClient(), request, listener)
+                    : null;
+            if (key != null) {
+                CoalescedRequest inFlightRequest = coalescableRequests.get(key);
+                if (inFlightRequest != null && inFlightRequest.attach(owner, listener)) {
+                    logger.trace("Coalesced request to '{}' with identical request", request.getURI());
+                    return;
+                }
+            }
+            String host = hostKey(request.getURI());
+            HostQueue hostQueue = hosts.computeIfAbsent(host, HostQueue::new);
+            hostQueue.limits.put(owner, owner.getMaxConcurrentRequests());
+            CoalescedRequest coalescedRequest = new CoalescedRequest(key, request, hostQueue, owner, listener);
+            if (key != null) {
+                coalescableRequests.put(key, coalescedRequest);
+            }
+            hostQueue.enqueue(owner, coalescedRequest, priority);
+            requestsToSend = hostQueue.pollAll();
+        }
+        requestsToSend.forEach(CoalescedRequest::send);
+    }
+
+    /**
+     * remove an owner, all its queued requests are discarded
+     *
+     * @param owner the owner
+     */
+    public void removeOwner(RateLimitedHttpClient owner) {
+        List<CoalescedRequest> requestsToSend = new ArrayList<>();
+        synchronized (this) {
+            for (HostQueue hostQueue : hosts.values()) {
+                hostQueue.removeOwner(owner);
+                // the limit may have been raised
+                requestsToSend.addAll(hostQueue.pollAll());
+            }
+        }
+        requestsToSend.forEach(CoalescedRequest::send);
+    }
+
+    /**
+     * get the statistics of all hosts that were requested
+     *
+     * @return a map of host to statistics
+     */
+    public synchronized Map<String, HostStatistics> getStatistics() {
+        return hosts.values().stream()
+                .collect(Collectors.toMap(h -> h.host, h -> new HostStatistics(h.queueWait, h.latency)));
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private void complete(CoalescedRequest request) {
+        List<CoalescedRequest> requestsToSend;
+        synchronized (this) {
+            RequestKey key = request.key;
+            if (key != null) {
+                coalescableRequests.remove(key, request);
+            }
+            request.hostQueue.active--;
+            requestsToSend = request.hostQueue.pollAll();
+        }
+        requestsToSend.forEach(CoalescedRequest::send);
+    }
+
+    private synchronized void begin(CoalescedRequest request) {
+        // listeners attached after the response started would miss events
+        request.begun = true;
+        RequestKey key = request.key;
+        if (key != null) {
+            coalescableRequests.remove(key, request);
+        }
+    }
+
+    private record RequestKey(HttpClient client, URI uri, Set<HttpField> headers, long timeout,
+            Class<?> listenerClass) {
+        static RequestKey of(HttpClient client, Request request, Response.Listener listener) {
+            return new RequestKey(client, request.getURI(), request.getHeaders().stream().collect(Collectors.toSet()),
+                    request.getTimeout(), listener.getClass());
+        }
+    }
+
+    private static class Subscriber {
+        private final Object owner;
+        private final Response.Listener listener;
+        private @Nullable SubscriberResponse response;
+
+        Subscriber(Object owner, Response.Listener listener) {
+            this.owner = owner;
+            this.listener = listener;
+        }
+
+        SubscriberResponse response(Response response) {
+            SubscriberResponse subscriberResponse = this.response;
+            if (subscriberResponse == null || subscriberResponse.response != response) {
+                subscriberResponse = new SubscriberResponse(response);
+                this.response = subscriberResponse;
+            }
+            return subscriberResponse;
+        }
+
+        @Nullable
+        Throwable failure() {
+            SubscriberResponse subscriberResponse = this.response;
+            return subscriberResponse != null ? subscriberResponse.failure : null;
+        }
+    }
+
+    /**
+     * the view of a subscriber on the shared response, aborting it only ends the response for this subscriber
+     */
+    private static class SubscriberResponse implements Response {
+        private final Response response;
+        private volatile @Nullable Throwable failure;
+
+        SubscriberResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public Request getRequest() {
+            return response.getRequest();
+        }
+
+        @Override
+        public <T extends ResponseListener> List<T> getListeners(@Nullable Class<T> listenerClass) {
+            return response.getListeners(listenerClass);
+        }
+
+        @Override
+        public HttpVersion getVersion() {
+            return response.getVersion();
+        }
+
+        @Override
+        public int getStatus() {
+            return response.getStatus();
+        }
+
+        @Override
+        public String getReason() {
+            return response.getReason();
+        }
+
+        @Override
+        public HttpFields getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public boolean abort(@Nullable Throwable cause) {
+            if (failure != null) {
+                return false;
+            }
+            failure = cause != null ? cause : new IllegalStateException("Response aborted");
+            return true;
+        }
+    }
+
+    /**
+     * the queue and statistics of a single host, guarded by the {@link HostRequestScheduler}
+     */
+    private class HostQueue {
+        private final String host;
+        private final Map<Object, Integer> limits = new HashMap<>();
+        private final ArrayDeque<CoalescedRequest> priorityRequests = new ArrayDeque<>();
+        private final Map<Object, ArrayDeque<CoalescedRequest>> requests = new LinkedHashMap<>();
+        private final ArrayDeque<Object> owners = new ArrayDeque<>();
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private int active = 0;
+
+        HostQueue(String host) {
+            this.host = host;
+        }
+
+        void enqueue(Object owner, CoalescedRequest request, boolean priority) {
+            if (priority) {
+                priorityRequests.add(request);
+            } else {
+                ArrayDeque<CoalescedRequest> ownerRequests = requests.get(owner);
+                if (ownerRequests == null) {
+                    ownerRequests = new ArrayDeque<>();
+                    requests.put(owner, ownerRequests);
+                    owners.add(owner);
+                }
+                ownerRequests.add(request);
+            }
+        }
+
+        int limit() {
+            return limits.values().stream().filter(limit -> limit > 0).min(Integer::compare)
+                    .orElse(Integer.MAX_VALUE);
+        }
+
+        /**
+         * @return the requests that can be sent now (each one occupies a slot)
+         */
+        List<CoalescedRequest> pollAll() {
+            List<CoalescedRequest> result = new ArrayList<>();
+            int limit = limit();
+            while (active < limit) {
+                CoalescedRequest request = priorityRequests.poll();
+                if (request == null) {
+                    Object owner = owners.poll();
+                    if (owner == null) {
+                        break;
+                    }
+                    ArrayDeque<CoalescedRequest> ownerRequests = requests.get(owner);
+                    if (ownerRequests == null || ownerRequests.isEmpty()) {
+                        requests.remove(owner);
+                        continue;
+                    }
+                    request = ownerRequests.poll();
+                    if (ownerRequests.isEmpty()) {
+                        requests.remove(owner);
+                    } else {
+                        // round-robin: the owner's next request waits until all other owners had their turn
+                        owners.add(owner);
+                    }
+                }
+                active++;
+                result.add(request);
+            }
+            return result;
+        }
+
+        void removeOwner(Object owner) {
+            limits.remove(owner);
+            List<CoalescedRequest> discarded = new ArrayList<>();
+            for (Iterator<CoalescedRequest> it = priorityRequests.iterator(); it.hasNext();) {
+                CoalescedRequest request = it.next();
+                if (request.detach(owner)) {
+                    it.remove();
+                    discarded.add(request);
+                }
+            }
+            for (ArrayDeque<CoalescedRequest> ownerRequests : requests.values()) {
+                for (Iterator<CoalescedRequest> it = ownerRequests.iterator(); it.hasNext();) {
+                    CoalescedRequest request = it.next();
+                    if (request.detach(owner)) {
+                        it.remove();
+                        discarded.add(request);
+                    }
+                }
+            }
+            requests.values().removeIf(ArrayDeque::isEmpty);
+            owners.removeIf(o -> !requests.containsKey(o));
+            // requests that are already sent continue for the other subscribers
+            coalescableRequests.values().forEach(request -> request.detach(owner));
+            for (CoalescedRequest request : discarded) {
+                RequestKey key = request.key;
+                if (key != null) {
+                    coalescableRequests.remove(key, request);
+                }
+            }
+            if (!discarded.isEmpty()) {
+                logger.trace("Discarded {} queued requests to '{}'", discarded.size(), host);
+            }
+        }
+    }
+
+    /**
+     * a request and the listeners of all identical requests, forwards all response events to all listeners
+     */
+    private class CoalescedRequest extends Response.Listener.Adapter {
+        private final @Nullable RequestKey key;
+        private final Request request;
+        private final HostQueue hostQueue;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final long queuedNanos = System.nanoTime();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private long sentNanos;
+        private boolean begun = false;
+
+        CoalescedRequest(@Nullable RequestKey key, Request request, HostQueue hostQueue, Object owner,
+                Response.Listener listener) {
+            this.key = key;
+            this.request = request;
+            this.hostQueue = hostQueue;
+            subscribers.add(new Subscriber(owner, listener));
+        }
+
+        /**
+         * @return true if the listener will receive the response, false if the response has already started
+         */
+        boolean attach(Object owner, Response.Listener listener) {
+            if (begun) {
+                return false;
+            }
+            subscribers.add(new Subscriber(owner, listener));
+            return true;
+        }
+
+        /**
+         * @return true if no subscriber is left
+         */
+        boolean detach(Object owner) {
+            subscribers.removeIf(subscriber -> subscriber.owner == owner);
+            return subscribers.isEmpty();
+        }
+
+        void send() {
+            sentNanos = System.nanoTime();
+            long waitNanos = sentNanos - queuedNanos;
+            hostQueue.queueWait.record(waitNanos);
+            logger.trace("Sending request to '{}' for {} listeners after waiting {} ms", request.getURI(),
+                    subscribers.size(), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            try {
+                request.send(this);
+            } catch (RuntimeException e) {
+                // the request never completes by itself, release its slot and notify the listeners
+                logger.debug("Sending request to '{}' failed: {}", request.getURI(), e.getMessage());
+                onComplete(new Result(request, e, null));
+            }
+        }
+
+        @Override
+        public void onBegin(@NonNullByDefault({}) Response response) {
+            begin(this);
+            forward(response, Response.Listener::onBegin);
+        }
+
+        @Override
+        public boolean onHeader(@NonNullByDefault({}) Response response, @NonNullByDefault({}) HttpField field) {
+            forward(response, (listener, view) -> listener.onHeader(view, field));
+            return true;
+        }
+
+        @Override
+        public void onHeaders(@NonNullByDefault({}) Response response) {
+            forward(response, Response.Listener::onHeaders);
+        }
+
+        @Override
+        public void onContent(@NonNullByDefault({}) Response response, @NonNullByDefault({}) ByteBuffer content) {
+            if (content == null) {
+                return;
+            }
+            // every listener consumes its own view of the buffer
+            forward(response, (listener, view) -> listener.onContent(view, content.slice()));
+        }
+
+        @Override
+        public void onSuccess(@NonNullByDefault({}) Response response) {
+            forward(response, Response.Listener::onSuccess);
+        }
+
+        @Override
+        public void onFailure(@NonNullByDefault({}) Response response, @NonNullByDefault({}) Throwable failure) {
+            forward(response, (listener, view) -> listener.onFailure(view, failure));
+        }
+
+        @Override
+        public void onComplete(@NonNullByDefault({}) Result result) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            long latencyNanos = System.nanoTime() - sentNanos;
+            hostQueue.latency.record(latencyNanos);
+            logger.trace("Request to '{}' completed after {} ms", request.getURI(),
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+            complete(this);
+            Response response = result.getResponse();
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    Throwable failure = subscriber.failure();
+                    if (response == null) {
+                        subscriber.listener.onComplete(result);
+                    } else if (failure == null) {
+                        subscriber.listener.onComplete(new Result(result.getRequest(), result.getRequestFailure(),
+                                subscriber.response(response), result.getResponseFailure()));
+                    } else {
+                        // this subscriber aborted the response, it completes with its own failure
+                        SubscriberResponse view = subscriber.response(response);
+                        subscriber.listener.onFailure(view, failure);
+                        subscriber.listener
+                                .onComplete(new Result(result.getRequest(), result.getRequestFailure(), view, failure));
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Processing response from '{}' failed: {}", request.getURI(), e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * forward an event to all subscribers that did not abort the response
+         */
+        private void forward(Response response, BiConsumer<Response.Listener, Response> event) {
+            for (Subscriber subscriber : subscribers) {
+                SubscriberResponse subscriberResponse = subscriber.response(response);
+                if (subscriberResponse.failure == null) {
+                    try {
+                        event.accept(subscriber.listener, subscriberResponse);
+                    } catch (RuntimeException e) {
+                        subscriberResponse.abort(e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.util.StringContentProvider;
 import org.eclipse.jetty.http.HttpMethod;
 import org.slf4j.Logger;
@@ -35,17 +36,24 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
  * the request creation
+ * <p>
+ * Requests sent with {@link #send(Request, Response.Listener)} are additionally scheduled by a
+ * {@link HostRequestScheduler}, which limits the number of concurrent requests per host and coalesces identical
+ * requests.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
     private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    private static final String PRIORITY_ATTRIBUTE = RateLimitedHttpClient.class.getName() + ".priority";
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
     private int delay = 0; // in ms
+    private int maxConcurrentRequests = 0; // 0 = no limit
     private final ScheduledExecutorService scheduler;
+    private final HostRequestScheduler hostRequestScheduler;
     private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
     private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
             MAX_QUEUE_SIZE);
@@ -53,8 +61,21 @@ public class RateLimitedHttpClient {
     private @Nullable ScheduledFuture<?> processJob;
 
     public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
+        this(httpClient, scheduler, new HostRequestScheduler());
+    }
+
+    /**
+     * Create a client that shares the per-host scheduling with other clients
+     *
+     * @param httpClient secure or insecure {@link HttpClient}
+     * @param scheduler the scheduler for the rate-limit
+     * @param hostRequestScheduler the (shared) {@link HostRequestScheduler}
+     */
+    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler,
+            HostRequestScheduler hostRequestScheduler) {
         this.httpClient = httpClient;
         this.scheduler = scheduler;
+        this.hostRequestScheduler = hostRequestScheduler;
     }
 
     /**
@@ -63,6 +84,7 @@ public class RateLimitedHttpClient {
     public void shutdown() {
         stopProcessJob();
         requestQueue.forEach(RequestQueueEntry::cancel);
+        hostRequestScheduler.removeOwner(this);
     }
 
     /**
@@ -81,6 +103,26 @@ public class RateLimitedHttpClient {
         }
     }
 
+    /**
+     * Set the maximum number of concurrent requests to a host
+     *
+     * @param maxConcurrentRequests the maximum number, 0 for no limit
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests needs to be larger or equal to zero");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    HttpClient getHttpClient() {
+        return httpClient;
+    }
+
     /**
      * Set the HTTP client
      *
@@ -103,6 +145,18 @@ public class RateLimitedHttpClient {
         return queueRequest(finalUrl, method, content, contentType, requestQueue);
     }
 
+    /**
+     * Send a request created by this client respecting the per-host limit. Identical GET requests (that are not
+     * priority requests) which are sent at the same time share the response.
+     *
+     * @param request the request
+     * @param listener the listener for the response
+     */
+    public void send(Request request, Response.Listener listener) {
+        boolean priority = Boolean.TRUE.equals(request.getAttributes().get(PRIORITY_ATTRIBUTE));
+        hostRequestScheduler.send(this, request, priority, listener);
+    }
+
     /**
      * Create a new priority request (executed as next request) to the given URL respecting rate-limits
      *
@@ -120,7 +174,8 @@ public class RateLimitedHttpClient {
             @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
         // if no delay is set, return a completed CompletableFuture
         CompletableFuture<Request> future = new CompletableFuture<>();
-        RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
+        RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType,
+                queue == priorityRequestQueue, future);
         if (delay == 0) {
             queueEntry.completeFuture(httpClient);
         } else {
@@ -187,14 +242,16 @@ public class RateLimitedHttpClient {
         private final HttpMethod method;
         private final String content;
         private final @Nullable String contentType;
+        private final boolean priority;
         private final CompletableFuture<Request> future;
 
         public RequestQueueEntry(URI finalUrl, HttpMethod method, String content, @Nullable String contentType,
-                CompletableFuture<Request> future) {
+                boolean priority, CompletableFuture<Request> future) {
             this.finalUrl = finalUrl;
             this.method = method;
             this.content = content;
             this.contentType = contentType;
+            this.priority = priority;
             this.future = future;
         }
 
@@ -204,7 +261,7 @@ public class RateLimitedHttpClient {
          * @param httpClient the client to create the request
          */
         public void completeFuture(HttpClient httpClient) {
-            Request request = httpClient.newRequest(finalUrl).method(method);
+            Request request = httpClient.newRequest(finalUrl).method(method).attribute(PRIORITY_ATTRIBUTE, priority);
             if ((method == HttpMethod.POST || method == HttpMethod.PUT) && !content.isEmpty()) {
                 if (contentType == null) {
                     request.content(new StringContentProvider(content));
@@ -15,8 +15,10 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -25,10 +27,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -39,6 +46,11 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
+ * <p>
+ * Once content was received, GET requests are sent as conditional requests if the server provided an
+ * <code>ETag</code> or <code>Last-Modified</code> header. A <code>304 Not Modified</code> response is treated like
+ * receiving the last content again. If <code>skipUnchanged</code> is enabled, content that equals the last content is
+ * not passed to the channels.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -49,6 +61,8 @@ public class RefreshingUrlCache {
     private final String url;
     private final RateLimitedHttpClient httpClient;
     private final boolean strictErrorHandling;
+    private final boolean skipUnchanged;
+    private final boolean conditionalRequests;
     private final int timeout;
     private final int bufferSize;
     private final @Nullable String fallbackEncoding;
@@ -61,16 +75,22 @@ public class RefreshingUrlCache {
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
+    private @Nullable String lastETag;
+    private @Nullable String lastModified;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
+        this.skipUnchanged = thingConfig.skipUnchanged;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
         this.httpMethod = thingConfig.stateMethod;
         this.headers = thingConfig.getHeaders();
+        // do not interfere with conditional headers configured by the user
+        this.conditionalRequests = httpMethod == HttpMethod.GET && headers.keySet().stream()
+                .noneMatch(header -> HttpHeader.IF_NONE_MATCH.is(header) || HttpHeader.IF_MODIFIED_SINCE.is(header));
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
@@ -115,6 +135,9 @@ public class RefreshingUrlCache {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
 
+                ChannelHandlerContent notModifiedContent = addConditionalHeaders(request);
+                AtomicReference<@Nullable HttpFields> responseHeaders = new AtomicReference<>();
+
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
                     if (t instanceof HttpAuthException) {
@@ -126,14 +149,23 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, responseHeaders.get()));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                // the headers are taken from the listener, coalesced requests only forward the listener events
+                httpClient.send(request, new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
+                        httpStatusListener, notModifiedContent) {
+                    @Override
+                    public void onHeaders(@NonNullByDefault({}) Response response) {
+                        if (conditionalRequests) {
+                            responseHeaders.set(response.getHeaders());
+                        }
+                        super.onHeaders(response);
+                    }
+                });
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -155,7 +187,48 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    /**
+     * add the validators of the last content to the request
+     *
+     * @param request the request
+     * @return the content the request is conditional on or null if the request is not conditional
+     */
+    private @Nullable ChannelHandlerContent addConditionalHeaders(Request request) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        String lastETag = this.lastETag;
+        String lastModified = this.lastModified;
+        if (!conditionalRequests || lastContent == null || (lastETag == null && lastModified == null)) {
+            return null;
+        }
+        if (lastETag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, lastETag);
+        }
+        if (lastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+        }
+        return lastContent;
+    }
+
+    private void processResult(@Nullable ChannelHandlerContent content, @Nullable HttpFields responseHeaders) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (content == null) {
+            lastETag = null;
+            lastModified = null;
+        } else if (responseHeaders != null) {
+            String eTag = responseHeaders.get(HttpHeader.ETAG);
+            String modified = responseHeaders.get(HttpHeader.LAST_MODIFIED);
+            // a 304 response is not required to repeat the validators
+            if (content != lastContent || eTag != null || modified != null) {
+                lastETag = eTag;
+                lastModified = modified;
+            }
+        }
+
+        if (skipUnchanged && content != null && lastContent != null && isSameContent(content, lastContent)) {
+            logger.trace("Content of URL '{}' did not change, skipping update", url);
+            return;
+        }
+
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -165,6 +238,12 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
+    }
+
+    private static boolean isSameContent(ChannelHandlerContent content, ChannelHandlerContent lastContent) {
+        // a 304 response completes with the last content itself
+        return content == lastContent || (Arrays.equals(content.getRawContent(), lastContent.getRawContent())
+                && Objects.equals(content.getMediaType(), lastContent.getMediaType()));
     }
 }
@@ -14,8 +14,10 @@ package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,19 +26,27 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpMethod;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.openhab.binding.http.internal.http.HostRequestScheduler;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 
 /**
@@ -49,6 +59,7 @@ import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 public class RateLimitedHttpClientTest extends AbstractWireMockTest {
     private static final String TEST_LOCATION = "/testlocation";
     private static final String TEST_CONTENT = "TESTCONTENT";
+    private static final String FAILED = "FAILED";
 
     private List<Response> responses = new CopyOnWriteArrayList<>();
 
@@ -99,6 +110,119 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
+    @Test
+    public void testIdenticalRequestsAreCoalesced() {
+        wireMockServer.resetRequests();
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(200).withBody(TEST_CONTENT)));
+
+        HostRequestScheduler hostRequestScheduler = new HostRequestScheduler();
+        List<RateLimitedHttpClient> clients = List.of(new RateLimitedHttpClient(httpClient, scheduler,
+                hostRequestScheduler), new RateLimitedHttpClient(httpClient, scheduler, hostRequestScheduler));
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        for (int i = 0; i < clients.size(); i++) {
+            RateLimitedHttpClient client = clients.get(i);
+            int seqNumber = i;
+            client.newRequest(url, HttpMethod.GET, "", null)
+                    .thenAccept(request -> client.send(request, new ContentListener(seqNumber)));
+        }
+
+        // wait until we got all results
+        waitForAssert(() -> assertEquals(clients.size(), responses.size()));
+        clients.forEach(RateLimitedHttpClient::shutdown);
+
+        // both clients received the content, but only one request was sent
+        assertEquals(TEST_CONTENT, responses.get(0).content);
+        assertEquals(TEST_CONTENT, responses.get(1).content);
+        assertEquals(1, wireMockServer.findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size());
+    }
+
+    @Test
+    public void testConcurrentRequestsAreLimitedPerHost() {
+        stubFor(get(urlPathEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withFixedDelay(300).withBody(TEST_CONTENT)));
+
+        HostRequestScheduler hostRequestScheduler = new HostRequestScheduler();
+        List<RateLimitedHttpClient> clients = List.of(new RateLimitedHttpClient(httpClient, scheduler,
+                hostRequestScheduler), new RateLimitedHttpClient(httpClient, scheduler, hostRequestScheduler));
+        // the lowest limit of all clients is used
+        clients.get(0).setMaxConcurrentRequests(1);
+
+        for (int i = 0; i < clients.size(); i++) {
+            RateLimitedHttpClient client = clients.get(i);
+            int seqNumber = i;
+            URI url = URI.create("http://localhost:" + port + TEST_LOCATION + "?seq=" + i);
+            client.newRequest(url, HttpMethod.GET, "", null)
+                    .thenAccept(request -> client.send(request, new ContentListener(seqNumber)));
+        }
+
+        // wait until we got all results
+        waitForAssert(() -> assertEquals(clients.size(), responses.size()));
+        clients.forEach(RateLimitedHttpClient::shutdown);
+
+        // the second request is only sent after the first one completed
+        assertEquals(0, responses.get(0).seqNumber);
+        assertEquals(1, responses.get(1).seqNumber);
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, greaterThanOrEqualTo(300));
+    }
+
+    @Test
+    public void testBufferOverflowOnlyFailsCoalescedListener() {
+        String content = "x".repeat(2048);
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(200).withBody(content)));
+
+        HostRequestScheduler hostRequestScheduler = new HostRequestScheduler();
+        List<RateLimitedHttpClient> clients = List.of(new RateLimitedHttpClient(httpClient, scheduler,
+                hostRequestScheduler), new RateLimitedHttpClient(httpClient, scheduler, hostRequestScheduler));
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        // the first listener can't buffer the content
+        List<Integer> bufferSizes = List.of(1024, 4096);
+        for (int i = 0; i < clients.size(); i++) {
+            RateLimitedHttpClient client = clients.get(i);
+            int seqNumber = i;
+            client.newRequest(url, HttpMethod.GET, "", null).thenAccept(
+                    request -> client.send(request, new ContentListener(seqNumber, bufferSizes.get(seqNumber))));
+        }
+
+        // wait until we got all results
+        waitForAssert(() -> assertEquals(clients.size(), responses.size()));
+        clients.forEach(RateLimitedHttpClient::shutdown);
+
+        Map<Integer, String> contents = Map.of(responses.get(0).seqNumber, responses.get(0).content,
+                responses.get(1).seqNumber, responses.get(1).content);
+        assertEquals(FAILED, contents.get(0));
+        assertEquals(content, contents.get(1));
+    }
+
+    @Test
+    public void testFailedSendReleasesSlot() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient client = new RateLimitedHttpClient(httpClient, scheduler, new HostRequestScheduler());
+        client.setMaxConcurrentRequests(1);
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        Request failingRequest = mock(Request.class);
+        when(failingRequest.getAttributes()).thenReturn(Map.of());
+        when(failingRequest.getMethod()).thenReturn(HttpMethod.POST.asString());
+        when(failingRequest.getURI()).thenReturn(url);
+        doThrow(new IllegalStateException("client stopped")).when(failingRequest)
+                .send(any(org.eclipse.jetty.client.api.Response.CompleteListener.class));
+        client.send(failingRequest, new ContentListener(0));
+        client.newRequest(url, HttpMethod.GET, "", null)
+                .thenAccept(request -> client.send(request, new ContentListener(1)));
+
+        // the failed request was completed and the next request got its slot
+        waitForAssert(() -> assertEquals(2, responses.size()));
+        client.shutdown();
+
+        assertEquals(0, responses.get(0).seqNumber);
+        assertEquals(FAILED, responses.get(0).content);
+        assertEquals(TEST_CONTENT, responses.get(1).content);
+    }
+
     private void doLimitTest(int setDelay, List<Boolean> config) {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
@@ -137,8 +261,30 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         public final String content;
 
         public Response(int seqNumber, ContentResponse contentResponse) {
+            this(seqNumber, contentResponse.getContentAsString());
+        }
+
+        public Response(int seqNumber, String content) {
             this.seqNumber = seqNumber;
-            this.content = contentResponse.getContentAsString();
+            this.content = content;
+        }
+    }
+
+    private class ContentListener extends BufferingResponseListener {
+        private final int seqNumber;
+
+        public ContentListener(int seqNumber) {
+            this.seqNumber = seqNumber;
+        }
+
+        public ContentListener(int seqNumber, int maxLength) {
+            super(maxLength);
+            this.seqNumber = seqNumber;
+        }
+
+        @Override
+        public void onComplete(@NonNullByDefault({}) Result result) {
+            responses.add(new Response(seqNumber, result.isFailed() ? FAILED : getContentAsString()));
         }
     }
 }
@@ -13,7 +13,10 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -179,6 +182,71 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertEquals(true, contentWrappers.stream().allMatch(Objects::isNull));
     }
 
+    @Test
+    public void testNotModifiedResponseUpdatesWithLastContent() {
+        String eTag = "\"1234\"";
+        wireMockServer.resetRequests();
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", absent())
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", eTag)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 3));
+        urlCache.stop();
+
+        // verify only the first request was unconditional and all responses were successful
+        assertEquals(1, wireMockServer
+                .findAll(getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", absent())).size());
+        verify(statusListener, never()).onHttpError(any());
+
+        // assert all updates have the same content
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+    }
+
+    @Test
+    public void testCoalescedRequestsAreConditional() {
+        String eTag = "\"1234\"";
+        wireMockServer.resetRequests();
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", absent())
+                .willReturn(aResponse().withFixedDelay(200).withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withFixedDelay(200).withStatus(304).withHeader("ETag", eTag)));
+
+        // both caches request the same URL at the same time, so their requests are coalesced
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+        RefreshingUrlCache otherUrlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until both caches got at least three results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 6));
+        urlCache.stop();
+        otherUrlCache.stop();
+
+        // both caches learned the ETag from the shared response
+        assertEquals(1, wireMockServer
+                .findAll(getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", absent())).size());
+        verify(statusListener, never()).onHttpError(any());
+    }
+
+    @Test
+    public void testNoUpdateOnUnchangedContentWithSkipUnchanged() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three successful responses
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert only the first response was passed to the consumer
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
     @Test
     public void testAdditionalHeaderIsSentWithRequest() {
         String testHeaderKey = "X-SMARTHOME";
@@ -266,12 +266,11 @@ public class IpCameraHandler extends BaseThingHandler {
                 }
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.endsWith(requestUrl) && !(content instanceof LastHttpContent)) {
-                        // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
+                        // multiple MJPEG stream packets come back as this, they are shared with all streams without
+                        // copying them.
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            localServlet.openStreams.queueChunk(content.content().retainedSlice());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -1652,6 +1651,12 @@ public class IpCameraHandler extends BaseThingHandler {
                 setupFfmpegFormat(FFmpegFormat.RTSP_ALARMS);
             }
         }
+        CameraServlet localServlet = servlet;
+        if (localServlet != null && !localServlet.openStreams.isEmpty()) {
+            logger.trace("{} ipcamera.mjpeg streams are open, {} frames skipped by slow streams, {} bytes buffered",
+                    localServlet.openStreams.getNumberOfStreams(), localServlet.openStreams.getDroppedFrames(),
+                    localServlet.openStreams.getBufferedBytes());
+        }
         // check if the thread has frozen due to camera doing a soft reboot
         localFfmpeg = ffmpegMjpeg;
         if (localFfmpeg != null && !localFfmpeg.isAlive()) {
@@ -1812,9 +1817,12 @@ public class IpCameraHandler extends BaseThingHandler {
         CameraServlet localServlet = servlet;
         if (localServlet != null && !localServlet.openStreams.isEmpty()) {
             if (!usingRtspForMjpeg()) {
-                localServlet.openStreams.queueFrame(("--" + localServlet.openStreams.boundary + "\r\n\r\n").getBytes());
+                localServlet.openStreams.queueChunk(
+                        Unpooled.wrappedBuffer(("--" + localServlet.openStreams.boundary + "\r\n\r\n").getBytes()));
+                localServlet.openStreams.queueChunk(Unpooled.wrappedBuffer(getSnapshot()));
+            } else {
+                localServlet.openStreams.queueFrame(Unpooled.wrappedBuffer(getSnapshot()));
             }
-            localServlet.openStreams.queueFrame(getSnapshot());
         }
     }
 
@@ -35,6 +35,8 @@ import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegForm
 import org.openhab.binding.ipcamera.internal.handler.IpCameraHandler;
 import org.osgi.service.http.HttpService;
 
+import io.netty.buffer.Unpooled;
+
 /**
  * The {@link CameraServlet} is responsible for serving files for a single camera back to the Jetty server normally
  * found on port 8080
@@ -70,7 +72,7 @@ public class CameraServlet extends IpCameraServlet {
             case "/ipcamera.jpg":
                 // ffmpeg sends data here for ipcamera.mjpeg streams when camera has no native stream.
                 ServletInputStream snapshotData = req.getInputStream();
-                openStreams.queueFrame(snapshotData.readAllBytes());
+                openStreams.queueFrame(Unpooled.wrappedBuffer(snapshotData.readAllBytes()));
                 snapshotData.close();
                 break;
             case "/snapshot.jpg":
@@ -204,11 +206,12 @@ public class CameraServlet extends IpCameraServlet {
                 openStreams.addStream(output);
                 do {
                     try {
-                        output.sendFrame();
+                        openStreams.sendFrame(output);
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
                         openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+                        logger.debug("Now there are {} ipcamera.mjpeg streams open, the stream skipped {} frames.",
+                                openStreams.getNumberOfStreams(), output.getDroppedFrames());
                         if (openStreams.isEmpty()) {
                             if (output.isSnapshotBased) {
                                 Ffmpeg localMjpeg = handler.ffmpegMjpeg;
@@ -226,6 +229,8 @@ public class CameraServlet extends IpCameraServlet {
                         return;
                     }
                 } while (!openStreams.isEmpty());
+                // all streams were closed by dispose()
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
@@ -12,29 +12,62 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams and shares the frames with all of them to allow 1 to
+ * many streams without needing to open more than 1 source stream.
+ *
+ * The frames are kept in a single ring buffer of reference counted {@link ByteBuf}s and each stream has its own
+ * cursor. Streams that fall behind finish the frame they are sending and then skip to the latest frame instead of
+ * buffering old frames. A stream that stalls for so long that it can not finish its frame is disconnected.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
+    // the number of frames that are kept for slow streams, chunks of a frame that is being sent are always kept
+    private static final int MAX_FRAMES = 10;
+    // the limit for the kept chunks, streams that still need older chunks are disconnected
+    private static final long MAX_BUFFERED_BYTES = 16 * 1024 * 1024;
+
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
     public String boundary = "thisMjpegStream";
+    private volatile ByteBuf boundaryDelimiter = delimiterOf(boundary);
+
+    // the ring grows if the chunks of MAX_FRAMES frames don't fit, its length is always a power of two
+    private @Nullable Frame[] ring = new Frame[64];
+    private final ArrayDeque<Long> frameStarts = new ArrayDeque<>();
+    private long firstSequence = 0;
+    private long nextSequence = 0;
+    private long bufferedBytes = 0;
+    private long droppedFrames = 0;
 
     public synchronized void addStream(StreamOutput stream) {
+        // new streams start with the next frame
+        stream.cursor = nextSequence;
+        stream.synced = false;
+        stream.fellBehind = false;
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            releaseFrames();
+        }
     }
 
     public synchronized int getNumberOfStreams() {
@@ -45,17 +78,293 @@ public class OpenStreams {
         return openStreams.isEmpty();
     }
 
+    /**
+     * @return the number of frames that were skipped by all streams because they were sending too slowly
+     */
+    public synchronized long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * @return the number of bytes that are currently held by the ring buffer
+     */
+    public synchronized long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        boundaryDelimiter = delimiterOf(boundary);
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    /**
+     * Queue a complete frame for all streams. The reference to the buffer is passed on and released when the frame
+     * is no longer needed.
+     *
+     * @param frame a complete jpg
+     */
+    public void queueFrame(ByteBuf frame) {
+        queue(new Frame(frame, 0));
+    }
+
+    /**
+     * Queue a chunk of a multipart stream for all streams. The chunk does not need to contain a complete frame, it is
+     * searched for the boundary so that slow streams can skip to the start of the next frame. The reference to the
+     * buffer is passed on and released when the chunk is no longer needed.
+     *
+     * @param chunk a chunk of the stream from the camera
+     */
+    public void queueChunk(ByteBuf chunk) {
+        ByteBuf delimiter = boundaryDelimiter;
+        if (!delimiter.isReadable()) {
+            queue(new Frame(chunk, 0));
+            return;
+        }
+        int frameStart = ByteBufUtil.indexOf(delimiter, chunk);
+        if (frameStart >= 0) {
+            frameStart = skipDashes(chunk, frameStart) - chunk.readerIndex();
+        }
+        queueChunk(chunk, frameStart, delimiter);
+    }
+
+    /**
+     * A boundary can be split between two chunks, it is then not found in either of them. The frame start of the
+     * previous chunk is set if the boundary (or the dashes in front of it) starts in the previous chunk.
+     */
+    private synchronized void queueChunk(ByteBuf chunk, int frameStart, ByteBuf delimiter) {
+        Frame previous = nextSequence > firstSequence ? getFrame(nextSequence - 1) : null;
+        if (previous != null && previous.frameStart < 0) {
+            int previousFrameStart = frameStart == 0 ? trailingDashes(previous.data)
+                    : splitDelimiter(previous.data, chunk, delimiter);
+            if (previousFrameStart >= 0) {
+                ring[slot(nextSequence - 1)] = new Frame(previous.data, previousFrameStart);
+                frameStarts.addLast(nextSequence - 1);
+                if (frameStart == 0) {
+                    // the dashes of this boundary are in the previous chunk
+                    frameStart = -1;
+                }
+            }
+        }
+        queue(new Frame(chunk, frameStart));
+    }
+
+    /**
+     * @return the offset of the dashes the previous chunk ends with or -1 if it does not end with a dash
+     */
+    private static int trailingDashes(ByteBuf previous) {
+        int start = skipDashes(previous, previous.writerIndex());
+        return start < previous.writerIndex() ? start - previous.readerIndex() : -1;
+    }
+
+    /**
+     * @return the offset of a boundary that starts in the previous chunk and ends in the chunk or -1 if there is none
+     */
+    private static int splitDelimiter(ByteBuf previous, ByteBuf chunk, ByteBuf delimiter) {
+        // a delimiter that is not found in either chunk has at most length - 1 bytes in each of them
+        int tailLength = Math.min(delimiter.readableBytes() - 1, previous.readableBytes());
+        int headLength = Math.min(delimiter.readableBytes() - 1, chunk.readableBytes());
+        if (tailLength <= 0 || headLength <= 0) {
+            return -1;
+        }
+        byte[] joined = new byte[tailLength + headLength];
+        previous.getBytes(previous.writerIndex() - tailLength, joined, 0, tailLength);
+        chunk.getBytes(chunk.readerIndex(), joined, tailLength, headLength);
+        int index = ByteBufUtil.indexOf(delimiter, Unpooled.wrappedBuffer(joined));
+        if (index < 0) {
+            return -1;
+        }
+        return skipDashes(previous, previous.writerIndex() - tailLength + index) - previous.readerIndex();
+    }
+
+    /**
+     * The boundary is preceded by dashes, which some cameras also include in the boundary parameter
+     *
+     * @return the index of the first dash in front of <code>index</code>
+     */
+    private static int skipDashes(ByteBuf buffer, int index) {
+        int start = index;
+        while (start > buffer.readerIndex() && buffer.getByte(start - 1) == '-') {
+            start--;
+        }
+        return start;
+    }
+
+    private synchronized void queue(Frame frame) {
+        if (openStreams.isEmpty()) {
+            frame.data.release();
+            return;
+        }
+        if (nextSequence - firstSequence == ring.length) {
+            growRing();
+        }
+        ring[slot(nextSequence)] = frame;
+        bufferedBytes += frame.data.readableBytes();
+        if (frame.frameStart >= 0) {
+            frameStarts.addLast(nextSequence);
+        }
+        nextSequence++;
+        releaseOldChunks();
+        notifyAll();
+    }
+
+    private void growRing() {
+        @Nullable Frame[] grown = new Frame[ring.length * 2];
+        for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+            grown[(int) (sequence & (grown.length - 1))] = ring[slot(sequence)];
+        }
+        ring = grown;
+    }
+
+    /**
+     * Releases the chunks in front of the last {@link #MAX_FRAMES} frames, unless a stream is still sending them.
+     * Chunks that exceed {@link #MAX_BUFFERED_BYTES} are released anyway and the streams that still need them are
+     * marked to be disconnected, so they never send a truncated frame.
+     */
+    private void releaseOldChunks() {
+        while (frameStarts.size() > MAX_FRAMES) {
+            frameStarts.removeFirst();
+        }
+        long keepFrom = frameStarts.size() < MAX_FRAMES ? firstSequence : frameStarts.getFirst();
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            if (stream.synced) {
+                keepFrom = Math.min(keepFrom, stream.cursor);
+            }
+        }
+        while (firstSequence < keepFrom) {
+            releaseFirstChunk();
+        }
+        while (bufferedBytes > MAX_BUFFERED_BYTES && nextSequence - firstSequence > 1) {
+            releaseFirstChunk();
+            for (StreamOutput stream : openStreams) {
+                if (stream.synced && stream.cursor < firstSequence) {
+                    // the rest of the frame that is being sent is gone
+                    dropFrames(stream, 1);
+                    stream.synced = false;
+                    stream.fellBehind = true;
+                }
+            }
+        }
+        while (!frameStarts.isEmpty() && frameStarts.getFirst() < firstSequence) {
+            frameStarts.removeFirst();
+        }
+    }
+
+    private void releaseFirstChunk() {
+        int slot = slot(firstSequence);
+        Frame frame = ring[slot];
+        if (frame != null) {
+            bufferedBytes -= frame.data.readableBytes();
+            frame.data.release();
+            ring[slot] = null;
+        }
+        firstSequence++;
+    }
+
+    /**
+     * Waits for the next frame of the stream and sends it.
+     *
+     * @param stream the stream
+     */
+    public void sendFrame(StreamOutput stream) throws IOException, InterruptedException {
+        ByteBuf frame = nextFrame(stream);
+        if (frame != null) {
+            try {
+                stream.sendFrame(frame);
+            } finally {
+                frame.release();
+            }
+        }
+    }
+
+    private synchronized @Nullable ByteBuf nextFrame(StreamOutput stream) throws IOException, InterruptedException {
+        while (!stream.isClosed()) {
+            if (stream.fellBehind) {
+                throw new IOException("The stream could not keep up and has been disconnected");
+            }
+            if (stream.cursor < firstSequence) {
+                // only streams that are not synced can point to released chunks
+                stream.cursor = firstSequence;
+            }
+            long latestFrameStart = -1;
+            for (long sequence = nextSequence - 1; sequence >= stream.cursor; sequence--) {
+                if (getFrame(sequence).frameStart >= 0) {
+                    latestFrameStart = sequence;
+                    break;
+                }
+            }
+
+            if (!stream.synced) {
+                if (latestFrameStart < 0) {
+                    stream.cursor = nextSequence;
+                    wait();
+                } else {
+                    stream.cursor = latestFrameStart;
+                    stream.offset = getFrame(latestFrameStart).frameStart;
+                    stream.synced = true;
+                }
+                continue;
+            }
+            if (stream.cursor == nextSequence) {
+                wait();
+                continue;
+            }
+
+            Frame frame = getFrame(stream.cursor);
+            int start = frame.data.readerIndex() + stream.offset;
+            if (frame.frameStart >= 0 && latestFrameStart > stream.cursor) {
+                // a newer frame has started, finish the current frame and skip to the newest one
+                int dropped = 0;
+                for (long sequence = stream.cursor; sequence < latestFrameStart; sequence++) {
+                    if (getFrame(sequence).frameStart >= 0) {
+                        dropped++;
+                    }
+                }
+                dropFrames(stream, dropped);
+                int length = frame.frameStart - stream.offset;
+                stream.cursor = latestFrameStart;
+                stream.offset = getFrame(latestFrameStart).frameStart;
+                if (length > 0) {
+                    return frame.data.retainedSlice(start, length);
+                }
+                continue;
+            }
+            stream.cursor++;
+            stream.offset = 0;
+            return frame.data.retainedSlice(start, frame.data.writerIndex() - start);
+        }
+        return null;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence & (ring.length - 1));
+    }
+
+    private Frame getFrame(long sequence) {
+        Frame frame = ring[slot(sequence)];
+        if (frame == null) {
+            // can't happen, all frames between the cursors and the latest frame are in the ring buffer
+            throw new IllegalStateException("Frame " + sequence + " is missing");
+        }
+        return frame;
+    }
+
+    private void dropFrames(StreamOutput stream, int frames) {
+        stream.droppedFrames += frames;
+        droppedFrames += frames;
+    }
+
+    private void releaseFrames() {
+        while (firstSequence < nextSequence) {
+            releaseFirstChunk();
         }
+        frameStarts.clear();
+    }
+
+    private static ByteBuf delimiterOf(String boundary) {
+        return Unpooled.copiedBuffer(boundary.replaceFirst("^-+", ""), StandardCharsets.US_ASCII);
     }
 
     public synchronized void closeAllStreams() {
@@ -63,5 +372,16 @@ public class OpenStreams {
             stream.close();
         }
         openStreams.clear();
+        releaseFrames();
+        notifyAll();
+    }
+
+    /**
+     * A frame or chunk in the ring buffer.
+     *
+     * @param data the data, the ring buffer holds one reference
+     * @param frameStart the offset of the first frame that starts in this chunk or -1 if no frame starts in it
+     */
+    private record Frame(ByteBuf data, int frameStart) {
     }
 }
@@ -13,8 +13,6 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -23,6 +21,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
  *
@@ -35,10 +36,17 @@ public class StreamOutput {
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
+    private volatile boolean closed = false;
     public boolean isSnapshotBased = false;
 
+    // the position of this stream in the frames of the OpenStreams, only accessed while holding its lock
+    long cursor;
+    int offset;
+    boolean synced;
+    boolean fellBehind;
+    long droppedFrames;
+
     public StreamOutput(HttpServletResponse response) throws IOException {
         boundary = "thisMjpegStream";
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
@@ -59,29 +67,27 @@ public class StreamOutput {
     }
 
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
+        sendSnapshotBasedFrame(Unpooled.wrappedBuffer(currentSnapshot));
+    }
+
+    private void sendSnapshotBasedFrame(ByteBuf currentSnapshot) throws IOException {
         String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+                + currentSnapshot.readableBytes() + "\r\n\r\n";
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
             output.write(header.getBytes());
-            output.write(currentSnapshot);
+            write(currentSnapshot);
             output.write("\r\n".getBytes());
             connected = true;
         }
         output.write(header.getBytes());
-        output.write(currentSnapshot);
+        write(currentSnapshot);
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
-        }
+    private void write(ByteBuf data) throws IOException {
+        data.getBytes(data.readerIndex(), output, data.readableBytes());
     }
 
     public void updateContentType(String contentType) {
@@ -92,14 +98,30 @@ public class StreamOutput {
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
+    /**
+     * Send a frame that is shared with other streams, the buffer is not released.
+     *
+     * @param frame a complete jpg for snapshot based streams, otherwise a chunk of the camera's stream
+     */
+    void sendFrame(ByteBuf frame) throws IOException {
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
+            sendSnapshotBasedFrame(frame);
         } else if (connected) {
-            output.write(fifo.take());
+            write(frame);
         }
     }
 
+    /**
+     * @return the number of frames this stream skipped because it was sending too slowly
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
     private void sendInitialHeaders() {
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
@@ -107,6 +129,7 @@ public class StreamOutput {
     }
 
     public void close() {
+        closed = true;
         try {
             output.close();
         } catch (IOException e) {
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests the ring buffer of {@link OpenStreams}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OpenStreamsTest {
+    private static final String BOUNDARY = "--thisMjpegStream\r\n";
+
+    private final OpenStreams openStreams = new OpenStreams();
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+
+    @Test
+    public void testRingReleasesOldFrames() throws IOException {
+        openStreams.addStream(newStream());
+        List<ByteBuf> chunks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ByteBuf chunk = chunk(BOUNDARY + "frame" + (i % 10));
+            chunks.add(chunk);
+            openStreams.queueChunk(chunk);
+        }
+
+        // the ring keeps the last 10 frames
+        for (int i = 0; i < 50; i++) {
+            assertEquals(0, chunks.get(i).refCnt());
+        }
+        for (int i = 50; i < 60; i++) {
+            assertEquals(1, chunks.get(i).refCnt());
+        }
+        assertEquals(10L * chunks.get(59).readableBytes(), openStreams.getBufferedBytes());
+    }
+
+    @Test
+    public void testSlowStreamFinishesLongFrame() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.sendFrame(stream);
+
+        // a frame of many chunks is followed by more frames than the ring keeps
+        StringBuilder expected = new StringBuilder(BOUNDARY + "A");
+        for (int i = 0; i < 60; i++) {
+            openStreams.queueChunk(chunk("a" + i));
+            expected.append("a" + i);
+        }
+        for (int i = 0; i < 15; i++) {
+            openStreams.queueChunk(chunk(BOUNDARY + "F" + i));
+        }
+        for (int i = 0; i < 61; i++) {
+            openStreams.sendFrame(stream);
+        }
+
+        // frame A is not truncated
+        assertEquals(expected + BOUNDARY + "F14", sent());
+        assertEquals(14, stream.getDroppedFrames());
+    }
+
+    @Test
+    public void testStalledStreamIsDisconnected() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.sendFrame(stream);
+
+        List<ByteBuf> chunks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ByteBuf chunk = Unpooled.wrappedBuffer(new byte[1024 * 1024]);
+            chunks.add(chunk);
+            openStreams.queueChunk(chunk);
+        }
+
+        // the rest of frame A exceeds the limit, the stream is disconnected instead of sending a truncated frame
+        assertEquals(0, chunks.get(0).refCnt());
+        assertTrue(openStreams.getBufferedBytes() <= 16 * 1024 * 1024);
+        assertThrows(IOException.class, () -> openStreams.sendFrame(stream));
+        assertEquals(BOUNDARY + "A", sent());
+        assertEquals(1, stream.getDroppedFrames());
+    }
+
+    @Test
+    public void testSlowStreamSkipsToLatestFrame() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.sendFrame(stream);
+
+        openStreams.queueChunk(chunk("a1"));
+        openStreams.queueChunk(chunk("a2" + BOUNDARY + "B"));
+        openStreams.queueChunk(chunk("b1"));
+        openStreams.queueChunk(chunk(BOUNDARY + "C"));
+        openStreams.sendFrame(stream);
+        openStreams.sendFrame(stream);
+        openStreams.sendFrame(stream);
+
+        // frame A is finished, frame B is skipped
+        assertEquals(BOUNDARY + "Aa1a2" + BOUNDARY + "C", sent());
+        assertEquals(1, stream.getDroppedFrames());
+        assertEquals(1, openStreams.getDroppedFrames());
+    }
+
+    @Test
+    public void testSplitBoundaryIsFound() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.sendFrame(stream);
+
+        openStreams.queueChunk(chunk("a1--thisMjpeg"));
+        openStreams.queueChunk(chunk("Stream\r\nB"));
+        openStreams.queueChunk(chunk(BOUNDARY + "C"));
+        openStreams.sendFrame(stream);
+        openStreams.sendFrame(stream);
+
+        assertEquals(BOUNDARY + "Aa1" + BOUNDARY + "C", sent());
+        assertEquals(1, stream.getDroppedFrames());
+    }
+
+    @Test
+    public void testDashesInPreviousChunkAreFound() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.sendFrame(stream);
+
+        openStreams.queueChunk(chunk("a1-"));
+        openStreams.queueChunk(chunk("-thisMjpegStream\r\nB"));
+        openStreams.queueChunk(chunk(BOUNDARY + "C"));
+        openStreams.sendFrame(stream);
+        openStreams.sendFrame(stream);
+
+        assertEquals(BOUNDARY + "Aa1" + BOUNDARY + "C", sent());
+    }
+
+    @Test
+    public void testNewStreamStartsWithLatestFrame() throws IOException, InterruptedException {
+        openStreams.addStream(newStream());
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        openStreams.queueChunk(chunk(BOUNDARY + "A"));
+        openStreams.queueChunk(chunk("a1"));
+        openStreams.queueChunk(chunk(BOUNDARY + "B"));
+        openStreams.sendFrame(stream);
+
+        assertEquals(BOUNDARY + "B", sent());
+    }
+
+    @Test
+    public void testChunksAreReleasedWhenLastStreamIsRemoved() throws IOException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        ByteBuf chunk = chunk(BOUNDARY + "A");
+        openStreams.queueChunk(chunk);
+        openStreams.removeStream(stream);
+
+        assertEquals(0, chunk.refCnt());
+        assertEquals(0, openStreams.getBufferedBytes());
+
+        // without streams, chunks are not kept
+        ByteBuf unused = chunk(BOUNDARY + "B");
+        openStreams.queueChunk(unused);
+        assertEquals(0, unused.refCnt());
+    }
+
+    @Test
+    public void testChunksAreReleasedOnClose() throws IOException, InterruptedException {
+        StreamOutput stream = newStream();
+        openStreams.addStream(stream);
+        ByteBuf chunk = chunk(BOUNDARY + "A");
+        openStreams.queueChunk(chunk);
+        openStreams.closeAllStreams();
+
+        assertEquals(0, chunk.refCnt());
+        assertTrue(stream.isClosed());
+        assertTrue(openStreams.isEmpty());
+        // a closed stream does not wait for frames
+        openStreams.sendFrame(stream);
+    }
+
+    private ByteBuf chunk(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.US_ASCII);
+    }
+
+    private String sent() {
+        return sent.toString(StandardCharsets.US_ASCII);
+    }
+
+    private StreamOutput newStream() throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                sent.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(@Nullable WriteListener writeListener) {
+            }
+        });
+        return new StreamOutput(response, "multipart/x-mixed-replace; boundary=thisMjpegStream");
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPT;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * This class holds everything the {@link ValueDecoder} and {@link ValueEncoder} need to know about a DPT, so that
+ * the DPT id is only parsed once and not for every telegram.
+ *
+ * Calimero translators are not thread-safe, each thread gets its own translator, which is reused for all telegrams
+ * with this DPT.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class DPTInfo {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DPTInfo.class);
+
+    private static final Map<String, DPTInfo> DPT_INFO_MAP = new ConcurrentHashMap<>();
+
+    private final String dptId;
+    private final boolean valid;
+    private final @Nullable String id;
+    private final @Nullable String mainType;
+    private final String subType;
+    private final @Nullable DPT dpt;
+    private final @Nullable String translatorError;
+    private final @Nullable ThreadLocal<DPTXlator> translator;
+    private final Set<Class<? extends Type>> allowedTypes;
+    private final @Nullable String unit;
+    private final @Nullable Unit<?> quantityUnit;
+
+    private DPTInfo(String dptId) {
+        this.dptId = dptId;
+        String translatorDptId = DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId);
+
+        DPT dpt = null;
+        String translatorError = null;
+        try {
+            dpt = TranslatorTypes.createTranslator(0, translatorDptId).getType();
+        } catch (KNXException e) {
+            translatorError = e.getMessage();
+        } catch (RuntimeException e) {
+            // Calimero throws a NumberFormatException or KNXIllegalArgumentException for malformed ids
+            translatorError = "failed to create translator for DPT " + dptId + ": " + e.getMessage();
+        }
+        this.dpt = dpt;
+        this.translatorError = translatorError;
+        this.translator = dpt == null ? null : ThreadLocal.withInitial(() -> createTranslator(translatorDptId));
+
+        // prefer using the user-supplied DPT
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        this.valid = m.matches() && m.groupCount() == 2;
+        String id = dptId;
+        if (!valid && dpt != null) {
+            LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
+                    dptId);
+            id = dpt.getID();
+            m = DPTUtil.DPT_PATTERN.matcher(id);
+        }
+        if (valid || (dpt != null && m.matches() && m.groupCount() == 2)) {
+            this.id = id;
+            this.mainType = m.group("main");
+            String subType = m.group("sub");
+            this.subType = subType == null ? "" : subType;
+            this.allowedTypes = DPTUtil.getAllowedTypes(id);
+            this.unit = DPTUnits.getUnitForDpt(id);
+        } else {
+            this.id = null;
+            this.mainType = null;
+            this.subType = "";
+            this.allowedTypes = Set.of();
+            this.unit = null;
+        }
+        String unit = this.unit;
+        this.quantityUnit = unit == null ? null : DPTUnits.parseUnit(unit);
+    }
+
+    /**
+     * get the information for a DPT
+     *
+     * @param dptId the DPT id as supplied by the user
+     * @return the (cached) information
+     */
+    static DPTInfo get(String dptId) {
+        DPTInfo info = DPT_INFO_MAP.get(dptId);
+        if (info == null) {
+            info = DPT_INFO_MAP.computeIfAbsent(dptId, DPTInfo::new);
+        }
+        return info;
+    }
+
+    private static DPTXlator createTranslator(String translatorDptId) {
+        try {
+            return TranslatorTypes.createTranslator(0, translatorDptId);
+        } catch (KNXException e) {
+            // can't happen, creating the translator already succeeded once
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the DPT id as supplied by the user
+     */
+    String getDptId() {
+        return dptId;
+    }
+
+    /**
+     * @return true if the user-supplied DPT id is a valid main/sub DPT
+     */
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return the DPT id used for conversions, i.e. the user-supplied id or the id of the translator if the
+     *         user-supplied id is not valid, or null if neither is valid
+     */
+    @Nullable
+    String getId() {
+        return id;
+    }
+
+    @Nullable
+    String getMainType() {
+        return mainType;
+    }
+
+    /**
+     * @return the sub type or an empty string if the DPT id has no sub type
+     */
+    String getSubType() {
+        return subType;
+    }
+
+    /**
+     * get the translator of the current thread
+     *
+     * @return a translator for this DPT, the data has to be set before using it
+     * @throws KNXException if Calimero does not provide a translator for this DPT
+     */
+    DPTXlator getTranslator() throws KNXException {
+        ThreadLocal<DPTXlator> translator = this.translator;
+        if (translator == null) {
+            throw new KNXException(translatorError);
+        }
+        return translator.get();
+    }
+
+    /**
+     * @return the Calimero DPT
+     * @throws KNXException if Calimero does not provide a translator for this DPT
+     */
+    DPT getDpt() throws KNXException {
+        DPT dpt = this.dpt;
+        if (dpt == null) {
+            throw new KNXException(translatorError);
+        }
+        return dpt;
+    }
+
+    Set<Class<? extends Type>> getAllowedTypes() {
+        return allowedTypes;
+    }
+
+    /**
+     * @return the unit string as provided by {@link DPTUnits#getUnitForDpt(String)}
+     */
+    @Nullable
+    String getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return the parsed unit or null if there is no unit or it can't be parsed
+     */
+    @Nullable
+    Unit<?> getQuantityUnit() {
+        return quantityUnit;
+    }
+}
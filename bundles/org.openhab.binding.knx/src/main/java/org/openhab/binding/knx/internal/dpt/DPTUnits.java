@@ -18,8 +18,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 
@@ -58,6 +61,24 @@ public class DPTUnits {
         return DPT_UNIT_MAP.get(dptId);
     }
 
+    /**
+     * parse a unit string as provided by {@link #getUnitForDpt(String)}
+     *
+     * The unit is parsed the same way as a {@link QuantityType} created from a string, so that a
+     * {@link QuantityType} created with the numeric value and the returned unit is equal to one created from the
+     * value and the unit string.
+     *
+     * @param unit the unit string
+     * @return the unit or null if the unit can't be parsed
+     */
+    public static @Nullable Unit<?> parseUnit(String unit) {
+        try {
+            return new QuantityType<>("1 " + unit).getUnit();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * for testing purposes only
      *
@@ -24,6 +24,8 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
@@ -55,7 +57,6 @@ import tuwien.auto.calimero.dptxlator.DPTXlator8BitUnsigned;
 import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
-import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  * This class decodes raw data received from the KNX bus to an openHAB datatype
@@ -114,56 +115,42 @@ public class ValueDecoder {
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
-            String value = "";
-            String translatorDptId = dptId;
+            DPTInfo info = DPTInfo.get(dptId);
             DPTXlator translator;
             try {
-                translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+                translator = info.getTranslator();
                 translator.setData(data);
-                value = translator.getValue();
-                translatorDptId = translator.getType().getID();
             } catch (KNXException e) {
                 // special handling for decoding DPTs not yet supported by Calimero
                 if ("235.001".equals(dptId)) {
                     if (!check235001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "13.010");
+                    info = DPTInfo.get("13.010");
+                    translator = info.getTranslator();
                     translator.setData(data);
-                    value = translator.getValue();
-                    dptId = "13.010";
-                    translatorDptId = dptId;
                 } else if ("235.61001".equals(dptId)) {
                     if (!check23561001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "5.006");
+                    info = DPTInfo.get("5.006");
+                    translator = info.getTranslator();
                     translator.setData(new byte[] { data[4] });
-                    value = translator.getValue();
-                    dptId = "5.006";
-                    translatorDptId = dptId;
                 } else {
                     // no known special case, handle unknown translator outer try block
                     throw e;
                 }
             }
-            String id = dptId; // prefer using the user-supplied DPT
-
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
-                LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
-                        id);
-                id = translatorDptId;
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
-                    LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
-                    return null;
-                }
+
+            String id = info.getId();
+            String mainType = info.getMainType();
+            if (id == null || mainType == null) {
+                LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", info.getDptId());
+                return null;
             }
             LOGGER.trace("Finally using datapoint DPT = {}", id);
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+            String subType = info.getSubType();
 
             switch (mainType) {
                 case "1":
@@ -177,9 +164,9 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "6":
                     if ("020".equals(subType)) {
-                        return handleStringOrDecimal(data, value, preferredType, 8);
+                        return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                     } else {
-                        return handleNumericDpt(id, translator, preferredType);
+                        return handleNumericDpt(info, translator, preferredType);
                     }
                 case "9":
                     if ((data.length == 2) && (data[0] == (byte) 0x7f) && (data[1] == (byte) 0xff)) {
@@ -187,16 +174,16 @@ public class ValueDecoder {
                         LOGGER.debug("Ignoring incoming packet for DPT '{}', 0x7fff indicates invalid value", id);
                         return null;
                     }
-                    return handleNumericDpt(id, translator, preferredType);
+                    return handleNumericDpt(info, translator, preferredType);
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
                     return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
+                            .format(new SimpleDateFormat(DATE_FORMAT).parse(translator.getValue())));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -204,20 +191,21 @@ public class ValueDecoder {
                     return handleDpt19(translator, data);
                 case "20":
                 case "21":
-                    return handleStringOrDecimal(data, value, preferredType, 8);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                 case "22":
-                    return handleStringOrDecimal(data, value, preferredType, 16);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 16);
                 case "16":
                 case "28":
                 case "250": // Map all combined color transitions to String,
                 case "252": // as no native support is planned.
                 case "253": // Currently only one subtype 2xx.600
                 case "254": // is defined for those DPTs.
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "243": // color translation, fix regional
                 case "249": // settings
                     // workaround for different number formats, this is to fix time>=1000s:
                     // time is last block and may contain . and ,
+                    String value = translator.getValue();
                     int sep = java.lang.Math.max(value.indexOf(" % "), value.indexOf(" K "));
                     String time = value.substring(sep + 3);
                     Matcher mt = TSD_SEPARATOR.matcher(time);
@@ -228,13 +216,13 @@ public class ValueDecoder {
                     value = value.substring(0, sep + 3) + time;
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(translator.getValue(), subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(translator.getValue());
                 case "251":
-                    return handleDpt251(value, subType, preferredType);
+                    return handleDpt251(translator.getValue(), subType, preferredType);
                 default:
-                    return handleNumericDpt(id, translator, preferredType);
+                    return handleNumericDpt(info, translator, preferredType);
             }
         } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
             LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
@@ -492,9 +480,10 @@ public class ValueDecoder {
         return null;
     }
 
-    private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
-            throws KNXFormatException {
-        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
+    private static @Nullable Type handleNumericDpt(DPTInfo info, DPTXlator translator,
+            Class<? extends Type> preferredType) throws KNXFormatException {
+        String id = info.getId();
+        Set<Class<? extends Type>> allowedTypes = info.getAllowedTypes();
 
         double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
@@ -503,9 +492,19 @@ public class ValueDecoder {
         }
 
         if (allowedTypes.contains(QuantityType.class) && !disableUoM) {
-            String unit = DPTUnits.getUnitForDpt(id);
+            String unit = info.getUnit();
             if (unit != null) {
                 try {
+                    Unit<?> quantityUnit = info.getQuantityUnit();
+                    if (quantityUnit != null) {
+                        // same result as parsing value and unit string, without formatting and parsing them
+                        if (translator instanceof DPTXlator64BitSigned translatorSigned) {
+                            // prevent loss of precision, do not represent 64bit decimal using double
+                            return new QuantityType<>(BigDecimal.valueOf(translatorSigned.getValueSigned()),
+                                    quantityUnit);
+                        }
+                        return new QuantityType<>(BigDecimal.valueOf(value), quantityUnit);
+                    }
                     if (translator instanceof DPTXlator64BitSigned translatorSigned) {
                         // prevent loss of precision, do not represent 64bit decimal using double
                         return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
@@ -12,13 +12,10 @@
  */
 package org.openhab.binding.knx.internal.dpt;
 
-import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.Locale;
-import java.util.regex.Matcher;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -42,7 +39,6 @@ import org.slf4j.LoggerFactory;
 
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.dptxlator.DPT;
-import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteFloat;
 import tuwien.auto.calimero.dptxlator.DPTXlator3BitControlled;
@@ -51,7 +47,6 @@ import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDate;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorTime;
-import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  * This class encodes openHAB data types to strings for sending via Calimero
@@ -76,18 +71,15 @@ public class ValueEncoder {
      * @return the value formatted as String
      */
     public static @Nullable String encode(Type value, String dptId) {
-        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
-        if (!m.matches() || m.groupCount() != 2) {
+        DPTInfo info = DPTInfo.get(dptId);
+        String mainNumber = info.getMainType();
+        if (!info.isValid() || mainNumber == null) {
             LOGGER.warn("Couldn't identify main/sub number in dptId '{}'", dptId);
             return null;
         }
 
-        String mainNumber = m.group("main");
-
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(Integer.parseInt(mainNumber),
-                    NORMALIZED_DPT.getOrDefault(dptId, dptId));
-            DPT dpt = translator.getType();
+            DPT dpt = info.getDpt();
 
             // check for HSBType first, because it extends PercentType as well
             if (value instanceof HSBType type) {
@@ -108,7 +100,7 @@ public class ValueEncoder {
                 int intValue = type.intValue();
                 return "251.600".equals(dptId) ? String.format("- - - %d %%", intValue) : String.valueOf(intValue);
             } else if (value instanceof DecimalType || value instanceof QuantityType<?>) {
-                return handleNumericTypes(dptId, mainNumber, dpt, value);
+                return handleNumericTypes(info, mainNumber, dpt, value);
             } else if (value instanceof StringType) {
                 if ("243.600".equals(dptId) || "249.600".equals(dptId)) {
                     return value.toString().replace('.', ((DecimalFormat) DecimalFormat.getInstance())
@@ -182,12 +174,13 @@ public class ValueEncoder {
         }
     }
 
-    private static String handleNumericTypes(String dptId, String mainNumber, DPT dpt, Type value) {
+    private static String handleNumericTypes(DPTInfo info, String mainNumber, DPT dpt, Type value) {
+        String dptId = info.getDptId();
         BigDecimal bigDecimal;
         if (value instanceof DecimalType decimalType) {
             bigDecimal = decimalType.toBigDecimal();
         } else {
-            String unit = DPTUnits.getUnitForDpt(dptId);
+            String unit = info.getUnit();
 
             // exception for DPT using temperature differences
             // - conversion °C or °F to K is wrong for differences,
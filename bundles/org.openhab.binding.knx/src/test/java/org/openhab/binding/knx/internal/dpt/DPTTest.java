@@ -14,14 +14,23 @@ package org.openhab.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,10 +39,12 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -590,6 +601,45 @@ class DPTTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("unitProvider")
+    public void unitsParsedLikeQuantityType(Map.Entry<String, String> unit) {
+        // the decoder creates QuantityTypes from the numeric value and the parsed unit
+        Unit<?> parsedUnit = DPTUnits.parseUnit(unit.getValue());
+        Assertions.assertNotNull(parsedUnit, "Failed to parse " + unit);
+        for (double value : new double[] { 0.0, -1.5, 21.37, 1.0E10 }) {
+            assertEquals(new QuantityType<>(value + " " + unit.getValue()),
+                    new QuantityType<>(BigDecimal.valueOf(value), Objects.requireNonNull(parsedUnit)));
+        }
+    }
+
+    @Test
+    public void translatorReused() throws Exception {
+        // the same thread-local translator is used for all telegrams, the data of earlier telegrams must not leak
+        assertEquals(new QuantityType<>("21.5 °C"), ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x33 },
+                QuantityType.class));
+        assertEquals(new QuantityType<>("-1.5 °C"), ValueDecoder.decode("9.001", new byte[] { (byte) 0x87, 0x6a },
+                QuantityType.class));
+        assertNull(ValueDecoder.decode("9.001", new byte[] { 0x7f, (byte) 0xff }, QuantityType.class));
+        assertEquals(new QuantityType<>("21.5 °C"), ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x33 },
+                QuantityType.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<@Nullable Type>> results = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                byte value = (byte) (i % 101);
+                results.add(executor.submit(() -> ValueDecoder.decode("5.001",
+                        new byte[] { (byte) Math.round(value * 2.55) }, PercentType.class)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(new PercentType(i % 101), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static Stream<byte[]> rgbValueProvider() {
         // Returning all combinations is too much. Implementation tries to catch rounding errors
         // but is still deterministic to get reproducible test results.
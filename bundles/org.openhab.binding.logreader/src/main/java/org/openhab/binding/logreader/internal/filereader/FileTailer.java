@@ -12,86 +12,217 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * NIO based log file reader implementation. The file is polled from a shared thread pool and read with a reusable
+ * buffer, reading starts at the end of the file.
  *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
+    private static final int BUFFER_SIZE = 65536;
+
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("logreader");
 
-    private @Nullable Tailer tailer;
-    private @Nullable ExecutorService executor;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] line = new byte[256];
+    private int lineLength;
 
-    TailerListener logListener = new TailerListenerAdapter() {
+    private @Nullable Path path;
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+    private boolean opened;
+    private long refreshRate;
+    private @Nullable ScheduledFuture<?> job;
 
-        @Override
-        public void handle(@Nullable String line) {
-            if (line == null) {
-                return;
+    @Override
+    public synchronized void start(String filePath, long refreshRate) throws FileReaderException {
+        try {
+            logger.debug("Start tailing {}", filePath);
+            Path path = Path.of(filePath);
+            this.path = path;
+            this.refreshRate = refreshRate;
+            try {
+                // lines that are written after the start are read, even if the first read is delayed
+                open(path);
+            } catch (IOException e) {
+                // reported by the first read
             }
+            this.job = scheduler.scheduleWithFixedDelay(this::poll, 0, refreshRate, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new FileReaderException(e);
+        }
+    }
+
+    /**
+     * @return the time in ms between two reads
+     */
+    public synchronized long getRefreshRate() {
+        return refreshRate;
+    }
 
-            sendLineToListeners(line);
+    /**
+     * Change the time between two reads, the file is read immediately.
+     *
+     * @param refreshRate the time in ms between two reads
+     */
+    public synchronized void setRefreshRate(long refreshRate) {
+        ScheduledFuture<?> job = this.job;
+        if (job != null && refreshRate != this.refreshRate) {
+            job.cancel(false);
+            this.job = scheduler.scheduleWithFixedDelay(this::poll, 0, refreshRate, TimeUnit.MILLISECONDS);
         }
+        this.refreshRate = refreshRate;
+    }
 
-        @Override
-        public void fileNotFound() {
-            sendFileNotFoundToListeners();
+    @Override
+    public synchronized void stop() {
+        logger.debug("Shutdown");
+        ScheduledFuture<?> job = this.job;
+        if (job != null) {
+            job.cancel(false);
+            this.job = null;
         }
+        closeChannel();
+        logger.debug("Shutdown complete");
+    }
 
-        @Override
-        public void handle(@Nullable Exception e) {
-            if (e == null) {
-                return;
+    private synchronized void poll() {
+        Path path = this.path;
+        if (path == null || job == null) {
+            return;
+        }
+        try {
+            FileChannel channel = this.channel;
+            if (channel == null) {
+                try {
+                    channel = open(path);
+                } catch (NoSuchFileException e) {
+                    sendFileNotFoundToListeners();
+                    return;
+                }
             }
 
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                // the file is being rotated, continue reading the old file until the new one exists
+                readLines(channel);
+                return;
+            }
+            Object key = attributes.fileKey();
+            if (key != null && !key.equals(fileKey)) {
+                logger.debug("File {} was replaced", path);
+                sendFileRotationToListeners();
+                // finish reading the old file before starting with the new one
+                readLines(channel);
+                closeChannel();
+                channel = open(path);
+            } else if (attributes.size() < position) {
+                logger.debug("File {} was truncated", path);
+                sendFileRotationToListeners();
+                position = 0;
+                lineLength = 0;
+            }
+            readLines(channel);
+        } catch (IOException e) {
+            closeChannel();
             sendExceptionToListeners(e);
         }
+    }
 
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
+    private FileChannel open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.channel = channel;
+        Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        if (!opened) {
+            // start at the end of the file
+            position = channel.size();
+        } else if (!Objects.equals(key, fileKey) || channel.size() < position) {
+            // a new file after a rotation is read from the start, the same file is read from the last position
+            position = 0;
+            lineLength = 0;
         }
-    };
+        fileKey = key;
+        opened = true;
+        return channel;
+    }
 
-    @Override
-    public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-        executor = Executors.newSingleThreadExecutor();
-        try {
-            logger.debug("Start executor");
-            executor.execute(localTailer);
-            logger.debug("Executor started");
-            this.tailer = localTailer;
-        } catch (Exception e) {
-            throw new FileReaderException(e);
+    private void closeChannel() {
+        FileChannel channel = this.channel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close {}: {}", path, e.getMessage());
+            }
+            this.channel = null;
         }
     }
 
-    @Override
-    public void stop() {
-        logger.debug("Shutdown");
-        if (tailer != null) {
-            tailer.stop();
+    private void readLines(FileChannel channel) throws IOException {
+        int read;
+        while ((read = channel.read(buffer.clear(), position)) > 0) {
+            position += read;
+            byte[] bytes = buffer.array();
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    appendToLine(bytes, lineStart, i - lineStart);
+                    sendLine();
+                    lineStart = i + 1;
+                }
+            }
+            // keep the incomplete last line until the rest of it is written
+            appendToLine(bytes, lineStart, read - lineStart);
+        }
+    }
+
+    private void appendToLine(byte[] bytes, int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(bytes, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private void sendLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
         }
-        if (executor != null) {
-            executor.shutdown();
+        String text = new String(line, 0, length, StandardCharsets.UTF_8);
+        lineLength = 0;
+        if (line.length > BUFFER_SIZE) {
+            // don't keep the memory of an exceptionally long line
+            line = new byte[256];
         }
-        logger.debug("Shutdown complite");
+        sendLineToListeners(text);
     }
 }
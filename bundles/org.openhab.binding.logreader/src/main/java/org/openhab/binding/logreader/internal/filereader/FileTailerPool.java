@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Keeps a single {@link FileTailer} per file, so that a file which is monitored by several things is read only once.
+ * The tailer of a file is started with its first listener and stopped when the last listener is released. Files are
+ * identified by their real path, so different paths to the same file share the tailer.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerPool {
+    private final Map<Path, PooledTailer> tailers = new HashMap<>();
+
+    /**
+     * Register a listener for a file. If the file is already read for other listeners, the tailer is shared and read
+     * with the shortest refresh rate of all listeners.
+     *
+     * @param filePath file to read.
+     * @param refreshRate how often file is read.
+     * @param listener the listener.
+     * @throws FileReaderException
+     */
+    public synchronized void acquire(String filePath, long refreshRate, FileReaderListener listener)
+            throws FileReaderException {
+        Path key = keyOf(filePath);
+        PooledTailer pooledTailer = tailers.get(key);
+        if (pooledTailer == null) {
+            pooledTailer = new PooledTailer();
+            pooledTailer.refreshRates.put(listener, refreshRate);
+            pooledTailer.tailer.registerListener(listener);
+            pooledTailer.tailer.start(filePath, refreshRate);
+            tailers.put(key, pooledTailer);
+        } else {
+            pooledTailer.refreshRates.put(listener, refreshRate);
+            pooledTailer.tailer.registerListener(listener);
+            pooledTailer.tailer.setRefreshRate(pooledTailer.getRefreshRate());
+        }
+    }
+
+    /**
+     * Unregister a listener. The file is no longer read if this was the last listener, otherwise it is read with the
+     * shortest refresh rate of the remaining listeners.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void release(FileReaderListener listener) {
+        for (Iterator<PooledTailer> iterator = tailers.values().iterator(); iterator.hasNext();) {
+            PooledTailer pooledTailer = iterator.next();
+            if (pooledTailer.refreshRates.remove(listener) != null) {
+                pooledTailer.tailer.unregisterListener(listener);
+                if (pooledTailer.refreshRates.isEmpty()) {
+                    pooledTailer.tailer.stop();
+                    iterator.remove();
+                } else {
+                    pooledTailer.tailer.setRefreshRate(pooledTailer.getRefreshRate());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stop reading all files.
+     */
+    public synchronized void stopAll() {
+        tailers.values().forEach(pooledTailer -> pooledTailer.tailer.stop());
+        tailers.clear();
+    }
+
+    // Visible for testing
+    synchronized long getRefreshRate(String filePath) throws FileReaderException {
+        PooledTailer pooledTailer = tailers.get(keyOf(filePath));
+        return pooledTailer != null ? pooledTailer.tailer.getRefreshRate() : 0;
+    }
+
+    private static Path keyOf(String filePath) throws FileReaderException {
+        try {
+            Path path = Path.of(filePath).toAbsolutePath().normalize();
+            try {
+                return path.toRealPath();
+            } catch (IOException e) {
+                // the file does not exist yet
+                return path;
+            }
+        } catch (InvalidPathException e) {
+            throw new FileReaderException(e);
+        }
+    }
+
+    private static class PooledTailer {
+        private final FileTailer tailer = new FileTailer();
+        private final Map<FileReaderListener, Long> refreshRates = new HashMap<>();
+
+        long getRefreshRate() {
+            return refreshRates.values().stream().mapToLong(Long::longValue).min().orElse(tailer.getRefreshRate());
+        }
+    }
+}
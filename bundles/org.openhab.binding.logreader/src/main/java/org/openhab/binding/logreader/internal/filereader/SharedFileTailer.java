@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+
+/**
+ * Log file reader implementation which receives the lines from a {@link FileTailer} that is shared with all other
+ * readers of the same file.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedFileTailer extends AbstractLogFileReader implements LogFileReader, FileReaderListener {
+    private final FileTailerPool pool;
+    private @Nullable String filePath;
+
+    public SharedFileTailer(FileTailerPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public synchronized void start(String filePath, long refreshRate) throws FileReaderException {
+        pool.acquire(filePath, refreshRate, this);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public synchronized void stop() {
+        String filePath = this.filePath;
+        if (filePath != null) {
+            pool.release(this);
+            this.filePath = null;
+        }
+    }
+
+    @Override
+    public void fileNotFound() {
+        sendFileNotFoundToListeners();
+    }
+
+    @Override
+    public void fileRotated() {
+        sendFileRotationToListeners();
+    }
+
+    @Override
+    public void handle(@Nullable String line) {
+        if (line != null) {
+            sendLineToListeners(line);
+        }
+    }
+
+    @Override
+    public void handle(@Nullable Exception ex) {
+        if (ex != null) {
+            sendExceptionToListeners(ex);
+        }
+    }
+}
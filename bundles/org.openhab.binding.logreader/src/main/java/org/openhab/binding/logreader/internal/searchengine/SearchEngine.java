@@ -17,20 +17,22 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * This class implements logic for regular expression based searching.
+ * This class implements logic for regular expression based searching. It is not thread-safe, the matchers are reused
+ * for all data.
  *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private List<Matcher> matchers;
+    private List<Matcher> blacklistingMatchers;
 
     private long matchCount;
 
@@ -75,12 +77,13 @@ public class SearchEngine {
     }
 
     /**
-     * Split pattern string and precompile search patterns.
+     * Split pattern string and precompile search patterns. The patterns are combined to a single pattern if possible,
+     * so that the data only needs to be searched once.
      *
      * @param patterns patterns which will handled.
-     * @return list of precompiled patterns. If pattern parameter is null, empty list is returned.
+     * @return list of matchers for the precompiled patterns. If pattern parameter is null, empty list is returned.
      */
-    private List<Pattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
+    private List<Matcher> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
         List<Pattern> patternsList = new ArrayList<>();
         if (patterns != null && !patterns.isEmpty()) {
             String[] list = patterns.split("\\|");
@@ -90,18 +93,35 @@ public class SearchEngine {
                 }
             }
         }
-        return patternsList;
+        if (patternsList.size() > 1 && patternsList.stream().allMatch(this::isCombinable)) {
+            String combined = patternsList.stream().map(pattern -> "(?:" + pattern.pattern() + ")")
+                    .collect(Collectors.joining("|"));
+            patternsList = List.of(Pattern.compile(combined));
+        }
+        List<Matcher> matchersList = new ArrayList<>();
+        for (Pattern pattern : patternsList) {
+            matchersList.add(pattern.matcher(""));
+        }
+        return matchersList;
+    }
+
+    /**
+     * Patterns with groups (back references would refer to the wrong group), quotes or comments (which could
+     * include the closing parenthesis) are not combined.
+     */
+    private boolean isCombinable(Pattern pattern) {
+        String patternStr = pattern.pattern();
+        return pattern.matcher("").groupCount() == 0 && !patternStr.contains("\\Q") && !patternStr.contains("#");
     }
 
     private boolean notBlacklisted(String data) {
         return !isMatching(blacklistingMatchers, data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
+    private boolean isMatching(@Nullable List<Matcher> matchers, String data) {
+        if (matchers != null) {
+            for (Matcher matcher : matchers) {
+                if (matcher.reset(data).find()) {
                     return true;
                 }
             }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests {@link FileTailerPool}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerPoolTest {
+    private @TempDir @NonNullByDefault({}) Path folder;
+    private @NonNullByDefault({}) Path logFile;
+
+    private final FileTailerPool pool = new FileTailerPool();
+    private final FileReaderListener slowListener = mock(FileReaderListener.class);
+    private final FileReaderListener fastListener = mock(FileReaderListener.class);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        logFile = folder.resolve("openhab.log");
+        Files.writeString(logFile, "");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.stopAll();
+    }
+
+    @Test
+    public void testPathsToSameFileShareTailer() throws IOException, FileReaderException {
+        pool.acquire(logFile.toString(), 1000, slowListener);
+        pool.acquire(folder.resolve(".").resolve("openhab.log").toString(), 10, fastListener);
+        assertEquals(10, pool.getRefreshRate(logFile.toString()));
+
+        Files.writeString(logFile, "line\n", StandardOpenOption.APPEND);
+
+        verify(slowListener, timeout(5000)).handle("line");
+        verify(fastListener, timeout(5000)).handle("line");
+    }
+
+    @Test
+    public void testRefreshRateFollowsFastestListener() throws FileReaderException {
+        String filePath = logFile.toString();
+        pool.acquire(filePath, 1000, slowListener);
+        assertEquals(1000, pool.getRefreshRate(filePath));
+
+        pool.acquire(filePath, 100, fastListener);
+        assertEquals(100, pool.getRefreshRate(filePath));
+
+        // the refresh rate is raised again when the fastest listener leaves
+        pool.release(fastListener);
+        assertEquals(1000, pool.getRefreshRate(filePath));
+
+        pool.release(slowListener);
+        assertEquals(0, pool.getRefreshRate(filePath));
+    }
+}
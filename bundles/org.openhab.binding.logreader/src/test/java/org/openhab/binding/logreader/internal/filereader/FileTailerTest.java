@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests {@link FileTailer} on temporary files.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerTest {
+    private static final long REFRESH_RATE = 10;
+    private static final long TIMEOUT = 5000;
+
+    private @TempDir @NonNullByDefault({}) Path folder;
+    private @NonNullByDefault({}) Path logFile;
+
+    private final FileTailer tailer = new FileTailer();
+    private final FileReaderListener listener = mock(FileReaderListener.class);
+
+    @BeforeEach
+    public void setUp() throws IOException, FileReaderException {
+        logFile = folder.resolve("openhab.log");
+        Files.writeString(logFile, "existing line\n");
+        tailer.registerListener(listener);
+        tailer.start(logFile.toString(), REFRESH_RATE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tailer.stop();
+    }
+
+    @Test
+    public void testReadingStartsAtEndOfFile() throws IOException {
+        append("new line\n");
+
+        verify(listener, timeout(TIMEOUT)).handle("new line");
+        verify(listener, never()).handle("existing line");
+    }
+
+    @Test
+    public void testPartialLineIsSentWhenComplete() throws IOException {
+        append("first line\r\nsecond ");
+        verify(listener, timeout(TIMEOUT)).handle("first line");
+
+        append("line\n");
+        verify(listener, timeout(TIMEOUT)).handle("second line");
+        verify(listener, never()).handle("second ");
+    }
+
+    @Test
+    public void testLongLine() throws IOException {
+        String longLine = "x".repeat(200_000);
+        append(longLine + "\n");
+
+        verify(listener, timeout(TIMEOUT)).handle(longLine);
+    }
+
+    @Test
+    public void testRotatedFileIsReadFromStart() throws IOException {
+        append("before rotation\n");
+        verify(listener, timeout(TIMEOUT)).handle("before rotation");
+
+        Files.move(logFile, folder.resolve("openhab.log.1"));
+        Files.writeString(logFile, "after rotation\n");
+
+        verify(listener, timeout(TIMEOUT)).fileRotated();
+        verify(listener, timeout(TIMEOUT)).handle("after rotation");
+    }
+
+    @Test
+    public void testTruncatedFileIsReadFromStart() throws IOException {
+        append("line 1\nline 2\n");
+        verify(listener, timeout(TIMEOUT)).handle("line 2");
+
+        Files.writeString(logFile, "line 3\n");
+
+        verify(listener, timeout(TIMEOUT)).fileRotated();
+        verify(listener, timeout(TIMEOUT)).handle("line 3");
+    }
+
+    @Test
+    public void testMissingFileIsReported() throws IOException, FileReaderException {
+        FileTailer missingFileTailer = new FileTailer();
+        FileReaderListener missingFileListener = mock(FileReaderListener.class);
+        missingFileTailer.registerListener(missingFileListener);
+        missingFileTailer.start(folder.resolve("missing.log").toString(), REFRESH_RATE);
+        try {
+            verify(missingFileListener, timeout(TIMEOUT)).fileNotFound();
+        } finally {
+            missingFileTailer.stop();
+        }
+    }
+
+    private void append(String text) throws IOException {
+        Files.write(logFile, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SearchEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+
+    @Test
+    public void testCombinedPatterns() {
+        SearchEngine engine = new SearchEngine("ERROR|WARN \\[.*\\]|^Exception", null);
+
+        assertTrue(engine.isMatching("2024-01-01 [ERROR] failed"));
+        assertTrue(engine.isMatching("WARN [binding] slow"));
+        assertTrue(engine.isMatching("Exception in thread"));
+        assertFalse(engine.isMatching("caused by Exception"));
+        assertFalse(engine.isMatching("WARN without brackets"));
+        assertEquals(3, engine.getMatchCount());
+    }
+
+    @Test
+    public void testAnchorsApplyToEachPattern() {
+        SearchEngine engine = new SearchEngine("^a|b$", null);
+
+        assertTrue(engine.isMatching("ax"));
+        assertTrue(engine.isMatching("xb"));
+        assertFalse(engine.isMatching("xa"));
+        assertFalse(engine.isMatching("bx"));
+    }
+
+    @Test
+    public void testPatternsWithGroupsAreMatchedSeparately() {
+        // combining these patterns would change the number of the back reference
+        SearchEngine engine = new SearchEngine("(a)\\1|(b)\\1", null);
+
+        assertTrue(engine.isMatching("xaax"));
+        assertTrue(engine.isMatching("xbbx"));
+        assertFalse(engine.isMatching("xabx"));
+    }
+
+    @Test
+    public void testQuotedPatternsAreMatchedSeparately() {
+        SearchEngine engine = new SearchEngine("\\Q(x\\E|y", null);
+
+        assertTrue(engine.isMatching("a(x"));
+        assertTrue(engine.isMatching("y"));
+        assertFalse(engine.isMatching("x"));
+    }
+
+    @Test
+    public void testBlacklistingPatterns() {
+        SearchEngine engine = new SearchEngine("ERROR|WARN", "ignored|known");
+
+        assertTrue(engine.isMatching("ERROR something"));
+        assertFalse(engine.isMatching("ERROR ignored"));
+        assertFalse(engine.isMatching("WARN known issue"));
+        assertFalse(engine.isMatching("INFO ignored"));
+        assertEquals(1, engine.getMatchCount());
+
+        engine.clearMatchCount();
+        assertEquals(0, engine.getMatchCount());
+    }
+}
@@ -18,6 +18,7 @@ import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
 import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
@@ -46,6 +47,9 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    protected volatile boolean mergeReads;
+    protected volatile int mergeReadsMaxGap;
+    protected volatile int mergeReadsMaxLength = ModbusConstants.MAX_REGISTERS_READ_COUNT;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
 
@@ -75,7 +79,13 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                     throw new IllegalStateException("endpoint null after configuration!");
                 }
                 try {
-                    comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    ModbusCommunicationInterface localComms = modbusManager
+                            .newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    if (mergeReads) {
+                        // merge the regular polls of all pollers and device specific handlers of this endpoint
+                        localComms = new ModbusReadPlanner(localComms, mergeReadsMaxGap, mergeReadsMaxLength);
+                    }
+                    comms = localComms;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -119,7 +129,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     public abstract int getSlaveId() throws EndpointNotInitializedException;
 
     /**
-     * Must be overriden by subclasses to initialize config, endpoint, and poolConfiguration
+     * Must be overriden by subclasses to initialize config, endpoint, and poolConfiguration. Merging of the regular
+     * polls is configured with mergeReads, mergeReadsMaxGap and mergeReadsMaxLength.
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
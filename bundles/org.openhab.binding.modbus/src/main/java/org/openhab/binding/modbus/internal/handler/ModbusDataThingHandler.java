@@ -16,7 +16,6 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 
 import java.math.BigDecimal;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -118,6 +117,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     }
     // data channels + 4 for read/write last error/success
     private static final int NUMER_OF_CHANNELS_HINT = CHANNEL_ID_TO_ACCEPTED_TYPES.size() + 4;
+    private static final DecimalType ONE = new DecimalType(BigDecimal.ONE);
 
     //
     // If you change the below default/initial values, please update the corresponding values in dispose()
@@ -146,12 +146,23 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
 
-    private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
+    // State of the read path with identity transformation, see processUpdatedRawValue
+    private final ReadChannel[] readChannels;
+    private volatile boolean readRawValueValid;
+    private volatile long readRawValue;
+    private volatile State readNumericState = UnDefType.UNDEF;
+    private volatile boolean readBoolValue;
+
+    private volatile long lastStatusInfoUpdateMillis;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
             null);
 
     public ModbusDataThingHandler(Thing thing) {
         super(thing);
+        readChannels = CHANNEL_ID_TO_ACCEPTED_TYPES.entrySet().stream()
+                .map(entry -> new ReadChannel(new ChannelUID(thing.getUID(), entry.getKey()), entry.getKey(),
+                        entry.getValue()))
+                .toArray(ReadChannel[]::new);
     }
 
     @Override
@@ -476,10 +487,17 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         childOfEndpoint = false;
         pollerHandler = null;
         channelCache = new HashMap<>();
-        lastStatusInfoUpdate = LocalDateTime.MIN;
+        lastStatusInfoUpdateMillis = 0;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        for (ReadChannel channel : readChannels) {
+            channel.reset();
+        }
+        readRawValueValid = false;
+        readRawValue = 0;
+        readNumericState = UnDefType.UNDEF;
+        readBoolValue = false;
     }
 
     @Override
@@ -826,15 +844,49 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         // respectively.
         // with >=16 bit types, this is index of first register
         int extractIndex;
+        // registers holding the value
+        int firstRegister = readIndex.get() - pollStart;
+        int registerCount;
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
             assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            extractIndex = firstRegister;
+            registerCount = readValueType.getBits() / 16;
         } else {
             int subIndex = readSubIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = firstRegister * itemsPerRegister + subIndex;
+            registerCount = 1;
+        }
+
+        ModbusTransformation localReadTransformation = readTransformation;
+        if (localReadTransformation != null && localReadTransformation.isIdentityTransform()) {
+            // Unchanged registers are detected before decoding the value. The value fits into a long with up to
+            // four registers.
+            boolean rawValueAvailable = firstRegister >= 0 && firstRegister + registerCount <= registers.size();
+            long rawValue = 0;
+            for (int i = 0; rawValueAvailable && i < registerCount; i++) {
+                rawValue = (rawValue << 16) | registers.getRegister(firstRegister + i);
+            }
+            boolean valueChanged = !rawValueAvailable || !readRawValueValid || rawValue != readRawValue;
+            if (valueChanged) {
+                readNumericState = ModbusBitUtilities
+                        .extractStateFromRegisters(registers, extractIndex, readValueType).map(state -> (State) state)
+                        .orElse(UnDefType.UNDEF);
+                readBoolValue = !readNumericState.equals(DecimalType.ZERO);
+                readRawValueValid = rawValueAvailable;
+                readRawValue = rawValue;
+            }
+            processUpdatedRawValue(localReadTransformation, valueChanged);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "Thing {} channels updated. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} (changed: {}) and boolValue={}. Registers {} for request {}",
+                        thing.getUID(), readValueType, readIndex, readSubIndex.orElse(0), extractIndex,
+                        readNumericState, valueChanged, readBoolValue, registers, request);
+            }
+            return;
         }
+
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
@@ -852,7 +904,28 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
-        DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
+        DecimalType numericState = boolValue ? ONE : DecimalType.ZERO;
+
+        ModbusTransformation localReadTransformation = readTransformation;
+        if (localReadTransformation != null && localReadTransformation.isIdentityTransform()) {
+            long rawValue = boolValue ? 1 : 0;
+            boolean valueChanged = !readRawValueValid || rawValue != readRawValue;
+            if (valueChanged) {
+                readNumericState = numericState;
+                readBoolValue = boolValue;
+                readRawValueValid = true;
+                readRawValue = rawValue;
+            }
+            processUpdatedRawValue(localReadTransformation, valueChanged);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "Thing {} channels updated. readValueType={}, readIndex={} -> numeric value {} (changed: {}) and boolValue={}. Bits {} for request {}",
+                        thing.getUID(), readValueType, readIndex, numericState, valueChanged, boolValue, bits,
+                        request);
+            }
+            return;
+        }
+
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
@@ -969,56 +1042,121 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (acceptedDataTypes.isEmpty()) {
                 return;
             }
-
-            State boolLikeState;
-            if (containsOnOff(acceptedDataTypes)) {
-                boolLikeState = OnOffType.from(boolValue);
-            } else if (containsOpenClosed(acceptedDataTypes)) {
-                boolLikeState = boolValue ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-            } else {
-                boolLikeState = null;
+            State transformedState = transformReadState(channelId, acceptedDataTypes, localReadTransformation,
+                    numericState, boolValue);
+            if (transformedState != null) {
+                states.put(channelUID, transformedState);
             }
+        });
 
-            State transformedState;
-            if (localReadTransformation.isIdentityTransform()) {
-                if (boolLikeState != null) {
-                    // A bit of smartness for ON/OFF and OPEN/CLOSED with boolean like items
-                    transformedState = boolLikeState;
-                } else {
-                    // Numeric states always go through transformation. This allows value of 17.5 to be
-                    // converted to
-                    // 17.5% with percent types (instead of raising error)
-                    transformedState = localReadTransformation.transformState(acceptedDataTypes, numericState);
-                }
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            states.put(lastReadSuccessUID, new DateTimeType());
+        }
+        updateExpiredChannels(states);
+        return states;
+    }
+
+    /**
+     * Transform the polled value to the state of a data channel
+     *
+     * @param channelId id of the data channel
+     * @param acceptedDataTypes data types accepted by the channel
+     * @param localReadTransformation read transformation
+     * @param numericState numeric state corresponding to polled data (or UNDEF with floating point NaN or infinity)
+     * @param boolValue boolean value corresponding to polled data
+     * @return state of the channel, or null if the transformation was unsuccessful
+     */
+    private @Nullable State transformReadState(String channelId, List<Class<? extends State>> acceptedDataTypes,
+            ModbusTransformation localReadTransformation, State numericState, boolean boolValue) {
+        State boolLikeState;
+        if (containsOnOff(acceptedDataTypes)) {
+            boolLikeState = OnOffType.from(boolValue);
+        } else if (containsOpenClosed(acceptedDataTypes)) {
+            boolLikeState = boolValue ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+        } else {
+            boolLikeState = null;
+        }
+
+        State transformedState;
+        if (localReadTransformation.isIdentityTransform()) {
+            if (boolLikeState != null) {
+                // A bit of smartness for ON/OFF and OPEN/CLOSED with boolean like items
+                transformedState = boolLikeState;
+            } else if (CHANNEL_NUMBER.equals(channelId)) {
+                // The numeric state is already a number or UNDEF, parsing its string representation would give the
+                // same state
+                transformedState = numericState;
             } else {
+                // Numeric states always go through transformation. This allows value of 17.5 to be
+                // converted to
+                // 17.5% with percent types (instead of raising error)
                 transformedState = localReadTransformation.transformState(acceptedDataTypes, numericState);
             }
+        } else {
+            transformedState = localReadTransformation.transformState(acceptedDataTypes, numericState);
+        }
 
-            if (transformedState != null) {
-                if (logger.isTraceEnabled()) {
-                    logger.trace(
-                            "Channel {} will be updated to '{}' (type {}). Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
-                            channelId, transformedState, transformedState.getClass().getSimpleName(), numericState,
-                            readValueType, boolValue,
-                            localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
-                }
-                states.put(channelUID, transformedState);
-            } else {
-                String types = String.join(", ",
-                        acceptedDataTypes.stream().map(cls -> cls.getSimpleName()).toArray(String[]::new));
-                logger.warn(
-                        "Channel {} will not be updated since transformation was unsuccessful. Channel is expecting the following data types [{}]. Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
-                        channelId, types, numericState, readValueType, boolValue,
+        if (transformedState != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(
+                        "Channel {} will be updated to '{}' (type {}). Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
+                        channelId, transformedState, transformedState.getClass().getSimpleName(), numericState,
+                        readValueType, boolValue,
                         localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
             }
-        });
+        } else {
+            String types = String.join(", ",
+                    acceptedDataTypes.stream().map(cls -> cls.getSimpleName()).toArray(String[]::new));
+            logger.warn(
+                    "Channel {} will not be updated since transformation was unsuccessful. Channel is expecting the following data types [{}]. Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
+                    channelId, types, numericState, readValueType, boolValue,
+                    localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
+        }
+        return transformedState;
+    }
+
+    /**
+     * Update linked channels with identity transformation
+     *
+     * Channel states are cached until the polled value changes, so unchanged values are neither decoded nor
+     * transformed again. Channels are updated following the same rules as with {@link #updateExpiredChannels(Map)}.
+     *
+     * @param localReadTransformation read transformation, identity transformation
+     * @param valueChanged whether {@link #readNumericState} and {@link #readBoolValue} changed since the last poll
+     */
+    private void processUpdatedRawValue(ModbusTransformation localReadTransformation, boolean valueChanged) {
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        long now = System.currentTimeMillis();
+        for (ReadChannel channel : readChannels) {
+            if (!isLinked(channel.uid)) {
+                channel.lastState = null;
+                continue;
+            }
+            if (valueChanged || !channel.stateValid) {
+                channel.state = channel.acceptedDataTypes.isEmpty() ? null
+                        : transformReadState(channel.id, channel.acceptedDataTypes, localReadTransformation,
+                                readNumericState, readBoolValue);
+                channel.stateValid = true;
+            }
+            State state = channel.state;
+            State lastState = channel.lastState;
+            channel.lastState = state;
+            if (state == null) {
+                continue;
+            }
+            long millisSinceLastUpdate = now - channel.lastUpdatedMillis;
+            if (channel.lastUpdatedMillis <= 0L || lastState == null || updateUnchangedValuesEveryMillis <= 0L
+                    || millisSinceLastUpdate > updateUnchangedValuesEveryMillis || !lastState.equals(state)) {
+                tryUpdateState(channel.uid, state);
+                channel.lastUpdatedMillis = now;
+            }
+        }
 
         ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
         if (isLinked(lastReadSuccessUID)) {
-            states.put(lastReadSuccessUID, new DateTimeType());
+            tryUpdateState(lastReadSuccessUID, new DateTimeType());
         }
-        updateExpiredChannels(states);
-        return states;
     }
 
     private void updateExpiredChannels(Map<ChannelUID, State> states) {
@@ -1066,12 +1204,17 @@ public class ModbusDataThingHandler extends BaseThingHandler {
 
     private void updateStatusIfChanged(ThingStatus status, ThingStatusDetail statusDetail,
             @Nullable String description) {
-        ThingStatusInfo newStatusInfo = new ThingStatusInfo(status, statusDetail, description);
-        Duration durationSinceLastUpdate = Duration.between(lastStatusInfoUpdate, LocalDateTime.now());
-        boolean intervalElapsed = MIN_STATUS_INFO_UPDATE_INTERVAL.minus(durationSinceLastUpdate).isNegative();
-        if (statusInfo.getStatus() == ThingStatus.UNKNOWN || !statusInfo.equals(newStatusInfo) || intervalElapsed) {
-            statusInfo = newStatusInfo;
-            lastStatusInfoUpdate = LocalDateTime.now();
+        // called with every poll, so nothing is allocated unless the status is updated
+        ThingStatusInfo statusInfo = this.statusInfo;
+        long now = System.currentTimeMillis();
+        boolean intervalElapsed = lastStatusInfoUpdateMillis <= 0
+                || now - lastStatusInfoUpdateMillis > MIN_STATUS_INFO_UPDATE_INTERVAL.toMillis();
+        if (statusInfo.getStatus() == ThingStatus.UNKNOWN || statusInfo.getStatus() != status
+                || statusInfo.getStatusDetail() != statusDetail
+                || !Objects.equals(statusInfo.getDescription(), description) || intervalElapsed) {
+            ThingStatusInfo newStatusInfo = new ThingStatusInfo(status, statusDetail, description);
+            this.statusInfo = newStatusInfo;
+            lastStatusInfoUpdateMillis = now;
             updateStatus(newStatusInfo);
         }
     }
@@ -1094,4 +1237,30 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             }
         }
     }
+
+    /**
+     * Data channel with the state derived from the last polled value, and the state last sent to the framework
+     */
+    private static class ReadChannel {
+        private final ChannelUID uid;
+        private final String id;
+        private final List<Class<? extends State>> acceptedDataTypes;
+        private @Nullable State state;
+        private boolean stateValid;
+        private @Nullable State lastState;
+        private long lastUpdatedMillis;
+
+        private ReadChannel(ChannelUID uid, String id, List<Class<? extends State>> acceptedDataTypes) {
+            this.uid = uid;
+            this.id = id;
+            this.acceptedDataTypes = acceptedDataTypes;
+        }
+
+        private void reset() {
+            state = null;
+            stateValid = false;
+            lastState = null;
+            lastUpdatedMillis = 0;
+        }
+    }
 }
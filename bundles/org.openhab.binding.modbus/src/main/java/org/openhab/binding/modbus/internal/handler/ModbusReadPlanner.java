@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ModbusCommunicationInterface} that merges the regular polls of an endpoint.
+ *
+ * All regular polls with the same slave id, function code and poll period are collected, and adjacent or overlapping
+ * polls are read with a single request. The results are split and passed to the callbacks of the original polls, as
+ * if the polls were executed separately. All other operations are delegated unchanged.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner implements ModbusCommunicationInterface {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusReadPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+    private final int maxRegisters;
+
+    private final Map<PlanKey, List<PlannedPoll>> plannedPolls = new HashMap<>();
+    private final Map<PlanKey, List<PollTask>> mergedPolls = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param comms communication interface executing the merged polls
+     * @param maxGap maximum number of registers or bits between two polls that are still merged. The registers or bits
+     *            in between are read but not used.
+     * @param maxRegisters maximum number of registers read with a merged request. Coils and discrete inputs are
+     *            limited by the protocol only.
+     */
+    public ModbusReadPlanner(ModbusCommunicationInterface comms, int maxGap, int maxRegisters) {
+        this.comms = comms;
+        this.maxGap = Math.max(0, maxGap);
+        this.maxRegisters = Math.max(1, Math.min(maxRegisters, ModbusConstants.MAX_REGISTERS_READ_COUNT));
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return comms.getEndpoint();
+    }
+
+    @Override
+    public Future<?> submitOneTimePoll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        return comms.submitOneTimePoll(request, resultCallback, failureCallback);
+    }
+
+    @Override
+    public synchronized PollTask registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            long initialDelayMillis, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedPoll poll = new PlannedPoll(request, resultCallback, failureCallback);
+        PlanKey key = new PlanKey(request.getUnitID(), request.getFunctionCode(), pollPeriodMillis);
+        plannedPolls.computeIfAbsent(key, k -> new ArrayList<>()).add(poll);
+        poll.key = key;
+        replan(key, initialDelayMillis);
+        return poll;
+    }
+
+    @Override
+    public synchronized boolean unregisterRegularPoll(PollTask task) {
+        if (!(task instanceof PlannedPoll poll)) {
+            return comms.unregisterRegularPoll(task);
+        }
+        PlanKey key = poll.key;
+        List<PlannedPoll> polls = key == null ? null : plannedPolls.get(key);
+        if (key == null || polls == null || !polls.remove(poll)) {
+            return false;
+        }
+        // keep the cadence of the remaining polls
+        replan(key, key.pollPeriodMillis);
+        return true;
+    }
+
+    @Override
+    public Future<?> submitOneTimeWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        return comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            plannedPolls.clear();
+            mergedPolls.clear();
+        }
+        // unregisters the merged polls
+        comms.close();
+    }
+
+    private void replan(PlanKey key, long initialDelayMillis) {
+        List<PollTask> previousTasks = mergedPolls.remove(key);
+        if (previousTasks != null) {
+            previousTasks.forEach(comms::unregisterRegularPoll);
+        }
+        List<PlannedPoll> polls = plannedPolls.get(key);
+        if (polls == null || polls.isEmpty()) {
+            plannedPolls.remove(key);
+            return;
+        }
+
+        List<PollTask> tasks = new ArrayList<>();
+        for (List<PlannedPoll> group : merge(polls, maxGap, maxLength(key.functionCode))) {
+            int start = group.stream().mapToInt(poll -> poll.request.getReference()).min().orElse(0);
+            int end = group.stream().mapToInt(poll -> poll.request.getReference() + poll.request.getDataLength())
+                    .max().orElse(start);
+            int maxTries = group.stream().mapToInt(poll -> poll.request.getMaxTries()).max().orElse(1);
+            ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(key.slaveId, key.functionCode, start,
+                    end - start, maxTries);
+            MergedCallback callback = new MergedCallback(List.copyOf(group));
+            tasks.add(comms.registerRegularPoll(request, key.pollPeriodMillis, initialDelayMillis, callback,
+                    callback));
+        }
+        mergedPolls.put(key, tasks);
+        logger.debug("Slave {} polls {} every {} ms with {} requests instead of {}", key.slaveId, key.functionCode,
+                key.pollPeriodMillis, tasks.size(), polls.size());
+    }
+
+    private int maxLength(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> maxRegisters;
+        };
+    }
+
+    /**
+     * Group polls so that each group can be read with a single request of at most maxLength registers or bits. Polls
+     * that are longer than maxLength are kept on their own.
+     */
+    private static List<List<PlannedPoll>> merge(List<PlannedPoll> polls, int maxGap, int maxLength) {
+        List<PlannedPoll> sorted = new ArrayList<>(polls);
+        sorted.sort(Comparator.comparingInt(poll -> poll.request.getReference()));
+        List<List<PlannedPoll>> groups = new ArrayList<>();
+        List<PlannedPoll> group = new ArrayList<>();
+        int groupStart = 0;
+        int groupEnd = 0;
+        for (PlannedPoll poll : sorted) {
+            int start = poll.request.getReference();
+            int end = start + poll.request.getDataLength();
+            if (!group.isEmpty() && start <= groupEnd + maxGap && Math.max(groupEnd, end) - groupStart <= maxLength) {
+                groupEnd = Math.max(groupEnd, end);
+            } else {
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+                group = new ArrayList<>();
+                groupStart = start;
+                groupEnd = end;
+            }
+            group.add(poll);
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private record PlanKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    /**
+     * Regular poll as registered by a poller, it is executed as part of a merged poll
+     */
+    private class PlannedPoll implements PollTask {
+        private final ModbusReadRequestBlueprint request;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+        private @Nullable PlanKey key;
+
+        PlannedPoll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        @Override
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        @Override
+        public ModbusSlaveEndpoint getEndpoint() {
+            return comms.getEndpoint();
+        }
+
+        @Override
+        public ModbusReadCallback getResultCallback() {
+            return resultCallback;
+        }
+
+        @Override
+        public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+            return failureCallback;
+        }
+    }
+
+    /**
+     * Splits the result of a merged poll and passes the parts to the callbacks of the planned polls
+     */
+    private class MergedCallback implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final List<PlannedPoll> polls;
+
+        MergedCallback(List<PlannedPoll> polls) {
+            this.polls = polls;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            int start = result.getRequest().getReference();
+            result.getRegisters().ifPresent(registers -> {
+                byte[] bytes = registers.getBytes();
+                for (PlannedPoll poll : polls) {
+                    int offset = (poll.request.getReference() - start) * 2;
+                    byte[] slice = Arrays.copyOfRange(bytes, offset, offset + poll.request.getDataLength() * 2);
+                    notify(poll, new AsyncModbusReadResult(poll.request, new ModbusRegisterArray(slice)));
+                }
+            });
+            result.getBits().ifPresent(bits -> {
+                for (PlannedPoll poll : polls) {
+                    int offset = poll.request.getReference() - start;
+                    BitArray slice = new BitArray(poll.request.getDataLength());
+                    for (int i = 0; i < slice.size(); i++) {
+                        slice.setBit(i, bits.getBit(offset + i));
+                    }
+                    notify(poll, new AsyncModbusReadResult(poll.request, slice));
+                }
+            });
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedPoll poll : polls) {
+                try {
+                    poll.failureCallback.handle(new AsyncModbusFailure<>(poll.request, failure.getCause()));
+                } catch (RuntimeException e) {
+                    logger.warn("Error handling the failure of {}: {}", poll.request, e.getMessage(), e);
+                }
+            }
+        }
+
+        private void notify(PlannedPoll poll, AsyncModbusReadResult result) {
+            try {
+                poll.resultCallback.handle(result);
+            } catch (RuntimeException e) {
+                // the other polls must still receive their part of the result
+                logger.warn("Error handling the result of {}: {}", poll.request, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -61,6 +61,10 @@ public class ModbusTcpThingHandler
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
+
+        mergeReads = config.isMergeReads();
+        mergeReadsMaxGap = config.getMergeReadsMaxGap();
+        mergeReadsMaxLength = config.getMergeReadsMaxLength();
     }
 
     @SuppressWarnings("null") // since Optional.map is always called with NonNull argument
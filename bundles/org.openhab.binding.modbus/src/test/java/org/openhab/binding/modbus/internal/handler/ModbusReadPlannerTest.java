@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private final List<ModbusReadRequestBlueprint> registeredRequests = new ArrayList<>();
+    private final List<ModbusReadCallback> registeredCallbacks = new ArrayList<>();
+    private final List<ModbusFailureCallback<ModbusReadRequestBlueprint>> registeredFailureCallbacks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            registeredRequests.add(invocation.getArgument(0));
+            registeredCallbacks.add(invocation.getArgument(3));
+            registeredFailureCallbacks.add(invocation.getArgument(4));
+            return mock(PollTask.class);
+        });
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    private ModbusReadRequestBlueprint lastRegisteredRequest() {
+        return registeredRequests.get(registeredRequests.size() - 1);
+    }
+
+    @Test
+    public void testAdjacentPollsAreMerged() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0, 125);
+        ModbusReadCallback callback1 = mock(ModbusReadCallback.class);
+        ModbusReadCallback callback2 = mock(ModbusReadCallback.class);
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2), 1000, 0, callback1,
+                failure -> {
+                });
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 3), 1000, 0, callback2,
+                failure -> {
+                });
+
+        ModbusReadRequestBlueprint merged = lastRegisteredRequest();
+        assertEquals(0, merged.getReference());
+        assertEquals(5, merged.getDataLength());
+        verify(comms, times(1)).unregisterRegularPoll(any());
+
+        registeredCallbacks.get(registeredCallbacks.size() - 1)
+                .handle(new AsyncModbusReadResult(merged, new ModbusRegisterArray(10, 11, 12, 13, 14)));
+
+        ArgumentCaptor<AsyncModbusReadResult> result1 = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callback1).handle(result1.capture());
+        assertEquals(0, result1.getValue().getRequest().getReference());
+        assertEquals(new ModbusRegisterArray(10, 11), result1.getValue().getRegisters().get());
+
+        ArgumentCaptor<AsyncModbusReadResult> result2 = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callback2).handle(result2.capture());
+        assertEquals(2, result2.getValue().getRequest().getReference());
+        assertEquals(new ModbusRegisterArray(12, 13, 14), result2.getValue().getRegisters().get());
+    }
+
+    @Test
+    public void testGapAndMaxLengthAreRespected() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 2, 10);
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2), 1000, 0, result -> {
+        }, failure -> {
+        });
+        // gap of 2 registers is merged
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 4, 2), 1000, 0, result -> {
+        }, failure -> {
+        });
+        registeredRequests.clear();
+        // gap of 3 registers is not merged
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 9, 1), 1000, 0, result -> {
+        }, failure -> {
+        });
+        assertEquals(2, registeredRequests.size());
+        assertEquals(0, registeredRequests.get(0).getReference());
+        assertEquals(6, registeredRequests.get(0).getDataLength());
+        assertEquals(9, registeredRequests.get(1).getReference());
+
+        registeredRequests.clear();
+        // merging with the first request would exceed 10 registers
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 8, 4), 1000, 0, result -> {
+        }, failure -> {
+        });
+        assertEquals(2, registeredRequests.size());
+        assertEquals(0, registeredRequests.get(0).getReference());
+        assertEquals(6, registeredRequests.get(0).getDataLength());
+        assertEquals(8, registeredRequests.get(1).getReference());
+        assertEquals(4, registeredRequests.get(1).getDataLength());
+    }
+
+    @Test
+    public void testDifferentFunctionCodesAndPeriodsAreNotMerged() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0, 125);
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2), 1000, 0, result -> {
+        }, failure -> {
+        });
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2), 1000, 0,
+                result -> {
+                }, failure -> {
+                });
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 2, 2), 500, 0, result -> {
+        }, failure -> {
+        });
+        assertEquals(3, registeredRequests.size());
+        verify(comms, never()).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testBitsAreSplit() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0, 125);
+        ModbusReadCallback callback = mock(ModbusReadCallback.class);
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_COILS, 0, 3), 1000, 0, result -> {
+        }, failure -> {
+        });
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_COILS, 3, 2), 1000, 0, callback, failure -> {
+        });
+
+        ModbusReadRequestBlueprint merged = lastRegisteredRequest();
+        assertEquals(5, merged.getDataLength());
+        registeredCallbacks.get(registeredCallbacks.size() - 1)
+                .handle(new AsyncModbusReadResult(merged, new BitArray(false, false, false, true, false)));
+
+        ArgumentCaptor<AsyncModbusReadResult> result = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callback).handle(result.capture());
+        BitArray bits = result.getValue().getBits().get();
+        assertEquals(2, bits.size());
+        assertTrue(bits.getBit(0));
+        assertFalse(bits.getBit(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testFailureIsPassedToAllPolls() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0, 125);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback1 = mock(ModbusFailureCallback.class);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback2 = mock(ModbusFailureCallback.class);
+        ModbusReadRequestBlueprint request1 = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint request2 = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2);
+        planner.registerRegularPoll(request1, 1000, 0, result -> {
+        }, failureCallback1);
+        planner.registerRegularPoll(request2, 1000, 0, result -> {
+        }, failureCallback2);
+
+        Exception cause = new Exception("timeout");
+        registeredFailureCallbacks.get(registeredFailureCallbacks.size() - 1)
+                .handle(new AsyncModbusFailure<>(lastRegisteredRequest(), cause));
+
+        ArgumentCaptor<AsyncModbusFailure<ModbusReadRequestBlueprint>> failure1 = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallback1).handle(failure1.capture());
+        assertSame(request1, failure1.getValue().getRequest());
+        assertSame(cause, failure1.getValue().getCause());
+        verify(failureCallback2).handle(any());
+    }
+
+    @Test
+    public void testUnregisterReplans() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0, 125);
+        PollTask task1 = planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2),
+                1000, 0, result -> {
+                }, failure -> {
+                });
+        PollTask task2 = planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2),
+                1000, 0, result -> {
+                }, failure -> {
+                });
+
+        assertTrue(planner.unregisterRegularPoll(task1));
+        assertEquals(2, lastRegisteredRequest().getReference());
+        assertEquals(2, lastRegisteredRequest().getDataLength());
+        assertFalse(planner.unregisterRegularPoll(task1));
+
+        registeredRequests.clear();
+        assertTrue(planner.unregisterRegularPoll(task2));
+        assertTrue(registeredRequests.isEmpty());
+        verify(comms, times(3)).unregisterRegularPoll(any());
+    }
+}
@@ -85,6 +85,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
+    private final MqttTopicDispatcher topicDispatcher = new MqttTopicDispatcher();
 
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
@@ -281,6 +282,15 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
         postCommand(channelUID, command);
     }
 
+    /**
+     * Return the dispatcher that subscribes once per topic for all {@link ChannelState}s of this thing.
+     * Set it on a {@link ChannelState} with {@link ChannelState#setTopicDispatcher(MqttTopicDispatcher)} to share
+     * the decoding and transformation of messages with other channels on the same topic.
+     */
+    public MqttTopicDispatcher getTopicDispatcher() {
+        return topicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.mqtt.generic;
 
-import java.nio.charset.StandardCharsets;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -61,11 +60,17 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable MqttBrokerConnection connection;
     protected final ChannelTransformation incomingTransformation;
     protected final ChannelTransformation outgoingTransformation;
+    private final Object incomingTransformationKey;
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    private @Nullable MqttTopicDispatcher topicDispatcher;
+
+    // The last received value and the state it was parsed to, to skip parsing unchanged values
+    private @Nullable String lastValue;
+    private @Nullable State lastState;
 
     /**
      * Creates a new channel state.
@@ -80,7 +85,7 @@ public class ChannelState implements MqttMessageSubscriber {
             @Nullable ChannelStateUpdateListener channelStateUpdateListener) {
         this(config, channelUID, cachedValue, channelStateUpdateListener,
                 new ChannelTransformation(config.transformationPattern),
-                new ChannelTransformation(config.transformationPatternOut));
+                new ChannelTransformation(config.transformationPatternOut), config.transformationPattern);
     }
 
     /**
@@ -98,6 +103,14 @@ public class ChannelState implements MqttMessageSubscriber {
             @Nullable ChannelStateUpdateListener channelStateUpdateListener,
             @Nullable ChannelTransformation incomingTransformation,
             @Nullable ChannelTransformation outgoingTransformation) {
+        this(config, channelUID, cachedValue, channelStateUpdateListener, incomingTransformation,
+                outgoingTransformation, null);
+    }
+
+    private ChannelState(ChannelConfig config, ChannelUID channelUID, Value cachedValue,
+            @Nullable ChannelStateUpdateListener channelStateUpdateListener,
+            @Nullable ChannelTransformation incomingTransformation,
+            @Nullable ChannelTransformation outgoingTransformation, @Nullable Object incomingTransformationKey) {
         this.config = config;
         this.channelStateUpdateListener = channelStateUpdateListener;
         this.channelUID = channelUID;
@@ -107,6 +120,9 @@ public class ChannelState implements MqttMessageSubscriber {
                 : incomingTransformation;
         this.outgoingTransformation = outgoingTransformation == null ? new ChannelTransformation((String) null)
                 : outgoingTransformation;
+        // channels created from the same transformation patterns share the transformation result of a message
+        this.incomingTransformationKey = incomingTransformationKey != null ? incomingTransformationKey
+                : this.incomingTransformation;
     }
 
     public boolean isReadOnly() {
@@ -145,6 +161,16 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        processMessage(new MqttPayload(topic, payload));
+    }
+
+    /**
+     * Incoming message, shared with the other channels subscribed to the same topic.
+     *
+     * @param message The message
+     */
+    public void processMessage(MqttPayload message) {
+        final String topic = message.getTopic();
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
@@ -152,16 +178,16 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         if (cachedValue.isBinary()) {
-            cachedValue.update(payload);
+            cachedValue.update(message.getBytes());
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
             receivedOrTimeout();
             return;
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = message.getText();
         if (incomingTransformation.isPresent()) {
-            Optional<String> transformedValue = incomingTransformation.apply(strValue);
+            Optional<String> transformedValue = message.transform(incomingTransformationKey, incomingTransformation);
             if (transformedValue.isEmpty()) {
                 logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
                         incomingTransformation);
@@ -185,6 +211,17 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // An unchanged value results in the same state, unless the state was changed in the meantime
+        final State lastState = this.lastState;
+        if (lastState != null && strValue.equals(lastValue) && lastState.equals(cachedValue.getChannelState())) {
+            logger.trace("Unchanged value '{}' on '{}', skip parsing", strValue, topic);
+            publishState(channelStateUpdateListener, lastState);
+            receivedOrTimeout();
+            return;
+        }
+        this.lastValue = null;
+        this.lastState = null;
+
         Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
         if (command == null) {
             logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
@@ -214,6 +251,16 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         State newState = cachedValue.getChannelState();
+        if (command instanceof State) {
+            // relative commands like INCREASE result in a different state every time
+            this.lastValue = strValue;
+            this.lastState = newState;
+        }
+        publishState(channelStateUpdateListener, newState);
+        receivedOrTimeout();
+    }
+
+    private void publishState(ChannelStateUpdateListener channelStateUpdateListener, State newState) {
         // If the user explicitly wants a command sent, not an update, do that. But
         // we have to check that the state is even possible to send as a command
         // (i.e. not UNDEF)
@@ -222,7 +269,6 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, newState);
         }
-        receivedOrTimeout();
     }
 
     /**
@@ -262,6 +308,10 @@ public class ChannelState implements MqttMessageSubscriber {
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
         if (connection != null && !config.stateTopic.isBlank()) {
+            final MqttTopicDispatcher topicDispatcher = this.topicDispatcher;
+            if (topicDispatcher != null) {
+                return topicDispatcher.unsubscribe(connection, config.stateTopic, this).thenRun(this::internalStop);
+            }
             return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
         } else {
             internalStop();
@@ -275,6 +325,8 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
         cachedValue.resetState();
+        lastValue = null;
+        lastState = null;
     }
 
     private void receivedOrTimeout() {
@@ -322,7 +374,11 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        final MqttTopicDispatcher topicDispatcher = this.topicDispatcher;
+        CompletableFuture<Boolean> subscribed = topicDispatcher != null
+                ? topicDispatcher.subscribe(connection, config.stateTopic, this)
+                : connection.subscribe(config.stateTopic, this);
+        subscribed.thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -434,6 +490,16 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * Sets the dispatcher that subscribes to the state topic on behalf of this channel state.
+     * Must be set before {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)} is called.
+     *
+     * @param topicDispatcher The topic dispatcher or <code>null</code> to subscribe directly on the connection
+     */
+    public void setTopicDispatcher(@Nullable MqttTopicDispatcher topicDispatcher) {
+        this.topicDispatcher = topicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
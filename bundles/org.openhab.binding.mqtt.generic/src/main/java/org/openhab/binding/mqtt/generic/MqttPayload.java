@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.binding.generic.ChannelTransformation;
+
+/**
+ * A lazily evaluated view of a received MQTT message, shared by all {@link ChannelState}s subscribed to the same
+ * topic.
+ * <p>
+ * The payload is decoded only once, the first time a channel asks for the text, and the result of an incoming
+ * transformation chain is remembered, so channels with the same transformation reuse the result. Transformations
+ * that parse the payload (like JSONPATH) also get the same string instance for all channels, which allows them to
+ * reuse the parsed document.
+ * <p>
+ * A payload is processed by a single thread and is therefore not thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MqttPayload {
+    private final String topic;
+    private final byte[] bytes;
+    private @Nullable String text;
+    private @Nullable Map<Object, Optional<String>> transformed;
+
+    public MqttPayload(String topic, byte[] bytes) {
+        this.topic = topic;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the topic the message was received on.
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Returns the raw payload.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the payload decoded as UTF-8 text.
+     */
+    public String getText() {
+        String text = this.text;
+        if (text == null) {
+            text = new String(bytes, StandardCharsets.UTF_8);
+            this.text = text;
+        }
+        return text;
+    }
+
+    /**
+     * Applies an incoming transformation to the payload text.
+     *
+     * @param key A key that identifies the transformation chain, channels with equal keys share the result
+     * @param transformation The transformation
+     * @return The transformed value or an empty optional if the transformation discarded the message
+     */
+    public Optional<String> transform(Object key, ChannelTransformation transformation) {
+        Map<Object, Optional<String>> transformed = this.transformed;
+        if (transformed == null) {
+            transformed = new HashMap<>();
+            this.transformed = transformed;
+        }
+        Optional<String> result = transformed.get(key);
+        if (result == null) {
+            result = transformation.apply(getText());
+            transformed.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes once per topic on behalf of all {@link ChannelState}s of a thing and hands every received message to
+ * the subscribed channels as a shared {@link MqttPayload}, so the payload is decoded and transformed only once per
+ * message instead of once per channel.
+ * <p>
+ * The time it takes to process the messages of a topic is recorded and can be queried with
+ * {@link #getTopicStatistics()}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MqttTopicDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(MqttTopicDispatcher.class);
+
+    private final Map<String, TopicSubscription> subscriptions = new HashMap<>();
+
+    /**
+     * Processing statistics of a topic.
+     *
+     * @param messages The number of received messages
+     * @param totalNanos The total processing time in nanoseconds
+     * @param maxNanos The longest processing time of a single message in nanoseconds
+     */
+    public record TopicStatistics(long messages, long totalNanos, long maxNanos) {
+        /**
+         * Returns the average processing time of a message in microseconds.
+         */
+        public double averageMicros() {
+            return messages == 0 ? 0 : totalNanos / (messages * 1000.0);
+        }
+    }
+
+    /**
+     * Subscribes a channel state to a topic. The topic is only subscribed on the broker connection for the first
+     * channel state, further channel states share that subscription.
+     *
+     * @param connection A broker connection
+     * @param topic The topic, may contain wildcards
+     * @param channelState The channel state
+     * @return A future that completes when the topic is subscribed
+     */
+    public CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        synchronized (subscriptions) {
+            TopicSubscription subscription = subscriptions.get(topic);
+            if (subscription == null || !subscription.connection.equals(connection)) {
+                final TopicSubscription newSubscription = new TopicSubscription(topic, connection);
+                subscriptions.put(topic, newSubscription);
+                newSubscription.future = connection.subscribe(topic, newSubscription);
+                // forget failed subscriptions, so that the next attempt subscribes again
+                newSubscription.future.exceptionally(e -> {
+                    synchronized (subscriptions) {
+                        subscriptions.remove(topic, newSubscription);
+                    }
+                    return false;
+                });
+                subscription = newSubscription;
+            }
+            subscription.channelStates.addIfAbsent(channelState);
+            return subscription.future;
+        }
+    }
+
+    /**
+     * Unsubscribes a channel state from a topic. The topic is unsubscribed on the broker connection when the last
+     * channel state is removed.
+     *
+     * @param connection A broker connection
+     * @param topic The topic
+     * @param channelState The channel state
+     * @return A future that completes when the channel state is unsubscribed
+     */
+    public CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        synchronized (subscriptions) {
+            TopicSubscription subscription = subscriptions.get(topic);
+            if (subscription == null || !subscription.connection.equals(connection)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            subscription.channelStates.remove(channelState);
+            if (!subscription.channelStates.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            subscriptions.remove(topic);
+            return connection.unsubscribe(topic, subscription);
+        }
+    }
+
+    /**
+     * Returns the channel states subscribed to a topic.
+     *
+     * @param topic The topic
+     * @return The channel states, an empty list if the topic is not subscribed
+     */
+    public List<ChannelState> getChannelStates(String topic) {
+        synchronized (subscriptions) {
+            TopicSubscription subscription = subscriptions.get(topic);
+            return subscription == null ? List.of() : List.copyOf(subscription.channelStates);
+        }
+    }
+
+    /**
+     * Returns the processing statistics of all subscribed topics.
+     */
+    public Map<String, TopicStatistics> getTopicStatistics() {
+        Map<String, TopicStatistics> statistics = new HashMap<>();
+        synchronized (subscriptions) {
+            subscriptions.forEach((topic, subscription) -> statistics.put(topic, new TopicStatistics(
+                    subscription.messages.get(), subscription.totalNanos.get(), subscription.maxNanos.get())));
+        }
+        return statistics;
+    }
+
+    private class TopicSubscription implements MqttMessageSubscriber {
+        private final String topic;
+        private final MqttBrokerConnection connection;
+        private final CopyOnWriteArrayList<ChannelState> channelStates = new CopyOnWriteArrayList<>();
+        private CompletableFuture<Boolean> future = CompletableFuture.completedFuture(false);
+
+        private final AtomicLong messages = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        TopicSubscription(String topic, MqttBrokerConnection connection) {
+            this.topic = topic;
+            this.connection = connection;
+        }
+
+        @Override
+        public void processMessage(String receivedTopic, byte[] payload) {
+            long start = System.nanoTime();
+            MqttPayload message = new MqttPayload(receivedTopic, payload);
+            for (ChannelState channelState : channelStates) {
+                try {
+                    channelState.processMessage(message);
+                } catch (RuntimeException e) {
+                    logger.warn("Processing message on topic {} failed for channel {}", receivedTopic,
+                            channelState.channelUID(), e);
+                }
+            }
+            long duration = System.nanoTime() - start;
+            messages.incrementAndGet();
+            totalNanos.addAndGet(duration);
+            maxNanos.accumulateAndGet(duration, Math::max);
+            logger.trace("Processed message on topic {} for {} channels in {} µs", receivedTopic,
+                    channelStates.size(), TimeUnit.NANOSECONDS.toMicros(duration));
+        }
+
+        @Override
+        public String toString() {
+            return "TopicSubscription{" + topic + "}";
+        }
+    }
+}
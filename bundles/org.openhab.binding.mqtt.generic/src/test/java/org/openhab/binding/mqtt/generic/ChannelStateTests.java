@@ -37,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
@@ -52,6 +53,7 @@ import org.openhab.binding.mqtt.generic.values.NumberValue;
 import org.openhab.binding.mqtt.generic.values.PercentageValue;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.RawType;
@@ -203,6 +205,58 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveUnchangedValueTest() throws Exception {
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "A TEST".getBytes());
+        c.processMessage("state", "A TEST".getBytes());
+        verify(textValue, times(1)).parseMessage(any());
+        verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock),
+                eq(new StringType("A TEST")));
+
+        // the state was reset in the meantime, the value has to be parsed again
+        textValue.resetState();
+        c.processMessage("state", "A TEST".getBytes());
+        verify(textValue, times(2)).parseMessage(any());
+
+        c.processMessage("state", "ANOTHER TEST".getBytes());
+        verify(textValue, times(3)).parseMessage(any());
+        assertThat(textValue.getChannelState().toString(), is("ANOTHER TEST"));
+    }
+
+    @Test
+    public void receiveSharedTopicTest() throws Exception {
+        MqttTopicDispatcher dispatcher = new MqttTopicDispatcher();
+        TextValue otherValue = new TextValue();
+        ChannelUID otherChannelUID = mock(ChannelUID.class);
+        ChannelState c1 = new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock);
+        ChannelState c2 = new ChannelState(ChannelConfigBuilder.create("state", "command2").build(),
+                otherChannelUID, otherValue, channelStateUpdateListenerMock);
+        c1.setTopicDispatcher(dispatcher);
+        c2.setTopicDispatcher(dispatcher);
+
+        c1.start(connectionMock, scheduler, 0).get(50, TimeUnit.MILLISECONDS);
+        c2.start(connectionMock, scheduler, 0).get(50, TimeUnit.MILLISECONDS);
+
+        // the topic is subscribed only once for both channels
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connectionMock, times(1)).subscribe(eq("state"), subscriber.capture());
+        assertThat(dispatcher.getChannelStates("state"), is(List.of(c1, c2)));
+
+        subscriber.getValue().processMessage("state", "A TEST".getBytes());
+        assertThat(textValue.getChannelState().toString(), is("A TEST"));
+        assertThat(otherValue.getChannelState().toString(), is("A TEST"));
+        assertThat(dispatcher.getTopicStatistics().get("state").messages(), is(1L));
+
+        c1.stop().get();
+        verify(connectionMock, never()).unsubscribe(any(), any());
+        c2.stop().get();
+        verify(connectionMock).unsubscribe(eq("state"), eq(subscriber.getValue()));
+        assertThat(dispatcher.getChannelStates("state"), is(List.of()));
+    }
+
     @Test
     public void receiveDecimalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
@@ -494,6 +548,24 @@ public class ChannelStateTests {
             verify(channelStateUpdateListenerMock, never()).updateChannelState(eq(channelUIDMock), any());
         }
 
+        @Test
+        public void transformationSharedBetweenChannelsTest() throws Exception {
+            ChannelConfig config = ChannelConfigBuilder.create("state", "command")
+                    .withTransformationPattern(List.of(T1_NAME + ":" + T1_PATTERN)).build();
+            TextValue otherValue = new TextValue();
+            ChannelState c1 = new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock);
+            ChannelState c2 = new ChannelState(config, mock(ChannelUID.class), otherValue,
+                    channelStateUpdateListenerMock);
+
+            MqttPayload message = new MqttPayload("state", T1_INPUT.getBytes());
+            c1.processMessage(message);
+            c2.processMessage(message);
+
+            assertThat(textValue.getChannelState().toString(), is(T1_RESULT));
+            assertThat(otherValue.getChannelState().toString(), is(T1_RESULT));
+            verify(transformationService1Mock, times(1)).transform(eq(T1_PATTERN), eq(T1_INPUT));
+        }
+
         @Test
         public void transformationPatternOutTest() throws Exception {
             ChannelConfig config = ChannelConfigBuilder.create("state", "command")
@@ -27,6 +27,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides a channel transformation for a Home Assistant channel with a
  * Jinja2 template, providing the additional context and extensions required by Home Assistant
+ * <p>
+ * Simple templates (see {@link NativeTemplate}) are rendered in Java, all others in Python.
  *
  * @author Cody Cutrer - Initial contribution
  */
@@ -43,6 +45,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
     private final Value template;
+    private final @Nullable String templateSource;
+    private final @Nullable NativeTemplate nativeTemplate;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -68,6 +72,9 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.python = python;
         this.component = component;
         this.command = command;
+        this.templateSource = python.getTemplateSource(template);
+        String source = templateSource;
+        this.nativeTemplate = source != null ? NativeTemplate.compile(source, command) : null;
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
@@ -97,7 +104,19 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        NativeTemplate nativeTemplate = this.nativeTemplate;
+        if (nativeTemplate != null && value instanceof String stringValue) {
+            String result = nativeTemplate.render(stringValue);
+            if (result != null) {
+                return result;
+            }
+        }
         try {
+            String source = templateSource;
+            if (source != null) {
+                return command ? python.renderCommandTemplateSource(source, value)
+                        : python.renderValueTemplateSource(source, value, defaultValue);
+            }
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
         } catch (PolyglotException e) {
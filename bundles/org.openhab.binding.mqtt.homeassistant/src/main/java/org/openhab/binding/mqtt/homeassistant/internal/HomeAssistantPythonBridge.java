@@ -19,10 +19,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -30,11 +36,17 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Centralizes all calls into python to ensure thread safety and a single cached context
+ * <p>
+ * Templates can also be rendered by their source. These calls are distributed over a pool of contexts (sharing one
+ * engine), so that rendering templates for different devices is not serialized by a single Python context. Additional
+ * contexts are only created if all existing contexts are busy. The main context is never part of the pool, it is only
+ * used if no pooled context can be obtained.
  *
  * @author Cody Cutrer - Initial contribution
  */
@@ -42,23 +54,60 @@ import org.slf4j.LoggerFactory;
 @Component(service = HomeAssistantPythonBridge.class)
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final int MAX_CONTEXTS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
+    private final VirtualFileSystem vfs;
+    private final Engine engine;
     private final Context context;
     private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
             renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
             processDiscoveryConfigMeth, listMeth;
 
+    private final PooledContext mainContext;
+    private final BlockingDeque<PooledContext> idleContexts = new LinkedBlockingDeque<>();
+    private final List<Context> pooledContexts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger contextCount = new AtomicInteger();
+    private volatile boolean disposed = false;
+
     @Activate
     public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
-
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+        engine = Engine.newBuilder(PYTHON).logHandler(new LogHandler(logger))
                 .option("engine.WarnInterpreterOnly", "false").build();
 
+        context = createContext();
         Value bindings = context.getBindings(PYTHON);
 
-        context.eval(PYTHON,
+        newRawTemplateMeth = bindings.getMember("new_raw_template");
+        newCommandTemplateMeth = bindings.getMember("new_command_template");
+        renderCommandTemplateMeth = bindings.getMember("render_command_template");
+        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+        newValueTemplateMeth = bindings.getMember("new_value_template");
+        renderValueTemplateMeth = bindings.getMember("render_value_template");
+        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+        listMeth = bindings.getMember("list");
+
+        mainContext = new PooledContext(context);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        disposed = true;
+        idleContexts.clear();
+        // contexts still rendering a template are cancelled, the callers get a PolyglotException
+        for (Context pooledContext : pooledContexts) {
+            pooledContext.close(true);
+        }
+        pooledContexts.clear();
+        context.close(true);
+        engine.close(true);
+    }
+
+    private Context createContext() {
+        Context newContext = GraalPyResources.contextBuilder(vfs).engine(engine).build();
+
+        newContext.eval(PYTHON,
                 """
                         # we need to set up the path just like it would have been set up on Linux, even if we're
                         # on Windows
@@ -92,17 +141,116 @@ public class HomeAssistantPythonBridge {
 
                         def render_value_template_with_variables(template, payload, default, variables):
                             return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+
+                        # templates rendered by source are compiled once per context
+                        _command_templates = {}
+                        _value_templates = {}
+
+                        def render_command_template_source(source, value):
+                            template = _command_templates.get(source)
+                            if template is None:
+                                template = _command_templates[source] = MqttCommandTemplate(Template(source))
+                            return template.render(value=value)
+
+                        def render_value_template_source(source, payload, default):
+                            template = _value_templates.get(source)
+                            if template is None:
+                                template = _value_templates[source] = MqttValueTemplate(Template(source))
+                            return template.render_with_possible_json_value(payload=payload, default=default)
                         """);
+        return newContext;
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    /**
+     * Get the source of a template
+     *
+     * @param template a template created by {@link #newRawTemplate(String)} or the discovery config
+     * @return the source or <code>null</code> if the value is not a template
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        try {
+            if (template.hasMember("template")) {
+                Value source = template.getMember("template");
+                if (source != null && source.isString()) {
+                    return source.asString();
+                }
+            }
+        } catch (PolyglotException e) {
+            logger.debug("Failed to get template source: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Render a command template by its source on a pooled context
+     */
+    public String renderCommandTemplateSource(String source, Object value) {
+        PooledContext pooledContext = borrowContext();
+        try {
+            return pooledContext.renderCommandTemplateSourceMeth.execute(source, value).asString();
+        } finally {
+            releaseContext(pooledContext);
+        }
+    }
+
+    /**
+     * Render a value template by its source on a pooled context
+     */
+    public String renderValueTemplateSource(String source, Object payload, String defaultValue) {
+        PooledContext pooledContext = borrowContext();
+        try {
+            return pooledContext.renderValueTemplateSourceMeth.execute(source, payload, defaultValue).asString();
+        } finally {
+            releaseContext(pooledContext);
+        }
+    }
+
+    private PooledContext borrowContext() {
+        PooledContext pooledContext = idleContexts.pollFirst();
+        if (pooledContext != null) {
+            return pooledContext;
+        }
+        if (disposed) {
+            // the closed main context makes the call fail
+            return mainContext;
+        }
+        if (contextCount.getAndIncrement() < MAX_CONTEXTS) {
+            try {
+                logger.debug("All Python contexts are busy, creating context {} of {}", contextCount.get(),
+                        MAX_CONTEXTS);
+                Context newContext = createContext();
+                pooledContexts.add(newContext);
+                return new PooledContext(newContext);
+            } catch (RuntimeException e) {
+                contextCount.decrementAndGet();
+                logger.warn("Failed to create an additional Python context: {}", e.getMessage());
+                return mainContext;
+            }
+        }
+        contextCount.decrementAndGet();
+        try {
+            // contexts are not returned to the pool once it is disposed
+            while (!disposed) {
+                pooledContext = idleContexts.pollFirst(1, TimeUnit.SECONDS);
+                if (pooledContext != null) {
+                    return pooledContext;
+                }
+            }
+            return mainContext;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // the main context can be shared, access is serialized by Python
+            return mainContext;
+        }
+    }
+
+    private void releaseContext(PooledContext pooledContext) {
+        // the main context may be in use by other threads, it must never be handed out from the pool
+        if (pooledContext == mainContext || disposed) {
+            return;
+        }
+        // the most recently used context is reused first, unused contexts stay idle
+        idleContexts.offerFirst(pooledContext);
     }
 
     public Value newRawTemplate(String template) {
@@ -150,6 +298,16 @@ public class HomeAssistantPythonBridge {
         }
     }
 
+    private static class PooledContext {
+        private final Value renderCommandTemplateSourceMeth, renderValueTemplateSourceMeth;
+
+        PooledContext(Context context) {
+            Value bindings = context.getBindings(PYTHON);
+            renderCommandTemplateSourceMeth = bindings.getMember("render_command_template_source");
+            renderValueTemplateSourceMeth = bindings.getMember("render_value_template_source");
+        }
+    }
+
     private @Nullable Object toJava(Value value) {
         if (value.isNull()) {
             return null;
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A Java implementation of the subset of Home Assistant templates that is used by most devices, i.e. templates that
+ * only output the payload or a field of the JSON payload, like <code>{{ value_json.temperature }}</code> or
+ * <code>{"state": "{{ value }}"}</code>.
+ * <p>
+ * {@link #compile(String, boolean)} returns <code>null</code> for templates that are not part of this subset.
+ * {@link #render(String)} returns <code>null</code> if a payload can't be rendered with exactly the same result as
+ * the Python implementation (e.g. missing fields, non-JSON payloads or numbers that Python formats differently). The
+ * caller has to render the template in Python in these cases.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NativeTemplate {
+    private static final TypeAdapter<JsonElement> JSON_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    // attributes of Python dicts take precedence over keys when accessed with the dot notation
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+
+    private final List<Part> parts;
+    private final boolean command;
+    private final boolean usesJson;
+
+    private NativeTemplate(List<Part> parts, boolean command) {
+        this.parts = parts;
+        this.command = command;
+        this.usesJson = parts.stream().anyMatch(p -> p instanceof Expression e && e.json);
+    }
+
+    /**
+     * Compile a template
+     *
+     * @param template the template source
+     * @param command <code>true</code> if this is a command template (no <code>value_json</code> available)
+     * @return the compiled template or <code>null</code> if the template can't be handled natively
+     */
+    public static @Nullable NativeTemplate compile(String template, boolean command) {
+        String source = template.strip();
+        List<Part> parts = new ArrayList<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int start = source.indexOf("{{", pos);
+            String literal = source.substring(pos, start < 0 ? source.length() : start);
+            if (literal.contains("{%") || literal.contains("{#")) {
+                // statements and comments are not supported
+                return null;
+            }
+            if (!literal.isEmpty()) {
+                parts.add(new Literal(literal));
+            }
+            if (start < 0) {
+                break;
+            }
+            int end = source.indexOf("}}", start + 2);
+            if (end < 0) {
+                return null;
+            }
+            Expression expression = parseExpression(source.substring(start + 2, end));
+            if (expression == null || (command && expression.json)) {
+                return null;
+            }
+            parts.add(expression);
+            pos = end + 2;
+        }
+        return new NativeTemplate(parts, command);
+    }
+
+    /**
+     * Render the template
+     *
+     * @param value the payload (value template) or command value (command template)
+     * @return the rendered template or <code>null</code> if it can't be rendered natively
+     */
+    public @Nullable String render(String value) {
+        JsonElement json = null;
+        if (usesJson) {
+            json = parseJson(value);
+            if (json == null) {
+                return null;
+            }
+        }
+        StringBuilder result = new StringBuilder();
+        for (Part part : parts) {
+            if (part instanceof Literal literal) {
+                result.append(literal.text);
+            } else if (part instanceof Expression expression) {
+                if (expression.json) {
+                    String rendered = render(json, expression.path);
+                    if (rendered == null) {
+                        return null;
+                    }
+                    result.append(rendered);
+                } else {
+                    result.append(value);
+                }
+            }
+        }
+        String rendered = strip(result);
+        if (command && (rendered.startsWith("b'") || rendered.startsWith("b\""))) {
+            // Python converts bytes literals in command payloads
+            return null;
+        }
+        return rendered;
+    }
+
+    private static @Nullable Expression parseExpression(String source) {
+        if (source.startsWith("-") || source.endsWith("-")) {
+            // whitespace control is not supported
+            return null;
+        }
+        ExpressionParser parser = new ExpressionParser(source.strip());
+        String name = parser.identifier();
+        if ("value".equals(name)) {
+            return parser.atEnd() ? new Expression(false, List.of()) : null;
+        } else if (!"value_json".equals(name)) {
+            return null;
+        }
+        List<Object> path = new ArrayList<>();
+        while (!parser.atEnd()) {
+            Object key = parser.accessor();
+            if (key == null) {
+                return null;
+            }
+            path.add(key);
+        }
+        return new Expression(true, path);
+    }
+
+    private static @Nullable JsonElement parseJson(String value) {
+        // the reader is strict by default, like Python's json.loads (except for NaN and Infinity, which are
+        // rejected here and handled by Python)
+        try (JsonReader reader = new JsonReader(new StringReader(value))) {
+            JsonElement json = JSON_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? json : null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable String render(@Nullable JsonElement json, List<Object> path) {
+        JsonElement current = json;
+        for (Object key : path) {
+            if (current instanceof JsonObject object && key instanceof AttributeKey attribute) {
+                current = object.get(attribute.name);
+            } else if (current instanceof JsonObject object && key instanceof String name) {
+                current = object.get(name);
+            } else if (current instanceof JsonArray array && key instanceof Integer index) {
+                current = index < array.size() ? array.get(index) : null;
+            } else {
+                return null;
+            }
+            if (current == null) {
+                // undefined, Python raises an error or renders the default
+                return null;
+            }
+        }
+        if (current == null) {
+            return null;
+        } else if (current.isJsonNull()) {
+            return "None";
+        } else if (current instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean() ? "True" : "False";
+            } else if (primitive.isNumber()) {
+                return renderNumber(primitive.getAsString());
+            }
+            return primitive.getAsString();
+        }
+        // dicts and lists are rendered with their Python representation
+        return null;
+    }
+
+    private static @Nullable String renderNumber(String number) {
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            return new BigInteger(number).toString();
+        }
+        double d = Double.parseDouble(number);
+        double abs = Math.abs(d);
+        // Java and Python both use the shortest representation, but switch to the exponent notation at different
+        // thresholds
+        if (d == 0 || (abs >= 1e-3 && abs < 1e7)) {
+            return Double.toString(d);
+        }
+        return null;
+    }
+
+    private static String strip(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isPythonWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isPythonWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.subSequence(start, end).toString();
+    }
+
+    private static boolean isPythonWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+
+    private interface Part {
+    }
+
+    private record Literal(String text) implements Part {
+    }
+
+    private record Expression(boolean json, List<Object> path) implements Part {
+    }
+
+    /**
+     * A key accessed with the dot notation
+     */
+    private record AttributeKey(String name) {
+    }
+
+    private static class ExpressionParser {
+        private final String source;
+        private int pos;
+
+        ExpressionParser(String source) {
+            this.source = source;
+        }
+
+        boolean atEnd() {
+            skipWhitespace();
+            return pos >= source.length();
+        }
+
+        @Nullable
+        String identifier() {
+            skipWhitespace();
+            int start = pos;
+            while (pos < source.length() && (Character.isLetter(source.charAt(pos)) || source.charAt(pos) == '_'
+                    || (pos > start && Character.isDigit(source.charAt(pos))))) {
+                pos++;
+            }
+            return pos > start ? source.substring(start, pos) : null;
+        }
+
+        /**
+         * @return an {@link AttributeKey}, a {@link String} for subscripts with a string or an {@link Integer} for
+         *         subscripts with a non-negative integer, <code>null</code> if the expression is not supported
+         */
+        @Nullable
+        Object accessor() {
+            skipWhitespace();
+            char c = source.charAt(pos++);
+            if (c == '.') {
+                String name = identifier();
+                if (name == null || name.startsWith("_") || DICT_ATTRIBUTES.contains(name)) {
+                    return null;
+                }
+                return new AttributeKey(name);
+            } else if (c == '[') {
+                skipWhitespace();
+                Object key = pos < source.length() && Character.isDigit(source.charAt(pos)) ? integer() : string();
+                skipWhitespace();
+                if (key == null || pos >= source.length() || source.charAt(pos++) != ']') {
+                    return null;
+                }
+                return key;
+            }
+            return null;
+        }
+
+        private @Nullable Integer integer() {
+            int start = pos;
+            while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                pos++;
+            }
+            try {
+                return Integer.parseInt(source.substring(start, pos));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private @Nullable String string() {
+            if (pos >= source.length()) {
+                return null;
+            }
+            char quote = source.charAt(pos);
+            if (quote != '\'' && quote != '"') {
+                return null;
+            }
+            int end = source.indexOf(quote, pos + 1);
+            if (end < 0) {
+                return null;
+            }
+            String value = source.substring(pos + 1, end);
+            if (value.indexOf('\\') >= 0) {
+                // escape sequences are not supported
+                return null;
+            }
+            pos = end + 1;
+            return value;
+        }
+
+        private void skipWhitespace() {
+            while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
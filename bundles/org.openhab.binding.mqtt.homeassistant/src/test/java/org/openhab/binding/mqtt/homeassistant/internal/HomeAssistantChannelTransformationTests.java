@@ -17,6 +17,9 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,6 +111,29 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
                 is("off"));
     }
 
+    @Test
+    public void testNativeTemplatesMatchPython() {
+        String payload = "{\"temperature\": 21.5, \"state\": \"ON\", \"count\": 42, \"on\": true, \"none\": null, "
+                + "\"update\": {\"state\": \"idle\"}, \"list\": [1, 2, 3], \"padded\": \" x \"}";
+        for (String template : List.of("{{ value_json.temperature }}", "{{ value_json.state }}",
+                "{{ value_json.count }}", "{{ value_json.on }}", "{{ value_json.none }}",
+                "{{ value_json['update']['state'] }}", "{{ value_json.list[2] }}", "{{ value_json.padded }}",
+                "{{ value }}", "state: {{ value_json.state }}")) {
+            NativeTemplate nativeTemplate = Objects.requireNonNull(NativeTemplate.compile(template, false));
+            assertThat(template, nativeTemplate.render(payload),
+                    is(PYTHON.renderValueTemplateSource(template, payload, "default")));
+        }
+        String commandTemplate = "{\"state\": \"{{ value }}\"}";
+        assertThat(Objects.requireNonNull(NativeTemplate.compile(commandTemplate, true)).render("ON"),
+                is(PYTHON.renderCommandTemplateSource(commandTemplate, "ON")));
+    }
+
+    @Test
+    public void testFallbackToPython() {
+        assertThat(transform("{{ value_json.missing }}", "{ \"val\": \"abc\" }", "default"), is("default"));
+        assertThat(transform("{{ value_json.val }}", "{ \"val\": 1e-7 }", "default"), is("1e-07"));
+    }
+
     protected @Nullable Object transform(String template, Object value) {
         return new HomeAssistantChannelTransformation(PYTHON, component, PYTHON.newRawTemplate(template), false)
                 .transform(value);
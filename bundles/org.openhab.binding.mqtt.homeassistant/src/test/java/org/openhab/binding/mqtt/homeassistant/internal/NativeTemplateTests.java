@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NativeTemplateTests {
+
+    @Test
+    public void testUnsupportedTemplates() {
+        assertThat(NativeTemplate.compile("{% if value == 'ON' %}on{% endif %}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ value_json.temperature | round(1) }}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ value_json.items }}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ value_json._private }}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{- value -}}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ value_json.state }}", true), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ value_json['a\\'b'] }}", false), is(nullValue()));
+        assertThat(NativeTemplate.compile("{{ states('sensor.x') }}", false), is(nullValue()));
+    }
+
+    @Test
+    public void testValueJson() {
+        String payload = "{\"temperature\": 21.5, \"state\": \"ON\", \"count\": 42, \"on\": true, \"off\": false, "
+                + "\"none\": null, \"update\": {\"state\": \"idle\"}, \"list\": [1, 2, 3], \"padded\": \" x \"}";
+
+        assertThat(render("{{ value_json.temperature }}", payload), is("21.5"));
+        assertThat(render("{{value_json.state}}", payload), is("ON"));
+        assertThat(render("{{ value_json.count }}", payload), is("42"));
+        assertThat(render("{{ value_json.on }}", payload), is("True"));
+        assertThat(render("{{ value_json.off }}", payload), is("False"));
+        assertThat(render("{{ value_json.none }}", payload), is("None"));
+        assertThat(render("{{ value_json.update.state }}", payload), is("idle"));
+        assertThat(render("{{ value_json['update'][\"state\"] }}", payload), is("idle"));
+        assertThat(render("{{ value_json.list[1] }}", payload), is("2"));
+        assertThat(render("{{ value_json.padded }}", payload), is("x"));
+        assertThat(render("{{ value_json.state }} {{ value_json.count }}", payload), is("ON 42"));
+    }
+
+    @Test
+    public void testFallbackToPython() {
+        // missing fields, non-JSON payloads and values with a different representation in Python
+        assertThat(render("{{ value_json.missing }}", "{\"state\": \"ON\"}"), is(nullValue()));
+        assertThat(render("{{ value_json.list[5] }}", "{\"list\": [1]}"), is(nullValue()));
+        assertThat(render("{{ value_json.state }}", "ON"), is(nullValue()));
+        assertThat(render("{{ value_json.state }}", "{state: 'ON'}"), is(nullValue()));
+        assertThat(render("{{ value_json.state }}", "{\"state\": \"ON\"} x"), is(nullValue()));
+        assertThat(render("{{ value_json.update }}", "{\"update\": {\"state\": \"idle\"}}"), is(nullValue()));
+        assertThat(render("{{ value_json.value }}", "{\"value\": 1e-7}"), is(nullValue()));
+        assertThat(render("{{ value_json.value }}", "{\"value\": 12345678.9}"), is(nullValue()));
+    }
+
+    @Test
+    public void testNumbers() {
+        assertThat(render("{{ value_json }}", "-0"), is("0"));
+        assertThat(render("{{ value_json }}", "123456789012345678901234567890"), is("123456789012345678901234567890"));
+        assertThat(render("{{ value_json }}", "21.50"), is("21.5"));
+        assertThat(render("{{ value_json }}", "1E2"), is("100.0"));
+        assertThat(render("{{ value_json }}", "0.001"), is("0.001"));
+        assertThat(render("{{ value_json }}", "-0.0"), is("-0.0"));
+    }
+
+    @Test
+    public void testValue() {
+        assertThat(render("{{ value }}", "  ON "), is("ON"));
+        assertThat(render("static", "ON"), is("static"));
+        assertThat(Objects.requireNonNull(NativeTemplate.compile("{\"state\": \"{{ value }}\"}", true)).render("ON"),
+                is("{\"state\": \"ON\"}"));
+        assertThat(Objects.requireNonNull(NativeTemplate.compile("{{ value }}", true)).render("b'\\x01'"),
+                is(nullValue()));
+    }
+
+    private @Nullable String render(String template, String payload) {
+        return Objects.requireNonNull(NativeTemplate.compile(template, false)).render(payload);
+    }
+}
@@ -42,6 +42,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
 import org.slf4j.Logger;
@@ -61,6 +62,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
 
     NetworkUtils networkUtils = new NetworkUtils();
+    private @Nullable PresenceProber presenceProber;
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -167,6 +169,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.preferResponseTimeAsLatency = preferResponseTimeAsLatency;
     }
 
+    /**
+     * Sets the {@link PresenceProber} for TCP connection attempts and (if available) ICMP pings. Without a prober, a
+     * thread is blocked for each check.
+     *
+     * @param presenceProber the prober or <code>null</code>
+     */
+    public void setPresenceProber(@Nullable PresenceProber presenceProber) {
+        this.presenceProber = presenceProber;
+    }
+
     /**
      * Sets the ping method. This method will perform a feature test. If {@link IpPingMethodEnum#SYSTEM_PING}
      * does not work on this system, {@link IpPingMethodEnum#JAVA_PING} will be used instead.
@@ -378,10 +390,21 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
+        PresenceProber presenceProber = this.presenceProber;
+        boolean batchPing = presenceProber != null && pingMethod != IpPingMethodEnum.DISABLED
+                && pingMethod != IpPingMethodEnum.JAVA_PING && presenceProber.isBatchPingAvailable();
+        CompletableFuture<@Nullable InetAddress> destinationFuture = presenceProber == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(destination::getValue, executor);
+
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                performServicePing(pdv, tcpPort);
-            });
+            if (presenceProber != null) {
+                completableFutures.add(probeService(presenceProber, destinationFuture, pdv, tcpPort));
+            } else {
+                addAsyncDetection(completableFutures, () -> {
+                    performServicePing(pdv, tcpPort);
+                });
+            }
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
@@ -399,7 +422,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         // ICMP ping
-        if (pingMethod != IpPingMethodEnum.DISABLED) {
+        if (presenceProber != null && batchPing) {
+            completableFutures.add(probeIcmp(presenceProber, destinationFuture, pdv));
+        } else if (pingMethod != IpPingMethodEnum.DISABLED) {
             addAsyncDetection(completableFutures, () -> {
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
@@ -441,6 +466,38 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executor));
     }
 
+    private CompletableFuture<Void> probeService(PresenceProber presenceProber,
+            CompletableFuture<@Nullable InetAddress> destinationFuture, PresenceDetectionValue pdv, int tcpPort) {
+        return destinationFuture.thenCompose(destinationAddress -> {
+            if (destinationAddress == null) {
+                logger.trace("The destinationAddress for {} is null", hostname);
+                return CompletableFuture.completedFuture(null);
+            }
+            logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
+            return presenceProber.servicePing(destinationAddress, tcpPort, timeout).thenAccept(pingResult -> {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                }
+            });
+        });
+    }
+
+    private CompletableFuture<Void> probeIcmp(PresenceProber presenceProber,
+            CompletableFuture<@Nullable InetAddress> destinationFuture, PresenceDetectionValue pdv) {
+        return destinationFuture.thenCompose(destinationAddress -> {
+            if (destinationAddress == null) {
+                logger.trace("The destinationAddress for {} is null", hostname);
+                return CompletableFuture.completedFuture(null);
+            }
+            logger.trace("Perform batched ping presence detection for {}", hostname);
+            return presenceProber.icmpPing(destinationAddress, timeout).thenAccept(pingResult -> {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                }
+            });
+        });
+    }
+
     /**
      * Creates a new {@link PresenceDetectionValue} when a host is reachable. Also updates the {@link #lastSeen}
      * value and sends a partial detection result to the {@link #updateListener}.
@@ -43,6 +43,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
@@ -60,7 +61,8 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It tries common TCP ports to connect to, ICMP pings and ARP pings. TCP connection attempts and (if fping is
+ * available) ICMP pings are performed by the shared {@link PresenceProber}.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
@@ -69,7 +71,8 @@ import org.slf4j.LoggerFactory;
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
-    static final int MAXIMUM_IPS_PER_INTERFACE = 254;
+    // a /22 network
+    static final int MAXIMUM_IPS_PER_INTERFACE = 1022;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -81,6 +84,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     /* All access must be guarded by "this" */
     private @Nullable ExecutorService executorService;
     private final NetworkUtils networkUtils = new NetworkUtils();
+    private final PresenceProber presenceProber = PresenceProber.getInstance();
     private final ConfigurationAdmin admin;
 
     @Activate
@@ -183,6 +187,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                     pd.setIOSDevice(true);
                     pd.setUseDhcpSniffing(false);
                     pd.setTimeout(PING_TIMEOUT);
+                    pd.setPresenceProber(presenceProber);
                     // Ping devices
                     pd.setIcmpPingMethod(pingMethod);
                     if (configuration == null) {
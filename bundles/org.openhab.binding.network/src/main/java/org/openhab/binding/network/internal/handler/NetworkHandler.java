@@ -36,6 +36,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.WakeOnLanPacketSender;
 import org.openhab.binding.network.internal.action.NetworkActions;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -255,8 +256,10 @@ public class NetworkHandler extends BaseThingHandler
     public void initialize() {
         updateStatus(ThingStatus.UNKNOWN);
         executor.submit(() -> {
-            initialize(new PresenceDetection(this, Duration.ofMillis(configuration.cacheDeviceStateTimeInMS.intValue()),
-                    executor));
+            PresenceDetection presenceDetection = new PresenceDetection(this,
+                    Duration.ofMillis(configuration.cacheDeviceStateTimeInMS.intValue()), executor);
+            presenceDetection.setPresenceProber(PresenceProber.getInstance());
+            initialize(presenceDetection);
         });
     }
 
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.net.exec.ExecUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PresenceProber} is shared by all presence detections (things and discovery) and performs checks without
+ * blocking a thread per check:
+ * <ul>
+ * <li>TCP connection attempts are non-blocking and handled by a single thread with a {@link Selector}. The thread is
+ * started with the first attempt and stops when no attempt is pending.
+ * <li>ICMP pings requested within a short time frame are sent by a single <code>fping</code> process, if the
+ * <code>fping</code> utility is installed. Otherwise {@link #isBatchPingAvailable()} returns <code>false</code> and
+ * the native ping has to be used for every host.
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProber {
+    private static final PresenceProber INSTANCE = new PresenceProber();
+
+    private static final String FPING = "fping";
+    // the number of concurrent connection attempts, limits the number of open file handles
+    private static final int MAX_PENDING_CONNECTIONS = 256;
+    // pings requested within this time are sent by the same process
+    private static final Duration PING_BATCH_WINDOW = Duration.ofMillis(50);
+    private static final int MAX_PING_BATCH_SIZE = 256;
+    private static final Pattern FPING_ALIVE_PATTERN = Pattern
+            .compile("^(?<host>\\S+) is alive(?: \\((?<latency>\\d+(?:\\.\\d+)?) ms\\))?.*");
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProber.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("networkBinding");
+
+    private final ArrayDeque<ConnectionAttempt> queuedConnections = new ArrayDeque<>();
+    private @Nullable Selector selector;
+
+    private @Nullable Boolean batchPingAvailable;
+    private final List<PingRequest> pingBatch = new ArrayList<>();
+
+    /**
+     * Returns the shared instance.
+     */
+    public static PresenceProber getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port. The connection is closed immediately.
+     *
+     * @param address the address
+     * @param port the TCP port
+     * @param timeout the timeout before the attempt fails
+     * @return a future that completes with the {@link PingResult}
+     */
+    public CompletableFuture<PingResult> servicePing(InetAddress address, int port, Duration timeout) {
+        ConnectionAttempt attempt = new ConnectionAttempt(new InetSocketAddress(address, port), timeout);
+        synchronized (queuedConnections) {
+            queuedConnections.add(attempt);
+            Selector selector = this.selector;
+            if (selector == null) {
+                try {
+                    selector = Selector.open();
+                } catch (IOException e) {
+                    queuedConnections.remove(attempt);
+                    attempt.future.completeExceptionally(e);
+                    return attempt.future;
+                }
+                this.selector = selector;
+                Thread thread = new Thread(() -> processConnections(selector), "OH-binding-network-presenceProber");
+                thread.setDaemon(true);
+                thread.start();
+            } else {
+                selector.wakeup();
+            }
+        }
+        return attempt.future;
+    }
+
+    /**
+     * Returns <code>true</code> if ICMP pings can be batched, i.e. the <code>fping</code> utility is available.
+     */
+    public synchronized boolean isBatchPingAvailable() {
+        Boolean batchPingAvailable = this.batchPingAvailable;
+        if (batchPingAvailable == null) {
+            String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(2), FPING, "-v");
+            batchPingAvailable = result != null && result.contains("fping");
+            logger.debug("Batched ICMP pings with fping are {}", batchPingAvailable ? "available" : "not available");
+            this.batchPingAvailable = batchPingAvailable;
+        }
+        return batchPingAvailable;
+    }
+
+    /**
+     * Send an ICMP ping. The ping is sent together with all other pings requested within a short time frame. Must only
+     * be called if {@link #isBatchPingAvailable()} returns <code>true</code>.
+     *
+     * @param address the address
+     * @param timeout the timeout before the ping fails
+     * @return a future that completes with the {@link PingResult}, the response time is the round-trip time reported
+     *         by <code>fping</code>
+     */
+    public CompletableFuture<PingResult> icmpPing(InetAddress address, Duration timeout) {
+        PingRequest request = new PingRequest(address.getHostAddress(), timeout);
+        synchronized (pingBatch) {
+            pingBatch.add(request);
+            if (pingBatch.size() == 1) {
+                scheduler.schedule(this::processPingBatch, PING_BATCH_WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return request.future;
+    }
+
+    private void processPingBatch() {
+        List<PingRequest> batch;
+        synchronized (pingBatch) {
+            batch = new ArrayList<>(pingBatch);
+            pingBatch.clear();
+        }
+        for (int i = 0; i < batch.size(); i += MAX_PING_BATCH_SIZE) {
+            executePingBatch(batch.subList(i, Math.min(batch.size(), i + MAX_PING_BATCH_SIZE)));
+        }
+    }
+
+    private void executePingBatch(List<PingRequest> batch) {
+        Map<String, List<PingRequest>> requestsByHost = new HashMap<>();
+        long timeoutMs = 0;
+        for (PingRequest request : batch) {
+            requestsByHost.computeIfAbsent(request.host, host -> new ArrayList<>()).add(request);
+            timeoutMs = Math.max(timeoutMs, request.timeout.toMillis());
+        }
+
+        List<String> command = new ArrayList<>(List.of(FPING, "-e", "-r", "0", "-t", String.valueOf(timeoutMs)));
+        command.addAll(requestsByHost.keySet());
+        logger.trace("Pinging {} hosts with a single fping process", requestsByHost.size());
+
+        Instant execStartTime = Instant.now();
+        try {
+            Process proc = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (InputStreamReader isr = new InputStreamReader(proc.getInputStream(), StandardCharsets.UTF_8);
+                    BufferedReader br = new BufferedReader(isr)) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    logger.trace("Network [fping output]: '{}'", line);
+                    Matcher matcher = FPING_ALIVE_PATTERN.matcher(line);
+                    if (matcher.matches()) {
+                        List<PingRequest> requests = requestsByHost.remove(matcher.group("host"));
+                        if (requests != null) {
+                            // the execution time of the process is not related to a single host, prefer the latency
+                            String latency = matcher.group("latency");
+                            Duration responseTime = latency == null ? Duration.between(execStartTime, Instant.now())
+                                    : NetworkUtils.millisToDuration(Double.parseDouble(latency));
+                            PingResult pingResult = new PingResult(true, responseTime);
+                            pingResult.setResponseTime(responseTime);
+                            requests.forEach(request -> request.future.complete(pingResult));
+                        }
+                    }
+                }
+            }
+            // the return code is 1 if some hosts are unreachable, the output is relevant only
+            proc.waitFor();
+        } catch (IOException e) {
+            logger.debug("Failed to execute fping: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        PingResult failed = new PingResult(false, Duration.between(execStartTime, Instant.now()));
+        requestsByHost.values().forEach(requests -> requests.forEach(request -> request.future.complete(failed)));
+    }
+
+    private void processConnections(Selector selector) {
+        List<ConnectionAttempt> pending = new ArrayList<>();
+        try {
+            while (true) {
+                synchronized (queuedConnections) {
+                    while (pending.size() < MAX_PENDING_CONNECTIONS && !queuedConnections.isEmpty()) {
+                        ConnectionAttempt attempt = queuedConnections.poll();
+                        if (attempt != null && attempt.connect(selector)) {
+                            pending.add(attempt);
+                        }
+                    }
+                    if (pending.isEmpty()) {
+                        // nothing to do, the next attempt starts a new thread
+                        this.selector = null;
+                        break;
+                    }
+                }
+
+                long now = System.nanoTime();
+                long nextDeadline = pending.stream().mapToLong(attempt -> attempt.deadline).min().orElse(now);
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline - now)));
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (key.attachment() instanceof ConnectionAttempt attempt) {
+                        attempt.finish();
+                        pending.remove(attempt);
+                    }
+                }
+
+                now = System.nanoTime();
+                for (Iterator<ConnectionAttempt> attempts = pending.iterator(); attempts.hasNext();) {
+                    ConnectionAttempt attempt = attempts.next();
+                    if (now - attempt.deadline >= 0) {
+                        attempt.complete(false);
+                        attempts.remove();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Processing TCP connection attempts failed: {}", e.getMessage());
+            synchronized (queuedConnections) {
+                this.selector = null;
+                pending.addAll(queuedConnections);
+                queuedConnections.clear();
+            }
+            pending.forEach(attempt -> attempt.complete(false));
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close selector", e);
+        }
+    }
+
+    private record PingRequest(String host, Duration timeout, CompletableFuture<PingResult> future) {
+        PingRequest(String host, Duration timeout) {
+            this(host, timeout, new CompletableFuture<>());
+        }
+    }
+
+    private class ConnectionAttempt {
+        private final InetSocketAddress address;
+        private final Duration timeout;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        private @Nullable SocketChannel channel;
+        private long startTime;
+        private long deadline;
+
+        ConnectionAttempt(InetSocketAddress address, Duration timeout) {
+            this.address = address;
+            this.timeout = timeout;
+        }
+
+        /**
+         * @return <code>true</code> if the connection is pending
+         */
+        boolean connect(Selector selector) {
+            startTime = System.nanoTime();
+            deadline = startTime + timeout.toNanos();
+            try {
+                SocketChannel channel = SocketChannel.open();
+                this.channel = channel;
+                channel.configureBlocking(false);
+                if (channel.connect(address)) {
+                    complete(true);
+                    return false;
+                }
+                channel.register(selector, SelectionKey.OP_CONNECT, this);
+                return true;
+            } catch (IOException e) {
+                logger.trace("Could not connect to {} {}", address, e.getMessage());
+                complete(false);
+                return false;
+            }
+        }
+
+        void finish() {
+            SocketChannel channel = this.channel;
+            try {
+                complete(channel != null && channel.finishConnect());
+            } catch (IOException e) {
+                // connection refused, no route to host, ...
+                logger.trace("Could not connect to {} {}", address, e.getMessage());
+                complete(false);
+            }
+        }
+
+        void complete(boolean success) {
+            SocketChannel channel = this.channel;
+            if (channel != null) {
+                try {
+                    // also cancels the selection key
+                    channel.close();
+                } catch (IOException e) {
+                    logger.trace("Failed to close connection to {}", address, e);
+                }
+            }
+            future.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - startTime)));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -40,6 +41,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 
 /**
  * Tests cases for {@see PresenceDetectionValue}
@@ -161,6 +163,32 @@ public class PresenceDetectionTest {
         assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
+    @Test
+    public void presenceProberTest() throws InterruptedException, IOException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        PresenceProber presenceProber = mock(PresenceProber.class);
+        when(presenceProber.isBatchPingAvailable()).thenReturn(true);
+        when(presenceProber.servicePing(any(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(pingResult));
+        when(presenceProber.icmpPing(any(), any())).thenReturn(CompletableFuture.completedFuture(pingResult));
+        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
+                anyString(), any(), any());
+        subject.setPresenceProber(presenceProber);
+
+        subject.performPresenceDetection();
+
+        // TCP and ICMP checks are performed by the prober, ARP pings still use the arping tool
+        verify(subject, never()).performServicePing(any(), anyInt());
+        verify(subject, never()).performSystemPing(any());
+        verify(subject).performArpPing(any(), any());
+        verify(presenceProber).servicePing(any(), eq(1010), any());
+        verify(presenceProber).icmpPing(any(), any());
+
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(1)).finalDetectionResult(pdvCapture.capture());
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
+    }
+
     @Test
     public void cacheTest() throws InterruptedException, IOException {
         PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the TCP connection attempts of the {@link PresenceProber}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProberTest {
+
+    @Test
+    public void servicePingOpenPortTest()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            PingResult result = PresenceProber.getInstance()
+                    .servicePing(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(), Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void servicePingClosedPortTest()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        PingResult result = PresenceProber.getInstance()
+                .servicePing(InetAddress.getLoopbackAddress(), port, Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void servicePingManyConnectionsTest()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1000, InetAddress.getLoopbackAddress())) {
+            // more attempts than concurrently pending connections
+            List<CompletableFuture<PingResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                futures.add(PresenceProber.getInstance().servicePing(InetAddress.getLoopbackAddress(),
+                        serverSocket.getLocalPort(), Duration.ofSeconds(2)));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<PingResult> future : futures) {
+                assertTrue(future.get().isSuccess());
+            }
+        }
+    }
+}
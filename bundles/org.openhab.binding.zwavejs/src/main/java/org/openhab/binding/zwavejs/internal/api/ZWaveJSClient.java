@@ -14,17 +14,21 @@
 package org.openhab.binding.zwavejs.internal.api;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.naming.CommunicationException;
 
@@ -54,6 +58,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
 import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
 
 /**
@@ -71,6 +77,12 @@ import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
  * managing event listeners and ensures that the WebSocket session is accessed in a
  * thread-safe manner.
  *
+ * <p>
+ * Messages are read directly into the message class given by their {@code type}. Large result messages, like the
+ * state of all nodes sent after {@code start_listening}, are read and passed to the listeners on the scheduler, so the
+ * WebSocket thread is not blocked. Messages received while a large message is processed are queued behind it, so the
+ * listeners get all messages in the order they were received.
+ *
  * @see WebSocketListener
  * @see WebSocketClient
  * @see BaseMessage
@@ -85,6 +97,9 @@ public class ZWaveJSClient implements WebSocketListener {
     private int bufferSize = 1048576 * 2; // 2 MiB
     private static final int RECONNECT_INTERVAL_MINUTES = 2;
     private static final String BINDING_SHUTDOWN_MESSAGE = "Binding shutdown";
+    private static final int LARGE_MESSAGE_LENGTH = 65536;
+    private static final Map<String, Class<? extends BaseMessage>> MESSAGE_TYPES = Map.of("version",
+            VersionMessage.class, "result", ResultMessage.class, "event", EventMessage.class);
 
     private final WebSocketClient wsClient;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(BindingConstants.BINDING_ID);
@@ -96,13 +111,15 @@ public class ZWaveJSClient implements WebSocketListener {
     private final Gson gson;
     private final Object sendLock = new Object();
     private String uri = "";
+    private CompletableFuture<?> queuedMessageProcessing = CompletableFuture.completedFuture(null);
+    private final AtomicInteger queueGeneration = new AtomicInteger();
 
     public ZWaveJSClient(WebSocketClient wsClient) {
         this.wsClient = wsClient;
+        // used for messages of which the type could not be read upfront
         RuntimeTypeAdapterFactory<BaseMessage> typeAdapterFactory = RuntimeTypeAdapterFactory.of(BaseMessage.class,
                 "type", true);
-        typeAdapterFactory.registerSubtype(VersionMessage.class, "version")
-                .registerSubtype(ResultMessage.class, "result").registerSubtype(EventMessage.class, "event");
+        MESSAGE_TYPES.forEach((type, messageClass) -> typeAdapterFactory.registerSubtype(messageClass, type));
 
         this.gson = new GsonBuilder().setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
                 .registerTypeAdapter(Instant.class, new InstantAdapter()).registerTypeAdapterFactory(typeAdapterFactory)
@@ -133,6 +150,8 @@ public class ZWaveJSClient implements WebSocketListener {
      */
     public void stop() {
         logger.debug("Disconnecting from Z-Wave JS Webservice");
+        // queued messages which have not been processed yet are ignored
+        queueGeneration.incrementAndGet();
         Session localSession = this.session;
         if (localSession != null) {
             stopKeepAlive();
@@ -269,13 +288,72 @@ public class ZWaveJSClient implements WebSocketListener {
 
     @Override
     public void onWebSocketText(@NonNullByDefault({}) String message) {
-        if (message.contains("\"event\":\"statistics updated\"")) {
+        String type = readMessageType(message);
+        Class<? extends BaseMessage> messageClass = type != null ? MESSAGE_TYPES.get(type) : null;
+        if (messageClass != ResultMessage.class && message.contains("\"event\":\"statistics updated\"")) {
             return;
         }
 
+        if (messageClass == ResultMessage.class && message.length() > LARGE_MESSAGE_LENGTH) {
+            logger.debug("Processing result message of {} characters on the scheduler", message.length());
+            queueMessage(message, messageClass);
+        } else if (!queuedMessageProcessing.isDone()) {
+            // keep the order of the messages while a large message is processed
+            queueMessage(message, messageClass);
+        } else {
+            processMessage(message, messageClass);
+        }
+    }
+
+    /**
+     * Processes a message on the scheduler after all messages queued before. The WebSocket messages are received
+     * one after the other, so the queue is only extended by one thread at a time.
+     *
+     * @param message the message as received
+     * @param messageClass the class of the message, or {@code null} if the type is unknown
+     */
+    private void queueMessage(String message, @Nullable Class<? extends BaseMessage> messageClass) {
+        int generation = queueGeneration.get();
+        queuedMessageProcessing = queuedMessageProcessing.thenRunAsync(() -> {
+            if (generation != queueGeneration.get()) {
+                return;
+            }
+            try {
+                processMessage(message, messageClass);
+            } catch (RuntimeException e) {
+                logger.warn("Error processing queued message: {}", e.getMessage());
+            }
+        }, scheduler);
+    }
+
+    /**
+     * Reads the {@code type} of a message without parsing the whole message. The type is usually the first
+     * member of the message.
+     *
+     * @param message the message as received
+     * @return the type, or {@code null} if the message has no type or is not valid JSON
+     */
+    private @Nullable String readMessageType(String message) {
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("type".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // reported when parsing the message
+        }
+        return null;
+    }
+
+    private void processMessage(String message, @Nullable Class<? extends BaseMessage> messageClass) {
         BaseMessage baseEvent = null;
         try {
-            baseEvent = gson.fromJson(message, BaseMessage.class);
+            // with a known type the message is read directly, without the intermediate JSON tree of the
+            // RuntimeTypeAdapterFactory
+            baseEvent = gson.fromJson(message, messageClass != null ? messageClass : BaseMessage.class);
         } catch (JsonParseException ex) {
             logger.warn("Failed to parse incoming WebSocket message: {}", ex.getMessage());
             logger.trace("RECV | {}", message);
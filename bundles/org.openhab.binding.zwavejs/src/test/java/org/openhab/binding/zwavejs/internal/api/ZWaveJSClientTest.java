@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.openhab.binding.zwavejs.internal.DataUtil;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.BaseMessage;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.EventMessage;
+import org.openhab.binding.zwavejs.internal.api.dto.messages.ResultMessage;
+import org.openhab.binding.zwavejs.internal.handler.ZwaveEventListener;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZWaveJSClientTest {
+
+    private ZWaveJSClient client = new ZWaveJSClient(mock(WebSocketClient.class));
+    private ZwaveEventListener listener = mock(ZwaveEventListener.class);
+
+    @BeforeEach
+    public void setUp() {
+        client.addEventListener(listener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.dispose();
+    }
+
+    @Test
+    public void testEventMessage() throws IOException {
+        client.onWebSocketText(DataUtil.fromFile("event_node_25_switch.json"));
+
+        ArgumentCaptor<BaseMessage> captor = ArgumentCaptor.forClass(BaseMessage.class);
+        verify(listener).onEvent(captor.capture());
+        EventMessage message = assertInstanceOf(EventMessage.class, captor.getValue());
+        assertEquals("event", message.type);
+        assertEquals(25, message.event.nodeId);
+        assertEquals("value updated", message.event.event);
+    }
+
+    @Test
+    public void testStatisticsEventIsIgnored() {
+        client.onWebSocketText(
+                "{\"type\":\"event\",\"event\":{\"source\":\"node\",\"event\":\"statistics updated\",\"nodeId\":2}}");
+
+        verify(listener, never()).onEvent(any());
+    }
+
+    @Test
+    public void testInvalidMessage() {
+        client.onWebSocketText("{\"type\":\"unknown\"}");
+        client.onWebSocketText("not json");
+
+        verify(listener, never()).onEvent(any());
+        verify(listener, times(2)).onConnectionError(any());
+    }
+
+    @Test
+    public void testLargeResultMessageIsProcessedOnScheduler() throws Exception {
+        CompletableFuture<Thread> listenerThread = new CompletableFuture<>();
+        doAnswer(invocation -> listenerThread.complete(Thread.currentThread())).when(listener).onEvent(any());
+
+        client.onWebSocketText(DataUtil.fromFile("store_4.json"));
+
+        assertNotSame(Thread.currentThread(), listenerThread.get(10, TimeUnit.SECONDS));
+        ArgumentCaptor<BaseMessage> captor = ArgumentCaptor.forClass(BaseMessage.class);
+        verify(listener).onEvent(captor.capture());
+        ResultMessage message = assertInstanceOf(ResultMessage.class, captor.getValue());
+        assertTrue(message.success);
+        assertFalse(message.result.state.nodes.isEmpty());
+    }
+
+    @Test
+    public void testMessagesAfterLargeResultMessageKeepOrder() throws IOException {
+        client.onWebSocketText(DataUtil.fromFile("store_4.json"));
+        client.onWebSocketText(DataUtil.fromFile("event_node_25_switch.json"));
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener, timeout(10000)).onEvent(any(ResultMessage.class));
+        inOrder.verify(listener, timeout(10000)).onEvent(any(EventMessage.class));
+    }
+
+    @Test
+    public void testQueuedMessagesAreIgnoredAfterStop() throws Exception {
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(listener).onEvent(any(ResultMessage.class));
+
+        client.onWebSocketText(DataUtil.fromFile("store_4.json"));
+        assertTrue(processing.await(10, TimeUnit.SECONDS));
+        client.onWebSocketText(DataUtil.fromFile("event_node_25_switch.json"));
+        client.stop();
+        release.countDown();
+
+        verify(listener, after(500).never()).onEvent(any(EventMessage.class));
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -75,6 +76,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
+    /**
+     * The items and the HomeKit metadata each root accessory was created from, so that accessories which are marked
+     * dirty but did not change are kept as they are.
+     */
+    private final Map<String, AccessorySource> accessorySources = new HashMap<>();
+
+    /**
+     * Index from item name to the names of the root accessories which were created (also) from this item.
+     */
+    private final Map<String, Set<String>> dependentAccessories = new HashMap<>();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -204,8 +216,15 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public void allItemsChanged(Collection<String> oldItemNames) {
-        clearAccessories();
+    public synchronized void allItemsChanged(Collection<String> oldItemNames) {
+        // check all accessories, accessories which did not change are kept
+        pendingUpdates.addAll(accessoryRegistry.getAllAccessories().keySet());
+        for (Item item : itemRegistry.getItems()) {
+            if (hasHomeKitMetadata(item)) {
+                pendingUpdates.add(item.getName());
+            }
+        }
+        applyUpdatesDebouncer.call();
     }
 
     /**
@@ -231,6 +250,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         if (item instanceof GroupItem itemAsGroupItem) {
             itemAsGroupItem.getMembers().forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
         }
+
+        /*
+         * mark all accessories dirty which were created from this item, even if it is no longer a member of their
+         * group.
+         */
+        pendingUpdates.addAll(dependentAccessories.getOrDefault(item.getName(), Set.of()));
         applyUpdatesDebouncer.call();
     }
 
@@ -279,7 +304,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
-    private synchronized void applyUpdates() {
+    // Visible for testing
+    synchronized void applyUpdates() {
         logger.trace("Apply updates");
 
         HomekitRoot bridge = accessoryRegistry.getBridge();
@@ -290,10 +316,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         try {
             boolean changed = false;
             for (final String name : pendingUpdates) {
+                Optional<Item> item = getItemOptional(name);
+                if (item.isPresent() && isAccessoryUnchanged(name, item.get())) {
+                    logger.trace(" Accessory {} is unchanged", name);
+                    continue;
+                }
                 String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
+                removeAccessorySource(name);
                 logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
+                item.ifPresent(this::createRootAccessories);
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
@@ -331,6 +363,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        accessorySources.clear();
+        dependentAccessories.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -482,11 +516,101 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     });
             knownAccessories.put(taggedItem.getName(), accessory.toJson());
             accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            addAccessorySource(taggedItem.getName(), getAccessoryItems(item));
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
         }
     }
 
+    /**
+     * Check if an accessory would be created from the same items with the same HomeKit metadata. The accessory
+     * references the items, so new item instances (e.g. after an item was updated) always require a new accessory.
+     *
+     * @param name name of the root accessory
+     * @param item the current item of the root accessory
+     * @return true if the existing accessory can be kept
+     */
+    private boolean isAccessoryUnchanged(String name, Item item) {
+        final @Nullable AccessorySource source = accessorySources.get(name);
+        if (source == null || !accessoryRegistry.getAllAccessories().containsKey(name)) {
+            return false;
+        }
+        final List<Item> items = getAccessoryItems(item);
+        if (items.size() != source.items().size()) {
+            return false;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != source.items().get(i)) {
+                return false;
+            }
+        }
+        return getFingerprint(items).equals(source.fingerprint());
+    }
+
+    /**
+     * collect the item and, if it is a group, all its (nested) members.
+     */
+    private List<Item> getAccessoryItems(Item item) {
+        final List<Item> items = new ArrayList<>();
+        collectAccessoryItems(item, items, new HashSet<>());
+        return items;
+    }
+
+    private void collectAccessoryItems(Item item, List<Item> items, Set<String> visited) {
+        if (visited.add(item.getName())) {
+            items.add(item);
+            if (item instanceof GroupItem groupItem) {
+                groupItem.getMembers().forEach(member -> collectAccessoryItems(member, items, visited));
+            }
+        }
+    }
+
+    /**
+     * the HomeKit metadata of all items of an accessory and of the groups of the root item, which decide if the item
+     * is a root accessory.
+     */
+    private String getFingerprint(List<Item> items) {
+        final StringBuilder fingerprint = new StringBuilder();
+        for (String groupName : items.get(0).getGroupNames()) {
+            fingerprint.append(groupName);
+            appendMetadata(fingerprint, groupName);
+            fingerprint.append(';');
+        }
+        for (Item item : items) {
+            fingerprint.append('\n').append(item.getName());
+            appendMetadata(fingerprint, item.getUID());
+        }
+        return fingerprint.toString();
+    }
+
+    private void appendMetadata(StringBuilder fingerprint, String itemName) {
+        final @Nullable Metadata metadata = metadataRegistry
+                .get(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, itemName));
+        if (metadata != null) {
+            fingerprint.append('=').append(metadata.getValue()).append(new TreeMap<>(metadata.getConfiguration()));
+        }
+    }
+
+    private void addAccessorySource(String name, List<Item> items) {
+        accessorySources.put(name, new AccessorySource(items, getFingerprint(items)));
+        items.forEach(i -> dependentAccessories.computeIfAbsent(i.getName(), k -> new HashSet<>()).add(name));
+    }
+
+    private void removeAccessorySource(String name) {
+        final @Nullable AccessorySource source = accessorySources.remove(name);
+        if (source != null) {
+            for (Item item : source.items()) {
+                final @Nullable Set<String> accessories = dependentAccessories.get(item.getName());
+                if (accessories != null) {
+                    accessories.remove(name);
+                    if (accessories.isEmpty()) {
+                        dependentAccessories.remove(item.getName());
+                    }
+                }
+            }
+        }
+    }
+
     private boolean itemIsForThisBridge(Item item, @Nullable Map<String, Object> configuration) {
         // non-tagged accessories belong to the first instance
         if (configuration == null) {
@@ -574,4 +698,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         priorDummies.clear();
         priorDummies.addAll(currentDummies);
     }
+
+    private record AccessorySource(List<Item> items, String fingerprint) {
+    }
 }
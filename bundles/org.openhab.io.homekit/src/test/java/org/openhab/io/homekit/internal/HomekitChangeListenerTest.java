@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.storage.Storage;
+import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
+
+import io.github.hapjava.accessories.HomekitAccessory;
+
+/**
+ * Tests that {@link HomekitChangeListener} only recreates the accessories which changed. The debounced update is run
+ * by the test.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HomekitChangeListenerTest {
+
+    private final Map<String, Item> items = new HashMap<>();
+    private final Map<MetadataKey, Metadata> metadata = new HashMap<>();
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final MetadataRegistry metadataRegistry = mock(MetadataRegistry.class);
+    @SuppressWarnings("unchecked")
+    private final Storage<Object> storage = mock(Storage.class);
+
+    private @Nullable HomekitChangeListener listener;
+
+    @BeforeEach
+    public void setUp() throws ItemNotFoundException {
+        when(itemRegistry.getItems()).thenAnswer(invocation -> List.copyOf(items.values()));
+        when(itemRegistry.get(any())).thenAnswer(invocation -> items.get(invocation.getArgument(0)));
+        when(itemRegistry.getItem(any())).thenAnswer(invocation -> {
+            Item item = items.get(invocation.getArgument(0));
+            if (item == null) {
+                throw new ItemNotFoundException(invocation.getArgument(0));
+            }
+            return item;
+        });
+        when(metadataRegistry.get(any())).thenAnswer(invocation -> metadata.get(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        HomekitChangeListener listener = this.listener;
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Test
+    public void testUnchangedAccessoryIsKept() {
+        addItem(newSwitch("light"), "Lighting", Map.of());
+        HomekitChangeListener listener = createListener();
+        HomekitAccessory accessory = listener.getAccessories().get("light");
+        assertNotNull(accessory);
+
+        listener.allItemsChanged(List.of());
+        listener.applyUpdates();
+
+        assertSame(accessory, listener.getAccessories().get("light"));
+    }
+
+    @Test
+    public void testChangedGroupMemberRecreatesGroupAccessory() {
+        GroupItem group = newGroup("gLight");
+        SwitchItem member = newSwitch("gLight_on");
+        member.addGroupName(group.getName());
+        group.addMember(member);
+        addItem(group, "Lighting", Map.of());
+        addItem(member, "Lighting.OnState", Map.of());
+        addItem(newSwitch("light"), "Lighting", Map.of());
+        HomekitChangeListener listener = createListener();
+        HomekitAccessory groupAccessory = listener.getAccessories().get("gLight");
+        HomekitAccessory lightAccessory = listener.getAccessories().get("light");
+        assertNotNull(groupAccessory);
+        assertNotNull(lightAccessory);
+
+        // the item registry replaces the member with a new instance
+        SwitchItem updatedMember = newSwitch("gLight_on");
+        updatedMember.addGroupName(group.getName());
+        group.removeMember(member);
+        group.addMember(updatedMember);
+        items.put(updatedMember.getName(), updatedMember);
+        listener.updated(member, updatedMember);
+        listener.applyUpdates();
+
+        HomekitAccessory newGroupAccessory = listener.getAccessories().get("gLight");
+        assertNotNull(newGroupAccessory);
+        assertNotSame(groupAccessory, newGroupAccessory);
+        assertSame(lightAccessory, listener.getAccessories().get("light"));
+    }
+
+    @Test
+    public void testRemovedItemRemovesAccessory() {
+        SwitchItem light = newSwitch("light");
+        addItem(light, "Lighting", Map.of());
+        addItem(newSwitch("otherLight"), "Lighting", Map.of());
+        HomekitChangeListener listener = createListener();
+        HomekitAccessory otherAccessory = listener.getAccessories().get("otherLight");
+        assertTrue(listener.getAccessories().containsKey("light"));
+
+        items.remove(light.getName());
+        listener.removed(light);
+        listener.applyUpdates();
+
+        assertFalse(listener.getAccessories().containsKey("light"));
+        assertSame(otherAccessory, listener.getAccessories().get("otherLight"));
+    }
+
+    @Test
+    public void testConfigurationOnlyChangeOfGroupMetadataRecreatesAccessory() {
+        GroupItem group = newGroup("gRoom");
+        SwitchItem light = newSwitch("light");
+        light.addGroupName(group.getName());
+        group.addMember(light);
+        addItem(group, "", Map.of("room", "kitchen"));
+        addItem(light, "Lighting", Map.of());
+        HomekitChangeListener listener = createListener();
+        HomekitAccessory accessory = listener.getAccessories().get("light");
+        assertNotNull(accessory);
+
+        // only the configuration of the group's metadata changes, its value stays the same
+        Metadata oldMetadata = Objects.requireNonNull(metadata.get(key(group.getName())));
+        Metadata newMetadata = new Metadata(key(group.getName()), "", Map.of("room", "living room"));
+        metadata.put(newMetadata.getUID(), newMetadata);
+        captureMetadataChangeListener().updated(oldMetadata, newMetadata);
+        listener.applyUpdates();
+
+        HomekitAccessory newAccessory = listener.getAccessories().get("light");
+        assertNotNull(newAccessory);
+        assertNotSame(accessory, newAccessory);
+    }
+
+    private HomekitChangeListener createListener() {
+        HomekitChangeListener listener = new HomekitChangeListener(itemRegistry, new HomekitSettings(),
+                metadataRegistry, storage, 1);
+        this.listener = listener;
+        return listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegistryChangeListener<Metadata> captureMetadataChangeListener() {
+        ArgumentCaptor<RegistryChangeListener<Metadata>> captor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(metadataRegistry).addRegistryChangeListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private void addItem(GenericItem item, String value, Map<String, Object> configuration) {
+        items.put(item.getName(), item);
+        metadata.put(key(item.getName()), new Metadata(key(item.getName()), value, configuration));
+    }
+
+    private static MetadataKey key(String itemName) {
+        return new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, itemName);
+    }
+
+    private static SwitchItem newSwitch(String name) {
+        SwitchItem item = new SwitchItem(name);
+        item.setLabel(name);
+        item.setState(OnOffType.ON);
+        return item;
+    }
+
+    private static GroupItem newGroup(String name) {
+        GroupItem group = new GroupItem(name);
+        group.setLabel(name);
+        return group;
+    }
+}
@@ -154,6 +154,11 @@ public class CloudClient {
     protected final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
+    /*
+     * Coalesces item updates and keeps them while the connection is down
+     */
+    private final ItemUpdateQueue itemUpdateQueue = new ItemUpdateQueue(scheduler, this::emitItemUpdate);
+
     @SuppressWarnings("null")
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
@@ -369,6 +374,7 @@ public class CloudClient {
                 this.localBaseUrl);
         reconnectBackoff.reset();
         isConnected = true;
+        itemUpdateQueue.connected();
     }
 
     /**
@@ -379,6 +385,7 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         isConnected = false;
+        itemUpdateQueue.disconnected();
         // And clean up the list of running requests
         runningRequests.clear();
     }
@@ -758,28 +765,36 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Send item update to openHAB Cloud. Updates are coalesced, only the latest state of an item within a short time
+     * frame is sent. Updates are queued while there is no connection.
      *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
-        if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
-            }
-        } else {
-            logger.debug("No connection, Item update is not sent");
+        itemUpdateQueue.add(itemName, itemState);
+    }
+
+    private void emitItemUpdate(String itemName, String itemState) {
+        logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+        JSONObject itemUpdateMessage = new JSONObject();
+        try {
+            itemUpdateMessage.put("itemName", itemName);
+            itemUpdateMessage.put("itemStatus", itemState);
+            socket.emit("itemupdate", itemUpdateMessage);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
         }
     }
 
+    /**
+     * Returns the queue of item updates, which provides the number of sent, coalesced and dropped updates
+     */
+    public ItemUpdateQueue getItemUpdateQueue() {
+        return itemUpdateQueue;
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -793,6 +808,7 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        itemUpdateQueue.shutdown();
         socket.disconnect();
     }
 
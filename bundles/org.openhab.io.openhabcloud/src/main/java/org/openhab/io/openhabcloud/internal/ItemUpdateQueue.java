@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class coalesces the item updates which are sent to the openHAB Cloud. Only the latest state of an item
+ * within a short time frame is sent, and states which are equal to the last state sent on the current connection are
+ * not sent at all. While the connection is down, the latest states are kept (up to a memory budget) and sent after
+ * reconnecting.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateQueue {
+
+    /*
+     * Time frame in ms in which updates of an item are coalesced
+     */
+    private static final long COALESCE_WINDOW = 500;
+
+    /*
+     * Maximum number of characters of item names and states which are kept while waiting to be sent
+     */
+    private static final long MAX_PENDING_CHARS = 256 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateQueue.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final BiConsumer<String, String> sender;
+
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private final Map<String, String> sentStates = new HashMap<>();
+    private long pendingChars;
+    private boolean connected;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private long sentUpdates;
+    private long coalescedUpdates;
+    private long droppedUpdates;
+
+    /**
+     * Constructor of ItemUpdateQueue
+     *
+     * @param scheduler scheduler for sending the coalesced updates
+     * @param sender sends the update of an item (name and state) to the openHAB Cloud
+     */
+    public ItemUpdateQueue(ScheduledExecutorService scheduler, BiConsumer<String, String> sender) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+    }
+
+    /**
+     * Queue an item update
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public synchronized void add(String itemName, String itemState) {
+        String pendingState = pendingUpdates.get(itemName);
+        if (pendingState != null) {
+            // replace the state which has not been sent yet
+            coalescedUpdates++;
+            pendingUpdates.put(itemName, itemState);
+            pendingChars += itemState.length() - pendingState.length();
+        } else if (itemState.equals(sentStates.get(itemName))) {
+            coalescedUpdates++;
+            return;
+        } else if (pendingChars + itemName.length() + itemState.length() > MAX_PENDING_CHARS) {
+            droppedUpdates++;
+            logger.debug("Too many pending item updates, update '{}' for item '{}' is dropped", itemState, itemName);
+            return;
+        } else {
+            pendingUpdates.put(itemName, itemState);
+            pendingChars += itemName.length() + itemState.length();
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Start sending the updates, including the ones that were queued while the connection was down
+     */
+    public synchronized void connected() {
+        connected = true;
+        // the states sent on a previous connection may not have reached the openHAB Cloud
+        sentStates.clear();
+        if (!pendingUpdates.isEmpty()) {
+            logger.debug("Sending {} item updates which were queued while disconnected", pendingUpdates.size());
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Stop sending the updates, they are queued until the connection is established again
+     */
+    public synchronized void disconnected() {
+        connected = false;
+    }
+
+    /**
+     * Stop sending the updates and discard all queued updates
+     */
+    public synchronized void shutdown() {
+        connected = false;
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        logger.debug("Item updates: {} sent, {} coalesced, {} dropped, {} discarded", sentUpdates, coalescedUpdates,
+                droppedUpdates, pendingUpdates.size());
+        pendingUpdates.clear();
+        pendingChars = 0;
+        sentStates.clear();
+    }
+
+    /**
+     * @return the number of item updates which were sent to the openHAB Cloud
+     */
+    public synchronized long getSentUpdates() {
+        return sentUpdates;
+    }
+
+    /**
+     * @return the number of item updates which were not sent because a newer update of the item followed within the
+     *         time frame or the state was sent already
+     */
+    public synchronized long getCoalescedUpdates() {
+        return coalescedUpdates;
+    }
+
+    /**
+     * @return the number of item updates which were not sent because the memory budget was exhausted
+     */
+    public synchronized long getDroppedUpdates() {
+        return droppedUpdates;
+    }
+
+    private void scheduleFlush() {
+        if (connected && flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, COALESCE_WINDOW, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void flush() {
+        flushJob = null;
+        if (!connected) {
+            return;
+        }
+        pendingUpdates.forEach((itemName, itemState) -> {
+            if (itemState.equals(sentStates.get(itemName))) {
+                coalescedUpdates++;
+            } else {
+                sender.accept(itemName, itemState);
+                sentStates.put(itemName, itemState);
+                sentUpdates++;
+            }
+        });
+        logger.trace("Item updates: {} sent, {} coalesced, {} dropped", sentUpdates, coalescedUpdates,
+                droppedUpdates);
+        pendingUpdates.clear();
+        pendingChars = 0;
+    }
+}
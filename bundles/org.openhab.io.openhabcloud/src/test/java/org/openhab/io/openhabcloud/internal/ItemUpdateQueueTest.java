@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ItemUpdateQueue}. The scheduled flush is run by the test instead of a scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateQueueTest {
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private final List<String> sentUpdates = new ArrayList<>();
+    private final ItemUpdateQueue queue = new ItemUpdateQueue(scheduler,
+            (itemName, itemState) -> sentUpdates.add(itemName + "=" + itemState));
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            scheduledFlushes.add(invocation.getArgument(0));
+            return mock(ScheduledFuture.class);
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testUpdatesWithinWindowAreCoalesced() {
+        queue.connected();
+        queue.add("Temperature", "20.0");
+        queue.add("Temperature", "20.5");
+        queue.add("Switch", "ON");
+        queue.add("Temperature", "21.0");
+
+        // a single flush is scheduled for all updates of the window
+        verify(scheduler).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        runScheduledFlushes();
+
+        assertEquals(List.of("Temperature=21.0", "Switch=ON"), sentUpdates);
+        assertEquals(2, queue.getSentUpdates());
+        assertEquals(2, queue.getCoalescedUpdates());
+    }
+
+    @Test
+    public void testSentStateIsNotSentAgain() {
+        queue.connected();
+        queue.add("Switch", "ON");
+        runScheduledFlushes();
+
+        queue.add("Switch", "ON");
+        runScheduledFlushes();
+        // the state changes back within the window
+        queue.add("Switch", "OFF");
+        queue.add("Switch", "ON");
+        runScheduledFlushes();
+
+        assertEquals(List.of("Switch=ON"), sentUpdates);
+        assertEquals(3, queue.getCoalescedUpdates());
+    }
+
+    @Test
+    public void testUpdatesAreQueuedWhileDisconnected() {
+        queue.add("Switch", "ON");
+        queue.add("Switch", "OFF");
+        verifyNoInteractions(scheduler);
+
+        queue.connected();
+        runScheduledFlushes();
+
+        assertEquals(List.of("Switch=OFF"), sentUpdates);
+    }
+
+    @Test
+    public void testStatesAreSentAgainAfterReconnect() {
+        queue.connected();
+        queue.add("Switch", "ON");
+        runScheduledFlushes();
+
+        queue.disconnected();
+        queue.connected();
+        queue.add("Switch", "ON");
+        runScheduledFlushes();
+
+        assertEquals(List.of("Switch=ON", "Switch=ON"), sentUpdates);
+    }
+
+    @Test
+    public void testUpdatesAreDroppedWhenBudgetIsExhausted() {
+        String largeState = "x".repeat(100 * 1024);
+        queue.add("Image1", largeState);
+        queue.add("Image2", largeState);
+        queue.add("Image3", largeState);
+        // updates of items which are queued already do not need more memory
+        queue.add("Image1", "y".repeat(100 * 1024));
+        assertEquals(1, queue.getDroppedUpdates());
+
+        queue.connected();
+        runScheduledFlushes();
+
+        assertEquals(2, queue.getSentUpdates());
+        assertEquals(List.of("Image1=" + "y".repeat(100 * 1024), "Image2=" + largeState), sentUpdates);
+
+        // the budget is available again after sending
+        queue.add("Image3", largeState);
+        runScheduledFlushes();
+        assertEquals(3, queue.getSentUpdates());
+    }
+
+    @Test
+    public void testShutdownDiscardsPendingUpdates() {
+        queue.add("Switch", "ON");
+        queue.shutdown();
+        queue.connected();
+
+        verifyNoInteractions(scheduler);
+        assertEquals(List.of(), sentUpdates);
+    }
+
+    private void runScheduledFlushes() {
+        List<Runnable> flushes = new ArrayList<>(scheduledFlushes);
+        scheduledFlushes.clear();
+        flushes.forEach(Runnable::run);
+    }
+}
@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +24,15 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -56,6 +56,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointQueue;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -81,6 +82,10 @@ import org.slf4j.LoggerFactory;
  * {@link org.openhab.persistence.influxdb.internal.influx1} and
  * {@link org.openhab.persistence.influxdb.internal.influx2} packages
  *
+ * Points are written asynchronously: they are kept in a bounded {@link InfluxPointQueue} and written in chunks of
+ * at most <code>batchSize</code> points. The delay between two commits adapts to the write latency and backs off
+ * while the database is not reachable.
+ *
  * @author Theo Weiss - Initial contribution, rewrite of
  *         org.openhab.persistence.influxdb
  * @author Joan Pujol Espinar - Addon rewrite refactoring code and adding
@@ -97,8 +102,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
-    private static final int COMMIT_INTERVAL = 3; // in s
     protected static final String CONFIG_URI = "persistence:influxdb";
+    private static final Path SPILL_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb")
+            .toAbsolutePath();
+    // the commit delay is at least this factor times the average write latency of a chunk
+    private static final int LATENCY_FACTOR = 10;
 
     // External dependencies
     private final ItemRegistry itemRegistry;
@@ -109,8 +117,14 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private boolean serviceActivated;
 
     // storage
-    private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("org.openhab.influxdb");
+    private final Object scheduleLock = new Object();
+    private @Nullable ScheduledFuture<?> storeJob;
+    private final InfluxPointQueue pointsQueue;
+    private long commitDelay; // in ms
+    private double averageWriteLatency; // in ms
+    private volatile boolean lastCommitFailed;
+    private long reportedDroppedPoints;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,11 +137,12 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
+            this.pointsQueue = createPointsQueue();
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
-            this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
-                    .scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS);
+            this.commitDelay = TimeUnit.SECONDS.toMillis(configuration.getCommitInterval());
             serviceActivated = true;
+            scheduleCommit(commitDelay);
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
         }
@@ -144,6 +159,23 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    // Visible for testing
+    protected InfluxPointQueue createPointsQueue() {
+        return new InfluxPointQueue(configuration.getQueueSize(), configuration.getOverflowPolicy(),
+                configuration.getBatchSize(), SPILL_FOLDER.resolve(getSpillFolderName()));
+    }
+
+    /**
+     * The spilled points belong to one database, a service that is reconfigured to another server or database must
+     * not pick them up. The name starts with database and retention policy to be recognizable.
+     */
+    private String getSpillFolderName() {
+        String target = configuration.getUrl() + "|" + configuration.getDatabaseName() + "|"
+                + configuration.getRetentionPolicy();
+        String name = configuration.getDatabaseName() + "-" + configuration.getRetentionPolicy();
+        return name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + Integer.toHexString(target.hashCode());
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -151,10 +183,21 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     public void deactivate() {
         serviceActivated = false;
 
-        storeJob.cancel(false);
+        synchronized (scheduleLock) {
+            ScheduledFuture<?> storeJob = this.storeJob;
+            if (storeJob != null) {
+                storeJob.cancel(false);
+                this.storeJob = null;
+            }
+        }
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
+        if (pointsQueue.spillAll()) {
+            long spilled = pointsQueue.getSpilledCount();
+            if (spilled > 0) {
+                logger.info("InfluxDB kept {} points on disk, they will be written after the next start.", spilled);
+            }
+        } else {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
 
@@ -209,10 +252,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
-                logger.trace("Queued {} for item {}", point, item);
-            } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
+            pointsQueue.offer(point);
+            logger.trace("Queued {} for item {}", point, item);
+            if (pointsQueue.size() >= configuration.getBatchSize() && !lastCommitFailed) {
+                // a full chunk is waiting, don't wait for the next scheduled commit unless writing is backing off
+                scheduleCommit(0);
             }
         });
     }
@@ -283,17 +327,93 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
+    /**
+     * Get the number of points waiting to be written
+     *
+     * @return the number of points in memory and spilled to disk
+     */
+    public long getQueuedPoints() {
+        return pointsQueue.size() + pointsQueue.getSpilledCount();
+    }
+
+    /**
+     * Get the number of points that have been dropped because the queue was full
+     *
+     * @return the number of dropped points since the service was activated
+     */
+    public long getDroppedPoints() {
+        return pointsQueue.getDroppedCount();
+    }
+
+    private void scheduleCommit(long delay) {
+        synchronized (scheduleLock) {
+            if (!serviceActivated) {
+                return;
+            }
+            ScheduledFuture<?> storeJob = this.storeJob;
+            if (storeJob != null) {
+                if (delay == 0 && storeJob.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                    // a commit is already due or running
+                    return;
+                }
+                storeJob.cancel(false);
+            }
+            this.storeJob = scheduler.schedule(this::commitAndReschedule, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void commitAndReschedule() {
+        boolean success = commit();
+        lastCommitFailed = !success;
+        long minDelay = TimeUnit.SECONDS.toMillis(configuration.getCommitInterval());
+        long maxDelay = TimeUnit.SECONDS.toMillis(configuration.getMaxCommitInterval());
+        if (success) {
+            commitDelay = Math.min(maxDelay, Math.max(minDelay, (long) (averageWriteLatency * LATENCY_FACTOR)));
+        } else {
+            commitDelay = Math.min(maxDelay, Math.max(minDelay, commitDelay * 2));
+        }
+        logger.trace("Next commit in {} ms (average write latency {} ms)", commitDelay, averageWriteLatency);
+        scheduleCommit(commitDelay);
+    }
+
+    /**
+     * Write all queued points in chunks of at most <code>batchSize</code> points
+     *
+     * @return <code>false</code> if writing failed, <code>true</code> otherwise
+     */
+    private synchronized boolean commit() {
+        reportDroppedPoints();
+        if (pointsQueue.isEmpty()) {
+            return true;
+        }
+        if (!checkConnection()) {
+            logger.debug("InfluxDB is not connected, {} points queued", getQueuedPoints());
+            return false;
+        }
+        int written = 0;
+        List<InfluxPoint> points;
+        while (!(points = pointsQueue.poll(configuration.getBatchSize())).isEmpty()) {
+            long start = System.nanoTime();
             if (!influxDBRepository.write(points)) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+                pointsQueue.requeue(points);
                 influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
+                return false;
             }
+            double latency = (System.nanoTime() - start) / 1_000_000.0;
+            averageWriteLatency = averageWriteLatency == 0 ? latency : 0.8 * averageWriteLatency + 0.2 * latency;
+            written += points.size();
+        }
+        logger.trace("Wrote {} elements to database", written);
+        return true;
+    }
+
+    private void reportDroppedPoints() {
+        long dropped = pointsQueue.getDroppedCount();
+        if (dropped > reportedDroppedPoints) {
+            logger.warn("InfluxDB queue is full, dropped {} points ({} in total).", dropped - reportedDroppedPoints,
+                    dropped);
+            reportedDroppedPoints = dropped;
         }
     }
 
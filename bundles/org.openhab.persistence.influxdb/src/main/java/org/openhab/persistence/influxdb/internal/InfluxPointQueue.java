@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of {@link InfluxPoint}s waiting to be written to the database.
+ * <p>
+ * If the queue is full, the configured {@link OverflowPolicy} is applied: either the oldest points are dropped or the
+ * additional points are spilled to segment files in a local directory. Spilled points are collected in memory until
+ * a full segment can be written, each segment is written once to a temporary file and then renamed, so a segment file
+ * is never modified after it has been created. Spilled segments are loaded back (oldest first) as soon as there is
+ * enough space in the queue. Segments left over from a previous run are picked up when the queue is created.
+ * <p>
+ * All methods are thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueue {
+    private static final String SEGMENT_SUFFIX = ".spill";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointQueue.class);
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int segmentSize;
+    private final @Nullable Path spillFolder;
+
+    private final Deque<InfluxPoint> points = new ArrayDeque<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Deque<InfluxPoint> spillBuffer = new ArrayDeque<>();
+    private long segmentCounter;
+    private long droppedPoints;
+
+    /**
+     * Create a new queue
+     *
+     * @param capacity the maximum number of points kept in memory
+     * @param overflowPolicy the policy that is applied if the capacity is exceeded
+     * @param segmentSize the maximum number of points in a spill segment
+     * @param spillFolder the folder for spill segments, only used for {@link OverflowPolicy#SPILL}
+     */
+    public InfluxPointQueue(int capacity, OverflowPolicy overflowPolicy, int segmentSize, @Nullable Path spillFolder) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.segmentSize = Math.min(segmentSize, capacity);
+        this.spillFolder = overflowPolicy == OverflowPolicy.SPILL ? spillFolder : null;
+        loadExistingSegments();
+    }
+
+    /**
+     * Add a point to the end of the queue. Never blocks, if the queue is full the overflow policy is applied.
+     *
+     * @param point the point to add
+     */
+    public synchronized void offer(InfluxPoint point) {
+        if (points.size() < capacity && segments.isEmpty() && spillBuffer.isEmpty()) {
+            points.addLast(point);
+        } else if (spillFolder != null) {
+            // keep the order of points: once spilling started, new points are spilled until the segments are loaded
+            spill(point);
+        } else {
+            points.addLast(point);
+            dropOverflow();
+        }
+    }
+
+    /**
+     * Remove up to <code>maxSize</code> points from the head of the queue
+     *
+     * @param maxSize the maximum number of points to return
+     * @return the removed points, empty if the queue is empty
+     */
+    public synchronized List<InfluxPoint> poll(int maxSize) {
+        List<InfluxPoint> chunk = new ArrayList<>(Math.min(maxSize, points.size()));
+        while (chunk.size() < maxSize && !points.isEmpty()) {
+            chunk.add(points.pollFirst());
+        }
+        loadSegments();
+        return chunk;
+    }
+
+    /**
+     * Put points that failed to be written back to the head of the queue. If this exceeds the capacity, the overflow
+     * policy is applied.
+     *
+     * @param chunk the points to re-queue
+     */
+    public synchronized void requeue(List<InfluxPoint> chunk) {
+        for (int i = chunk.size() - 1; i >= 0; i--) {
+            points.addFirst(chunk.get(i));
+        }
+        if (spillFolder != null) {
+            // spill the newest points, the next segment to load is the oldest one
+            List<InfluxPoint> overflow = new ArrayList<>();
+            while (points.size() > capacity) {
+                overflow.add(0, points.pollLast());
+            }
+            if (!overflow.isEmpty()) {
+                spillFirst(overflow);
+            }
+        } else {
+            dropOverflow();
+        }
+    }
+
+    /**
+     * Spill all points that are currently held in memory. This is used on shutdown to keep queued points across
+     * restarts. If no spill folder is configured, nothing happens.
+     *
+     * @return <code>true</code> if the queue is empty or all points have been spilled, <code>false</code> otherwise
+     */
+    public synchronized boolean spillAll() {
+        if (points.isEmpty() && spillBuffer.isEmpty()) {
+            return true;
+        }
+        if (spillFolder == null) {
+            return false;
+        }
+        writeSpillBuffer();
+        if (!points.isEmpty()) {
+            List<InfluxPoint> all = new ArrayList<>(points);
+            points.clear();
+            spillFirst(all);
+        }
+        return points.isEmpty();
+    }
+
+    /**
+     * @return the number of points held in memory
+     */
+    public synchronized int size() {
+        return points.size();
+    }
+
+    /**
+     * @return the number of points held in spill segments
+     */
+    public synchronized long getSpilledCount() {
+        return segments.stream().mapToLong(Segment::size).sum() + spillBuffer.size();
+    }
+
+    /**
+     * @return the number of points that have been dropped since the queue was created
+     */
+    public synchronized long getDroppedCount() {
+        return droppedPoints;
+    }
+
+    public synchronized boolean isEmpty() {
+        return points.isEmpty() && segments.isEmpty() && spillBuffer.isEmpty();
+    }
+
+    private void dropOverflow() {
+        while (points.size() > capacity) {
+            points.pollFirst();
+            droppedPoints++;
+        }
+    }
+
+    private void spill(InfluxPoint point) {
+        spillBuffer.addLast(point);
+        if (spillBuffer.size() >= segmentSize) {
+            writeSpillBuffer();
+        }
+    }
+
+    private void writeSpillBuffer() {
+        if (spillBuffer.isEmpty()) {
+            return;
+        }
+        Path segmentPath = nextSegmentPath();
+        if (segmentPath != null && writeSegment(segmentPath, spillBuffer)) {
+            segments.addLast(new Segment(segmentPath, spillBuffer.size()));
+        } else {
+            droppedPoints += spillBuffer.size();
+        }
+        spillBuffer.clear();
+    }
+
+    private void spillFirst(List<InfluxPoint> overflow) {
+        // segments are named in order, a new segment at the head gets a name that sorts before the current head
+        Segment first = segments.peekFirst();
+        long firstNumber = first != null ? segmentNumber(first.path) : segmentCounter;
+        for (int start = 0; start < overflow.size(); start += segmentSize) {
+            firstNumber--;
+        }
+        List<Segment> newSegments = new ArrayList<>();
+        for (int start = 0; start < overflow.size(); start += segmentSize) {
+            List<InfluxPoint> part = overflow.subList(start, Math.min(overflow.size(), start + segmentSize));
+            Path segmentPath = segmentPath(firstNumber++);
+            if (segmentPath != null && writeSegment(segmentPath, part)) {
+                newSegments.add(new Segment(segmentPath, part.size()));
+            } else {
+                droppedPoints += part.size();
+            }
+        }
+        for (int i = newSegments.size() - 1; i >= 0; i--) {
+            segments.addFirst(newSegments.get(i));
+        }
+    }
+
+    private void loadSegments() {
+        Segment segment;
+        while ((segment = segments.peekFirst()) != null && capacity - points.size() >= segment.size()) {
+            segments.pollFirst();
+            try {
+                List<InfluxPoint> loaded = readSegment(segment.path);
+                points.addAll(loaded);
+                droppedPoints += segment.size() - loaded.size();
+            } catch (IOException e) {
+                logger.warn("Failed to read spilled points from '{}': {}", segment.path, e.getMessage());
+                droppedPoints += segment.size();
+            }
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                logger.warn("Failed to delete spill segment '{}': {}", segment.path, e.getMessage());
+            }
+        }
+        // the points that are not written to a segment yet are the newest ones
+        while (segments.isEmpty() && !spillBuffer.isEmpty() && points.size() < capacity) {
+            points.addLast(spillBuffer.pollFirst());
+        }
+    }
+
+    private void loadExistingSegments() {
+        Path folder = spillFolder;
+        if (folder == null || !Files.isDirectory(folder)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            List<Path> segmentFiles = new ArrayList<>();
+            for (Path file : files.toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(SEGMENT_SUFFIX + TEMP_SUFFIX)) {
+                    // left over from a write that was interrupted, the points have not been spilled
+                    Files.deleteIfExists(file);
+                } else if (fileName.endsWith(SEGMENT_SUFFIX)) {
+                    segmentFiles.add(file);
+                }
+            }
+            segmentFiles.sort((p1, p2) -> Long.compare(segmentNumber(p1), segmentNumber(p2)));
+            for (Path segmentFile : segmentFiles) {
+                int size = readSegment(segmentFile).size();
+                segments.addLast(new Segment(segmentFile, size));
+                segmentCounter = Math.max(segmentCounter, segmentNumber(segmentFile) + 1);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read spilled points from '{}': {}", folder, e.getMessage());
+        }
+        if (!segments.isEmpty()) {
+            logger.info("Found {} spilled points from a previous run in '{}'.", getSpilledCount(), folder);
+            loadSegments();
+        }
+    }
+
+    private @Nullable Path nextSegmentPath() {
+        return segmentPath(segmentCounter++);
+    }
+
+    private @Nullable Path segmentPath(long number) {
+        Path folder = spillFolder;
+        return folder != null ? folder.resolve(number + SEGMENT_SUFFIX) : null;
+    }
+
+    private long segmentNumber(Path path) {
+        String fileName = path.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private boolean writeSegment(Path path, Collection<InfluxPoint> segmentPoints) {
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(path.getParent());
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                for (InfluxPoint point : segmentPoints) {
+                    writePoint(out, point);
+                }
+            }
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to spill {} points to '{}', dropping them: {}", segmentPoints.size(), path,
+                    e.getMessage());
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException ignored) {
+                // a stray temporary file is removed when the queue is created the next time
+            }
+            return false;
+        }
+    }
+
+    private List<InfluxPoint> readSegment(Path path) throws IOException {
+        List<InfluxPoint> segmentPoints = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                try {
+                    segmentPoints.add(readPoint(in));
+                } catch (EOFException e) {
+                    // end of segment, a truncated last point is ignored
+                    break;
+                }
+            }
+        }
+        return segmentPoints;
+    }
+
+    private void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        writeString(out, point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        Object value = point.getValue();
+        if (value instanceof BigDecimal decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, decimal.toString());
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeString(out, String.valueOf(value));
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+    }
+
+    private InfluxPoint readPoint(DataInputStream in) throws IOException {
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in))
+                .withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        byte type = in.readByte();
+        builder.withValue(switch (type) {
+            case TYPE_DECIMAL -> new BigDecimal(readString(in));
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            default -> readString(in);
+        });
+        int tagCount = in.readInt();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Segment(Path path, int size) {
+    }
+}
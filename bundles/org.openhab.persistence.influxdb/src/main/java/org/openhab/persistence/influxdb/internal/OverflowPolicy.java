@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Policy applied when the queue of points waiting to be written is full
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum OverflowPolicy {
+    /** Discard the oldest queued points */
+    DROP_OLDEST,
+    /** Write the points exceeding the queue size to local disk and re-queue them when space is available */
+    SPILL
+}
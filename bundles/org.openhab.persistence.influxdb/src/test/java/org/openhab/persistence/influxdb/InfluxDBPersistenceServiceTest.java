@@ -12,9 +12,13 @@
  */
 package org.openhab.persistence.influxdb;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.BATCH_SIZE_PARAM;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.COMMIT_INTERVAL_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.DATABASE_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.PASSWORD_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.RETENTION_POLICY_PARAM;
@@ -23,11 +27,18 @@ import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.UR
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.USER_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VERSION_PARAM;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -37,7 +48,10 @@ import org.openhab.core.items.MetadataRegistry;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
+import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointQueue;
 import org.openhab.persistence.influxdb.internal.ItemTestHelper;
+import org.openhab.persistence.influxdb.internal.OverflowPolicy;
 import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 
 /**
@@ -124,6 +138,81 @@ public class InfluxDBPersistenceServiceTest {
         verify(influxDBRepositoryMock, never()).write(any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void queuedPointsAreWrittenInChunks() throws UnexpectedConditionException, InterruptedException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(BATCH_SIZE_PARAM, 2);
+        config.put(COMMIT_INTERVAL_PARAM, 1);
+        CountDownLatch queued = new CountDownLatch(5);
+        InfluxDBPersistenceService instance = new InfluxDBPersistenceService(mock(ItemRegistry.class),
+                influxDBMetadataService, config) {
+            @Override
+            protected InfluxDBRepository createInfluxDBRepository() {
+                return influxDBRepositoryMock;
+            }
+
+            @Override
+            protected InfluxPointQueue createPointsQueue() {
+                return new InfluxPointQueue(10, OverflowPolicy.DROP_OLDEST, 2, null) {
+                    @Override
+                    public synchronized void offer(InfluxPoint point) {
+                        super.offer(point);
+                        queued.countDown();
+                    }
+                };
+            }
+        };
+        when(influxDBRepositoryMock.isConnected()).thenReturn(false);
+        for (int i = 0; i < 5; i++) {
+            instance.store(ItemTestHelper.createNumberItem("number" + i, i));
+        }
+        // points are converted asynchronously
+        assertThat(queued.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(instance.getQueuedPoints(), is(5L));
+
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(any())).thenReturn(true);
+        ArgumentCaptor<List<InfluxPoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(influxDBRepositoryMock, timeout(5000).times(3)).write(captor.capture());
+
+        assertThat(captor.getAllValues().stream().map(List::size).toList(), contains(2, 2, 1));
+        assertThat(instance.getDroppedPoints(), is(0L));
+        instance.deactivate();
+    }
+
+    @Test
+    public void queueAboveBatchSizeIsCommittedEarly() throws UnexpectedConditionException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(BATCH_SIZE_PARAM, 2);
+        config.put(COMMIT_INTERVAL_PARAM, 60);
+        InfluxDBPersistenceService instance = new InfluxDBPersistenceService(mock(ItemRegistry.class),
+                influxDBMetadataService, config) {
+            @Override
+            protected InfluxDBRepository createInfluxDBRepository() {
+                return influxDBRepositoryMock;
+            }
+
+            @Override
+            protected InfluxPointQueue createPointsQueue() {
+                // the queue has already passed the batch size when the next point arrives
+                InfluxPointQueue queue = new InfluxPointQueue(10, OverflowPolicy.DROP_OLDEST, 2, null);
+                for (int i = 0; i < 3; i++) {
+                    queue.offer(InfluxPoint.newBuilder("measurement").withTime(Instant.now())
+                            .withValue(new BigDecimal(i)).build());
+                }
+                return queue;
+            }
+        };
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(any())).thenReturn(true);
+        instance.store(ItemTestHelper.createNumberItem("number", 5));
+
+        // the scheduled commit is a minute away, so only the early commit can write within the timeout
+        verify(influxDBRepositoryMock, timeout(5000).atLeastOnce()).write(any());
+        instance.deactivate();
+    }
+
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
         return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
             @Override
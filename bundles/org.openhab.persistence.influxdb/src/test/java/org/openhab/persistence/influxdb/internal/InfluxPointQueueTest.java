@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueueTest {
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private @TempDir @NonNullByDefault({}) Path spillFolder;
+
+    @Test
+    public void dropOldestKeepsNewestPoints() {
+        InfluxPointQueue queue = new InfluxPointQueue(5, OverflowPolicy.DROP_OLDEST, 2, null);
+        for (int i = 0; i < 8; i++) {
+            queue.offer(point(i));
+        }
+
+        assertThat(queue.size(), is(5));
+        assertThat(queue.getDroppedCount(), is(3L));
+        assertThat(values(queue.poll(10)), contains(3, 4, 5, 6, 7));
+    }
+
+    @Test
+    public void pollReturnsChunks() {
+        InfluxPointQueue queue = new InfluxPointQueue(10, OverflowPolicy.DROP_OLDEST, 3, null);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(point(i));
+        }
+
+        assertThat(values(queue.poll(3)), contains(0, 1, 2));
+        assertThat(values(queue.poll(3)), contains(3, 4));
+        assertThat(queue.poll(3), is(empty()));
+    }
+
+    @Test
+    public void requeuedPointsAreWrittenFirst() {
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.DROP_OLDEST, 2, null);
+        for (int i = 0; i < 4; i++) {
+            queue.offer(point(i));
+        }
+        List<InfluxPoint> chunk = queue.poll(2);
+        queue.offer(point(4));
+        queue.offer(point(5));
+        queue.requeue(chunk);
+
+        // the queue is full again, the oldest requeued points are dropped
+        assertThat(queue.getDroppedCount(), is(2L));
+        assertThat(values(queue.poll(10)), contains(2, 3, 4, 5));
+    }
+
+    @Test
+    public void spilledPointsAreLoadedInOrder() {
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.SPILL, 2, spillFolder);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(point(i));
+        }
+        assertThat(queue.size(), is(4));
+        assertThat(queue.getSpilledCount(), is(6L));
+
+        List<Integer> values = new ArrayList<>();
+        List<InfluxPoint> chunk;
+        while (!(chunk = queue.poll(2)).isEmpty()) {
+            values.addAll(values(chunk));
+        }
+        assertThat(values, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        assertThat(queue.getDroppedCount(), is(0L));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void spilledPointsSurviveRestart() {
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.SPILL, 2, spillFolder);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(point(i));
+        }
+        assertThat(queue.spillAll(), is(true));
+        assertThat(queue.size(), is(0));
+
+        InfluxPointQueue restored = new InfluxPointQueue(4, OverflowPolicy.SPILL, 2, spillFolder);
+        List<InfluxPoint> points = new ArrayList<>(restored.poll(10));
+        points.addAll(restored.poll(10));
+
+        assertThat(values(points), contains(0, 1, 2, 3, 4, 5));
+        InfluxPoint first = points.get(0);
+        assertThat(first.getMeasurementName(), is("measurement"));
+        assertThat(first.getTime(), is(START));
+        assertThat(first.getTags(), is(equalTo(Map.of("item", "item0"))));
+    }
+
+    @Test
+    public void partialSegmentIsSpilledOnShutdown() throws IOException {
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.SPILL, 3, spillFolder);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(point(i));
+        }
+        // two points wait for a full segment, they are not written to disk yet
+        assertThat(queue.getSpilledCount(), is(2L));
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            assertThat(files.count(), is(0L));
+        }
+        assertThat(queue.spillAll(), is(true));
+
+        InfluxPointQueue restored = new InfluxPointQueue(10, OverflowPolicy.SPILL, 3, spillFolder);
+        assertThat(values(restored.poll(10)), contains(0, 1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void spilledPointsAreLoadedWithoutSegment() {
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.SPILL, 3, spillFolder);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(point(i));
+        }
+
+        assertThat(values(queue.poll(2)), contains(0, 1));
+        assertThat(values(queue.poll(10)), contains(2, 3, 4, 5));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void longStringsAreSpilled() {
+        String value = "x".repeat(100_000);
+        InfluxPointQueue queue = new InfluxPointQueue(1, OverflowPolicy.SPILL, 1, spillFolder);
+        queue.offer(point(0));
+        queue.offer(InfluxPoint.newBuilder("measurement").withTime(START).withValue(value).build());
+        assertThat(queue.spillAll(), is(true));
+
+        InfluxPointQueue restored = new InfluxPointQueue(2, OverflowPolicy.SPILL, 1, spillFolder);
+        List<InfluxPoint> points = restored.poll(2);
+        assertThat(points, hasSize(2));
+        assertThat(points.get(1).getValue(), is(value));
+        assertThat(restored.getDroppedCount(), is(0L));
+    }
+
+    @Test
+    public void interruptedSegmentWritesAreRemoved() throws IOException {
+        Path temporary = spillFolder.resolve("0.spill.tmp");
+        Files.write(temporary, new byte[] { 0, 0, 0, 5, 'm' });
+
+        InfluxPointQueue queue = new InfluxPointQueue(4, OverflowPolicy.SPILL, 2, spillFolder);
+
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(Files.exists(temporary), is(false));
+    }
+
+    private InfluxPoint point(int i) {
+        return InfluxPoint.newBuilder("measurement").withTime(START.plusSeconds(i)).withValue(new BigDecimal(i))
+                .withTag("item", "item" + i).build();
+    }
+
+    private List<Integer> values(List<InfluxPoint> points) {
+        return points.stream().map(p -> ((BigDecimal) p.getValue()).intValue()).toList();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryHistoricItem} is the {@link HistoricItem} returned by the {@link InMemoryPersistenceService}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryHistoricItem implements HistoricItem {
+    private final String name;
+    private final ZonedDateTime timestamp;
+    private final State state;
+
+    public InMemoryHistoricItem(String name, ZonedDateTime timestamp, State state) {
+        this.name = name;
+        this.timestamp = timestamp;
+        this.state = state;
+    }
+
+    @Override
+    public ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryHistoricItem{name='" + name + "', timestamp=" + timestamp + ", state=" + state + "}";
+    }
+}
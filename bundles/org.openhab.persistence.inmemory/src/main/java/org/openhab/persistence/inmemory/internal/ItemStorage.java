@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ItemStorage} holds the persisted values of a single item. Implementations are not thread-safe, callers
+ * need to hold the lock of the item.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface ItemStorage {
+
+    /**
+     * Store a value. If a value with the same timestamp is already present, the existing value is kept.
+     *
+     * @param timestamp the timestamp of the value
+     * @param state the state
+     * @param maxEntries the maximum number of values to keep, {@code 0} for unlimited
+     * @return {@code false} if this storage can't hold the given state, {@code true} otherwise
+     */
+    boolean store(ZonedDateTime timestamp, State state, long maxEntries);
+
+    /**
+     * Remove the oldest values until at most <code>maxEntries</code> values are left.
+     *
+     * @param maxEntries the maximum number of values to keep, {@code 0} for unlimited
+     */
+    void trim(long maxEntries);
+
+    int size();
+
+    @Nullable
+    ZonedDateTime getEarliest();
+
+    @Nullable
+    ZonedDateTime getLatest();
+
+    List<HistoricItem> query(String itemName, FilterCriteria filter);
+
+    void remove(FilterCriteria filter);
+
+    /**
+     * Call the consumer for all values in ascending order.
+     */
+    void forEach(BiConsumer<ZonedDateTime, State> consumer);
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NumericItemStorage} is a compact {@link ItemStorage} for {@link DecimalType} and {@link QuantityType}
+ * states. Values are kept in a circular buffer of primitive columns (epoch milliseconds, time zone index, double
+ * value, scale and unit index), sorted by timestamp. State and timestamp objects are only created for query results.
+ * <p>
+ * Timestamps are stored with millisecond precision in their original time zone. Values are returned with their
+ * original scale. A value which can't be restored exactly from a double, e.g. an integer above 2^53, is not
+ * accepted, so the item is moved to a {@link TreeSetItemStorage}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NumericItemStorage implements ItemStorage {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte NO_UNIT = -1;
+    private static final int MAX_UNITS = Byte.MAX_VALUE;
+    private static final int MAX_ZONES = Byte.MAX_VALUE;
+
+    private final Logger logger = LoggerFactory.getLogger(NumericItemStorage.class);
+
+    private final List<Unit<?>> units = new ArrayList<>();
+    private final List<ZoneId> zones = new ArrayList<>();
+
+    // circular buffer, the oldest value is at index head
+    private long[] timestamps = new long[0];
+    private byte[] zoneIndices = new byte[0];
+    private double[] values = new double[0];
+    private byte[] scales = new byte[0];
+    private byte[] unitIndices = new byte[0];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Check if a state can be stored in a {@link NumericItemStorage}. Subclasses like
+     * {@link org.openhab.core.library.types.PercentType} are not supported, because the type would be lost.
+     *
+     * @param state the state
+     * @return true if the state is supported
+     */
+    public static boolean supports(State state) {
+        return state.getClass() == DecimalType.class || state.getClass() == QuantityType.class;
+    }
+
+    @Override
+    public boolean store(ZonedDateTime timestamp, State state, long maxEntries) {
+        byte unitIndex;
+        BigDecimal decimal;
+        if (state.getClass() == QuantityType.class) {
+            QuantityType<?> quantityState = (QuantityType<?>) state;
+            int index = getIndex(units, quantityState.getUnit(), MAX_UNITS);
+            if (index < 0) {
+                return false;
+            }
+            unitIndex = (byte) index;
+            decimal = quantityState.toBigDecimal();
+        } else if (state.getClass() == DecimalType.class) {
+            unitIndex = NO_UNIT;
+            decimal = ((DecimalType) state).toBigDecimal();
+        } else {
+            return false;
+        }
+        double value = decimal.doubleValue();
+        int scale = decimal.scale();
+        if (!Double.isFinite(value) || scale < Byte.MIN_VALUE || scale > Byte.MAX_VALUE
+                || !decimal.equals(toBigDecimal(value, (byte) scale))) {
+            // the value can't be restored from the double
+            return false;
+        }
+        int zoneIndex = getIndex(zones, timestamp.getZone(), MAX_ZONES);
+        if (zoneIndex < 0) {
+            return false;
+        }
+
+        long time = timestamp.toInstant().toEpochMilli();
+        int pos = binarySearch(time);
+        if (pos >= 0) {
+            // keep the existing value for this timestamp
+            return true;
+        }
+        pos = -pos - 1;
+
+        if (maxEntries > 0 && size >= maxEntries) {
+            if (pos == 0) {
+                // the new value would be the oldest one and removed immediately
+                return true;
+            }
+            removeFirst();
+            pos--;
+        }
+        ensureCapacity(size + 1, maxEntries);
+
+        // move newer values to make room, the common case of appending needs no move
+        for (int i = size; i > pos; i--) {
+            int to = physicalIndex(i);
+            int from = physicalIndex(i - 1);
+            copy(from, to);
+        }
+        int p = physicalIndex(pos);
+        timestamps[p] = time;
+        zoneIndices[p] = (byte) zoneIndex;
+        values[p] = value;
+        scales[p] = (byte) scale;
+        unitIndices[p] = unitIndex;
+        size++;
+        return true;
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        while (size > maxEntries) {
+            removeFirst();
+        }
+        if (timestamps.length > maxEntries) {
+            resize((int) maxEntries);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getEarliest() {
+        return size == 0 ? null : toZonedDateTime(physicalIndex(0));
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getLatest() {
+        return size == 0 ? null : toZonedDateTime(physicalIndex(size - 1));
+    }
+
+    @Override
+    public List<HistoricItem> query(String itemName, FilterCriteria filter) {
+        int from = getFromIndex(filter);
+        int to = getToIndex(filter);
+        StateFilter stateFilter = new StateFilter(filter);
+
+        List<HistoricItem> result = new ArrayList<>(Math.max(to - from, 0));
+        if (filter.getOrdering() == FilterCriteria.Ordering.ASCENDING) {
+            for (int i = from; i < to; i++) {
+                addIfMatching(result, itemName, physicalIndex(i), stateFilter);
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                addIfMatching(result, itemName, physicalIndex(i), stateFilter);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        int from = getFromIndex(filter);
+        int to = getToIndex(filter);
+        StateFilter stateFilter = new StateFilter(filter);
+
+        // compact the remaining values in logical order
+        int kept = from;
+        for (int i = from; i < size; i++) {
+            int p = physicalIndex(i);
+            if (i < to && stateFilter.matches(values[p], unitIndices[p])) {
+                continue;
+            }
+            if (kept != i) {
+                copy(p, physicalIndex(kept));
+            }
+            kept++;
+        }
+        size = kept;
+    }
+
+    @Override
+    public void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        for (int i = 0; i < size; i++) {
+            int p = physicalIndex(i);
+            consumer.accept(toZonedDateTime(p), toState(p));
+        }
+    }
+
+    private void addIfMatching(List<HistoricItem> result, String itemName, int p, StateFilter stateFilter) {
+        if (stateFilter.matches(values[p], unitIndices[p])) {
+            result.add(new InMemoryHistoricItem(itemName, toZonedDateTime(p), toState(p)));
+        }
+    }
+
+    /**
+     * @return the logical index of the first value not before the begin date
+     */
+    private int getFromIndex(FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate == null) {
+            return 0;
+        }
+        long time = beginDate.toInstant().toEpochMilli();
+        int pos = binarySearch(time);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /**
+     * @return the logical index after the last value not after the end date
+     */
+    private int getToIndex(FilterCriteria filter) {
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate == null) {
+            return size;
+        }
+        long time = endDate.toInstant().toEpochMilli();
+        int pos = binarySearch(time);
+        return pos >= 0 ? pos + 1 : -pos - 1;
+    }
+
+    /**
+     * Binary search on the logical indices of the circular buffer.
+     *
+     * @return the logical index of the timestamp, or <code>-(insertion point) - 1</code> if not present
+     */
+    private int binarySearch(long time) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midTime = timestamps[physicalIndex(mid)];
+            if (midTime < time) {
+                low = mid + 1;
+            } else if (midTime > time) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int physicalIndex(int logicalIndex) {
+        int index = head + logicalIndex;
+        return index < timestamps.length ? index : index - timestamps.length;
+    }
+
+    private void copy(int from, int to) {
+        timestamps[to] = timestamps[from];
+        zoneIndices[to] = zoneIndices[from];
+        values[to] = values[from];
+        scales[to] = scales[from];
+        unitIndices[to] = unitIndices[from];
+    }
+
+    private void removeFirst() {
+        head = physicalIndex(1);
+        size--;
+        if (size == 0) {
+            head = 0;
+        }
+    }
+
+    private void ensureCapacity(int minCapacity, long maxEntries) {
+        if (minCapacity <= timestamps.length) {
+            return;
+        }
+        long newCapacity = Math.max(INITIAL_CAPACITY, timestamps.length * 2L);
+        if (maxEntries > 0) {
+            newCapacity = Math.min(newCapacity, maxEntries);
+        }
+        resize((int) Math.min(Math.max(newCapacity, minCapacity), Integer.MAX_VALUE - 8));
+    }
+
+    private void resize(int capacity) {
+        long[] newTimestamps = new long[capacity];
+        byte[] newZoneIndices = new byte[capacity];
+        double[] newValues = new double[capacity];
+        byte[] newScales = new byte[capacity];
+        byte[] newUnitIndices = new byte[capacity];
+        for (int i = 0; i < size; i++) {
+            int p = physicalIndex(i);
+            newTimestamps[i] = timestamps[p];
+            newZoneIndices[i] = zoneIndices[p];
+            newValues[i] = values[p];
+            newScales[i] = scales[p];
+            newUnitIndices[i] = unitIndices[p];
+        }
+        timestamps = newTimestamps;
+        zoneIndices = newZoneIndices;
+        values = newValues;
+        scales = newScales;
+        unitIndices = newUnitIndices;
+        head = 0;
+    }
+
+    private static <T> int getIndex(List<T> list, T element, int maxSize) {
+        int index = list.indexOf(element);
+        if (index >= 0) {
+            return index;
+        }
+        if (list.size() >= maxSize) {
+            return -1;
+        }
+        list.add(element);
+        return list.size() - 1;
+    }
+
+    private static BigDecimal toBigDecimal(double value, byte scale) {
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        try {
+            return decimal.setScale(scale, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            // the scale is too small for the value, it has not been stored
+            return decimal;
+        }
+    }
+
+    private ZonedDateTime toZonedDateTime(int p) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamps[p]), zones.get(zoneIndices[p]));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private State toState(int p) {
+        BigDecimal value = toBigDecimal(values[p], scales[p]);
+        byte unitIndex = unitIndices[p];
+        if (unitIndex == NO_UNIT) {
+            return new DecimalType(value);
+        }
+        return new QuantityType(value, units.get(unitIndex));
+    }
+
+    /**
+     * Evaluates the state condition of a {@link FilterCriteria} on the primitive columns. The reference state is
+     * converted once into every unit used by this item, so no objects are created per value.
+     */
+    private class StateFilter {
+        private final FilterCriteria.Operator operator;
+        private final boolean noFilter;
+        // reference value for values without unit, NaN if not comparable
+        private final double decimalReference;
+        private final boolean decimalRelational;
+        // reference value converted to each unit, NaN if not comparable
+        private final double[] unitReferences;
+
+        StateFilter(FilterCriteria filter) {
+            State refState = filter.getState();
+            operator = filter.getOperator();
+            noFilter = refState == null;
+            unitReferences = new double[units.size()];
+            Arrays.fill(unitReferences, Double.NaN);
+
+            if (refState instanceof QuantityType<?> quantityReference) {
+                decimalReference = Double.NaN;
+                decimalRelational = false;
+                for (int i = 0; i < units.size(); i++) {
+                    QuantityType<?> converted = quantityReference.toUnit(units.get(i));
+                    if (converted != null) {
+                        unitReferences[i] = converted.doubleValue();
+                    }
+                }
+            } else if (refState instanceof DecimalType decimalState) {
+                decimalReference = decimalState.doubleValue();
+                // relational operators are only applied to states of the same class
+                decimalRelational = refState.getClass() == DecimalType.class;
+            } else {
+                decimalReference = Double.NaN;
+                decimalRelational = false;
+            }
+
+            if (refState != null && operator != FilterCriteria.Operator.EQ && operator != FilterCriteria.Operator.NEQ
+                    && !(refState instanceof QuantityType<?>) && !decimalRelational) {
+                logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
+            }
+        }
+
+        boolean matches(double value, byte unitIndex) {
+            if (noFilter) {
+                return true;
+            }
+            double reference;
+            if (unitIndex == NO_UNIT) {
+                reference = decimalReference;
+                if (!decimalRelational && operator != FilterCriteria.Operator.EQ
+                        && operator != FilterCriteria.Operator.NEQ) {
+                    return true;
+                }
+            } else {
+                reference = unitReferences[unitIndex];
+            }
+            boolean comparable = !Double.isNaN(reference);
+
+            if (operator == FilterCriteria.Operator.EQ) {
+                return comparable && value == reference;
+            }
+            if (operator == FilterCriteria.Operator.NEQ) {
+                return !comparable || value != reference;
+            }
+            if (!comparable) {
+                return true;
+            }
+            if (operator == FilterCriteria.Operator.GT) {
+                return value > reference;
+            }
+            if (operator == FilterCriteria.Operator.GTE) {
+                return value >= reference;
+            }
+            if (operator == FilterCriteria.Operator.LT) {
+                return value < reference;
+            }
+            if (operator == FilterCriteria.Operator.LTE) {
+                return value <= reference;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TreeSetItemStorage} is an {@link ItemStorage} that keeps the original timestamp and state objects. It
+ * is used for all states that can't be stored by the {@link NumericItemStorage}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TreeSetItemStorage implements ItemStorage {
+    private final Logger logger = LoggerFactory.getLogger(TreeSetItemStorage.class);
+
+    private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+
+    @Override
+    public boolean store(ZonedDateTime timestamp, State state, long maxEntries) {
+        database.add(new PersistEntry(timestamp, state));
+        trim(maxEntries);
+        return true;
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        if (maxEntries > 0) {
+            while (database.size() > maxEntries) {
+                database.pollFirst();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return database.size();
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getEarliest() {
+        return database.isEmpty() ? null : database.first().timestamp();
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getLatest() {
+        return database.isEmpty() ? null : database.last().timestamp();
+    }
+
+    @Override
+    public List<HistoricItem> query(String itemName, FilterCriteria filter) {
+        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
+                ? Comparator.comparing(PersistEntry::timestamp)
+                : Comparator.comparing(PersistEntry::timestamp).reversed();
+
+        return database.stream().filter(e -> applies(e, filter)).sorted(comparator)
+                .map(e -> (HistoricItem) new InMemoryHistoricItem(itemName, e.timestamp(), e.state())).toList();
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        List<PersistEntry> toRemove = database.stream().filter(e -> applies(e, filter)).toList();
+        toRemove.forEach(database::remove);
+    }
+
+    @Override
+    public void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        database.forEach(e -> consumer.accept(e.timestamp(), e.state()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean applies(PersistEntry entry, FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
+            return false;
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null && endDate.isBefore(entry.timestamp())) {
+            return false;
+        }
+
+        State refState = filter.getState();
+        FilterCriteria.Operator operator = filter.getOperator();
+        if (refState == null) {
+            // no state filter
+            return true;
+        }
+
+        if (operator == FilterCriteria.Operator.EQ) {
+            return entry.state().equals(refState);
+        }
+
+        if (operator == FilterCriteria.Operator.NEQ) {
+            return !entry.state().equals(refState);
+        }
+
+        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+            if (operator == FilterCriteria.Operator.GT) {
+                return comparableState.compareTo(refState) > 0;
+            }
+            if (operator == FilterCriteria.Operator.GTE) {
+                return comparableState.compareTo(refState) >= 0;
+            }
+            if (operator == FilterCriteria.Operator.LT) {
+                return comparableState.compareTo(refState) < 0;
+            }
+            if (operator == FilterCriteria.Operator.LTE) {
+                return comparableState.compareTo(refState) <= 0;
+            }
+        } else {
+            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
+        }
+        return true;
+    }
+
+    private record PersistEntry(ZonedDateTime timestamp, State state) {
+    }
+}
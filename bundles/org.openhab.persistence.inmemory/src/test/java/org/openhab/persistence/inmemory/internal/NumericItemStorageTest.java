@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NumericItemStorageTest} contains tests for the {@link NumericItemStorage}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NumericItemStorageTest {
+    private final Logger logger = LoggerFactory.getLogger(NumericItemStorageTest.class);
+
+    private static final String ITEM_NAME = "testItem";
+    private static final ZonedDateTime START = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+
+    @Test
+    public void supportsOnlyPlainNumericStates() {
+        assertThat(NumericItemStorage.supports(new DecimalType(1)), is(true));
+        assertThat(NumericItemStorage.supports(new QuantityType<>("1 °C")), is(true));
+        assertThat(NumericItemStorage.supports(new PercentType(1)), is(false));
+    }
+
+    @Test
+    public void outOfOrderValuesAreSorted() {
+        NumericItemStorage storage = new NumericItemStorage();
+        storage.store(START.plusHours(2), new DecimalType(3), 0);
+        storage.store(START, new DecimalType(1), 0);
+        storage.store(START.plusHours(1), new DecimalType(2), 0);
+
+        assertThat(query(storage, new FilterCriteria()), contains(3, 2, 1));
+        assertThat(storage.getEarliest(), is(START));
+        assertThat(storage.getLatest(), is(START.plusHours(2)));
+    }
+
+    @Test
+    public void existingTimestampKeepsValue() {
+        NumericItemStorage storage = new NumericItemStorage();
+        storage.store(START, new DecimalType(1), 0);
+        storage.store(START, new DecimalType(2), 0);
+
+        assertThat(storage.size(), is(1));
+        assertThat(query(storage, new FilterCriteria()), contains(1));
+    }
+
+    @Test
+    public void oldestValuesAreDroppedWhenFull() {
+        NumericItemStorage storage = new NumericItemStorage();
+        for (int i = 0; i < 50; i++) {
+            storage.store(START.plusMinutes(i), new DecimalType(i), 20);
+        }
+        // older than all stored values, dropped immediately
+        storage.store(START.minusMinutes(1), new DecimalType(-1), 20);
+        // inserted in the middle of the wrapped buffer
+        storage.store(START.plusMinutes(40).plusSeconds(30), new DecimalType(100), 20);
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 31; i < 50; i++) {
+            expected.add(i);
+            if (i == 40) {
+                expected.add(100);
+            }
+        }
+        assertThat(storage.size(), is(20));
+        assertThat(query(storage, filter), is(expected));
+
+        storage.trim(5);
+        assertThat(query(storage, filter), contains(45, 46, 47, 48, 49));
+    }
+
+    @Test
+    public void zeroMaxEntriesKeepsAllValues() {
+        NumericItemStorage storage = new NumericItemStorage();
+        for (int i = 0; i < 1000; i++) {
+            storage.store(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+        storage.trim(0);
+
+        assertThat(storage.size(), is(1000));
+    }
+
+    @Test
+    public void serviceWithZeroMaxEntriesKeepsAllValues() {
+        InMemoryPersistenceService service = new InMemoryPersistenceService();
+        service.modified(Map.of("maxEntries", 0L));
+        NumberItem item = new NumberItem(ITEM_NAME);
+        for (int i = 0; i < 1000; i++) {
+            service.store(item, START.plusMinutes(i), new DecimalType(i));
+        }
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        List<HistoricItem> result = new ArrayList<>();
+        service.query(filter).forEach(result::add);
+        assertThat(result, hasSize(1000));
+    }
+
+    @Test
+    public void valuesKeepTheirScale() {
+        NumericItemStorage storage = new NumericItemStorage();
+        storage.store(START, new DecimalType(new BigDecimal("5")), 0);
+        storage.store(START.plusHours(1), new DecimalType(new BigDecimal("0.10")), 0);
+        storage.store(START.plusHours(2), new DecimalType(new BigDecimal("1E+3")), 0);
+        storage.store(START.plusHours(3), new QuantityType<>(new BigDecimal("21"), SIUnits.CELSIUS), 0);
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<BigDecimal> values = new ArrayList<>();
+        for (HistoricItem historicItem : storage.query(ITEM_NAME, filter)) {
+            State state = historicItem.getState();
+            values.add(state instanceof QuantityType<?> quantity ? quantity.toBigDecimal()
+                    : ((DecimalType) state).toBigDecimal());
+        }
+        // compared with equals, which includes the scale
+        assertThat(values, contains(new BigDecimal("5"), new BigDecimal("0.10"), new BigDecimal("1E+3"),
+                new BigDecimal("21")));
+    }
+
+    @Test
+    public void valuesBeyondDoublePrecisionAreNotAccepted() {
+        NumericItemStorage storage = new NumericItemStorage();
+        assertThat(storage.store(START, new DecimalType(new BigDecimal("9007199254740993")), 0), is(false));
+        assertThat(storage.store(START, new DecimalType(new BigDecimal("0.1000000000000000000001")), 0), is(false));
+        assertThat(storage.size(), is(0));
+
+        // the service keeps these values in the generic storage
+        InMemoryPersistenceService service = new InMemoryPersistenceService();
+        NumberItem item = new NumberItem(ITEM_NAME);
+        service.store(item, START, new DecimalType(1));
+        service.store(item, START.plusHours(1), new DecimalType(new BigDecimal("9007199254740993")));
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<BigDecimal> values = new ArrayList<>();
+        service.query(filter).forEach(h -> values.add(((DecimalType) h.getState()).toBigDecimal()));
+        assertThat(values, contains(new BigDecimal("1"), new BigDecimal("9007199254740993")));
+    }
+
+    @Test
+    public void timestampsKeepTheirZone() {
+        ZonedDateTime utc = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.of("UTC"));
+        ZonedDateTime berlin = ZonedDateTime.of(2020, 12, 1, 14, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+        NumericItemStorage storage = new NumericItemStorage();
+        storage.store(utc, new DecimalType(1), 0);
+        storage.store(berlin, new DecimalType(2), 0);
+
+        assertThat(storage.getEarliest(), is(utc));
+        assertThat(storage.getLatest(), is(berlin));
+        List<ZonedDateTime> timestamps = new ArrayList<>();
+        storage.forEach((timestamp, state) -> timestamps.add(timestamp));
+        assertThat(timestamps, contains(utc, berlin));
+    }
+
+    @Test
+    public void timeRangeIsObserved() {
+        NumericItemStorage storage = new NumericItemStorage();
+        for (int i = 0; i < 10; i++) {
+            storage.store(START.plusHours(i), new DecimalType(i), 0);
+        }
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filter.setBeginDate(START.plusHours(2));
+        filter.setEndDate(START.plusHours(4));
+        assertThat(query(storage, filter), contains(2, 3, 4));
+
+        filter.setBeginDate(START.plusHours(2).plusMinutes(30));
+        filter.setEndDate(START.plusHours(4).minusMinutes(30));
+        assertThat(query(storage, filter), contains(3));
+    }
+
+    @Test
+    public void quantityStatesAreComparedInTheirUnit() {
+        NumericItemStorage storage = new NumericItemStorage();
+        storage.store(START, new QuantityType<>(10, SIUnits.CELSIUS), 0);
+        storage.store(START.plusHours(1), new QuantityType<>(20, SIUnits.CELSIUS), 0);
+        storage.store(START.plusHours(2), new QuantityType<>(80, ImperialUnits.FAHRENHEIT), 0);
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filter.setOperator(FilterCriteria.Operator.GT);
+        filter.setState(new QuantityType<>(15, SIUnits.CELSIUS));
+
+        List<State> states = new ArrayList<>();
+        storage.query(ITEM_NAME, filter).forEach(h -> states.add(h.getState()));
+        assertThat(states, contains(new QuantityType<>(20, SIUnits.CELSIUS),
+                new QuantityType<>(80, ImperialUnits.FAHRENHEIT)));
+    }
+
+    @Test
+    public void removeKeepsOrder() {
+        NumericItemStorage storage = new NumericItemStorage();
+        for (int i = 0; i < 30; i++) {
+            storage.store(START.plusHours(i), new DecimalType(i % 3), 10);
+        }
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setOperator(FilterCriteria.Operator.EQ);
+        filter.setState(new DecimalType(1));
+        storage.remove(filter);
+
+        FilterCriteria all = new FilterCriteria();
+        all.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        assertThat(query(storage, all), contains(0, 2, 0, 2, 0, 2, 0));
+    }
+
+    @Test
+    public void serviceSwitchesToGenericStorageForOtherStates() {
+        InMemoryPersistenceService service = new InMemoryPersistenceService();
+        NumberItem item = new NumberItem(ITEM_NAME);
+        service.store(item, START, new DecimalType(1));
+        service.store(item, START.plusHours(1), new PercentType(2));
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> states = new ArrayList<>();
+        service.query(filter).forEach(h -> states.add(h.getState()));
+
+        assertThat(states, contains(new DecimalType(1), new PercentType(2)));
+        assertThat(states.get(1), is(instanceOf(PercentType.class)));
+    }
+
+    /**
+     * Compares the heap used by the {@link NumericItemStorage} and the {@link TreeSetItemStorage} for 10.000 items
+     * with 512 values each.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "inmemory.benchmark", matches = "true", disabledReason = "Only for manual execution.")
+    public void heapUsageBenchmark() {
+        long treeSetUsage = measureHeap(TreeSetItemStorage::new);
+        long numericUsage = measureHeap(NumericItemStorage::new);
+
+        logger.info("TreeSetItemStorage: {} MB, NumericItemStorage: {} MB", treeSetUsage / (1024 * 1024),
+                numericUsage / (1024 * 1024));
+        // a value takes 19 bytes in the arrays of the numeric storage, but several objects in the tree set storage
+        assertThat(numericUsage * 2, is(lessThan(treeSetUsage)));
+    }
+
+    private long measureHeap(Supplier<ItemStorage> storageSupplier) {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memoryBean.getHeapMemoryUsage().getUsed();
+
+        List<ItemStorage> storages = new ArrayList<>();
+        for (int item = 0; item < 10_000; item++) {
+            ItemStorage storage = storageSupplier.get();
+            for (int i = 0; i < 512; i++) {
+                storage.store(START.plusSeconds(i), new QuantityType<>(20.0 + i / 100.0, SIUnits.CELSIUS), 512);
+            }
+            storages.add(storage);
+        }
+
+        System.gc();
+        long after = memoryBean.getHeapMemoryUsage().getUsed();
+        assertThat(storages, hasSize(10_000));
+        return after - before;
+    }
+
+    private List<Integer> query(ItemStorage storage, FilterCriteria filter) {
+        List<Integer> result = new ArrayList<>();
+        for (HistoricItem historicItem : storage.query(ITEM_NAME, filter)) {
+            result.add(((DecimalType) historicItem.getState()).intValue());
+        }
+        return result;
+    }
+}
@@ -36,6 +36,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.slf4j.Logger;
@@ -226,6 +227,39 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores the values as one batch. If the batch fails, the values are stored one by one, so a single rejected value
+     * does not discard the whole batch.
+     *
+     * @return the number of values that could not be stored
+     */
+    protected int storeItemValues(String tableName, List<PendingItemValue> values) {
+        logger.debug("JDBC::storeItemValues: table={} count={}", tableName, values.size());
+        long timerStart = System.currentTimeMillis();
+        int failed = 0;
+        try {
+            conf.getDBDAO().doStoreItemValues(tableName, values);
+        } catch (JdbcSQLException e) {
+            logger.debug("JDBC::storeItemValues: batch for table '{}' failed, storing values individually", tableName,
+                    e);
+            for (PendingItemValue value : values) {
+                try {
+                    conf.getDBDAO().doStoreItemValue(value.item(), value.state(), new ItemVO(tableName, null),
+                            value.date());
+                } catch (JdbcSQLException e2) {
+                    failed++;
+                    logger.warn("JDBC::storeItemValues: Unable to store item '{}' in table '{}'",
+                            value.item().getName(), tableName, e2);
+                }
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        if (failed == 0) {
+            errCnt = 0;
+        }
+        return failed;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
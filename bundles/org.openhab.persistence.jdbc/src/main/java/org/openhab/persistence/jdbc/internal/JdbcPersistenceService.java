@@ -16,13 +16,20 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,8 +53,10 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -77,6 +86,16 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    // Write-behind queue, only used when batching is enabled
+    private final Queue<PendingItemValue> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger writeQueueSize = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final MovingAverage flushTimeAverage = new MovingAverage(50);
+    private volatile long lastFlushTime = 0;
+    private volatile int lastFlushCount = 0;
+    private volatile long droppedCount = 0;
+    private @Nullable ScheduledFuture<?> flushJob;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -120,6 +139,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flushWriteQueue();
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +162,155 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        if (conf.isBatchEnabled()) {
+            enqueue(item, null, item.getState(), null);
+        } else {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        }
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        if (conf.isBatchEnabled()) {
+            enqueue(item, null, item.getState(), alias);
+        } else {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        if (conf.isBatchEnabled()) {
+            enqueue(item, date, state, null);
+        } else {
+            scheduler.execute(() -> internalStore(item, date, state, null));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        if (conf.isBatchEnabled()) {
+            enqueue(item, date, state, alias);
+        } else {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+        }
+    }
+
+    private void enqueue(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // Capture the time now, the value is written later
+        writeQueue.add(new PendingItemValue(item, state, date != null ? date : ZonedDateTime.now(), alias));
+        if (writeQueueSize.incrementAndGet() >= conf.getBatchSize() && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushWriteQueue);
+        }
+    }
+
+    /**
+     * Writes all queued values, grouped by item table, as JDBC batches of at most batchSize rows.
+     */
+    private synchronized void flushWriteQueue() {
+        flushScheduled.set(false);
+        if (writeQueue.isEmpty()) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            int count = 0;
+            while (writeQueue.poll() != null) {
+                writeQueueSize.decrementAndGet();
+                count++;
+            }
+            droppedCount += count;
+            logger.warn(
+                    "JDBC::flush: No connection to database. Cannot persist {} queued states! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    count, errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+
+        long timerStart = System.currentTimeMillis();
+        Map<String, List<PendingItemValue>> valuesByTable = new LinkedHashMap<>();
+        int count = 0;
+        PendingItemValue value;
+        while ((value = writeQueue.poll()) != null) {
+            writeQueueSize.decrementAndGet();
+            try {
+                String tableName = getTable(value.item(), value.alias());
+                valuesByTable.computeIfAbsent(tableName, t -> new ArrayList<>()).add(value);
+                count++;
+            } catch (JdbcException e) {
+                droppedCount++;
+                logger.warn("JDBC::flush: Unable to store item '{}'", value.item().getName(), e);
+            }
+        }
+
+        int batchSize = conf.getBatchSize();
+        for (Entry<String, List<PendingItemValue>> entry : valuesByTable.entrySet()) {
+            List<PendingItemValue> values = entry.getValue();
+            for (int i = 0; i < values.size(); i += batchSize) {
+                List<PendingItemValue> batch = values.subList(i, Math.min(i + batchSize, values.size()));
+                int failed = storeItemValues(entry.getKey(), batch);
+                droppedCount += failed;
+                count -= failed;
+            }
+        }
+
+        long flushTime = System.currentTimeMillis() - timerStart;
+        lastFlushTime = flushTime;
+        lastFlushCount = count;
+        synchronized (flushTimeAverage) {
+            flushTimeAverage.add(flushTime);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} values in {} tables in SQL database in {} ms.", count, valuesByTable.size(),
+                    flushTime);
+        }
+    }
+
+    /**
+     * Get the number of values waiting to be written.
+     */
+    public int getWriteQueueSize() {
+        return writeQueueSize.get();
+    }
+
+    /**
+     * Get the number of values written by the most recent flush.
+     */
+    public int getLastFlushCount() {
+        return lastFlushCount;
+    }
+
+    /**
+     * Get the duration of the most recent flush in milliseconds.
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    /**
+     * Get the average duration of the latest flushes in milliseconds.
+     */
+    public double getAverageFlushTime() {
+        synchronized (flushTimeAverage) {
+            return flushTimeAverage.getAverageDouble();
+        }
+    }
+
+    /**
+     * Get the number of queued values that could not be written.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Checks if batched write-behind is enabled.
+     */
+    public boolean isBatchEnabled() {
+        return conf.isBatchEnabled();
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -284,6 +442,14 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        if (conf.isBatchEnabled()) {
+            int batchInterval = conf.getBatchInterval();
+            flushJob = scheduler.scheduleWithFixedDelay(this::flushWriteQueue, batchInterval, batchInterval,
+                    TimeUnit.MILLISECONDS);
+            logger.debug("JDBC::updateConfig: batching enabled, batchSize={} batchInterval={} ms",
+                    conf.getBatchSize(), batchInterval);
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
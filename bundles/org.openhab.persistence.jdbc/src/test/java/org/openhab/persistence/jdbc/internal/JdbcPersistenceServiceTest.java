@@ -12,15 +12,25 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -37,15 +47,85 @@ public class JdbcPersistenceServiceTest {
             return true;
         }
     };
+    private final JdbcPersistenceService batchingService = new JdbcPersistenceService(mock(ItemRegistry.class),
+            mock(TimeZoneProvider.class)) {
+        @Override
+        protected boolean checkDBAccessability() {
+            return true;
+        }
+
+        @Override
+        protected String getTable(Item item, @Nullable String alias) {
+            return "item0001";
+        }
+    };
+    private final JdbcBaseDAO dao = mock(JdbcBaseDAO.class);
     private @NonNullByDefault({}) FilterCriteria filter;
 
     @BeforeEach
     public void setup() {
         filter = new FilterCriteria();
+
+        JdbcConfiguration conf = mock(JdbcConfiguration.class);
+        when(conf.isBatchEnabled()).thenReturn(true);
+        when(conf.getBatchSize()).thenReturn(3);
+        when(conf.getDBDAO()).thenReturn(dao);
+        batchingService.conf = conf;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchingService.deactivate(0);
+    }
+
+    private static Item item(int value) {
+        Item item = mock(Item.class);
+        when(item.getName()).thenReturn("Test");
+        when(item.getState()).thenReturn(new DecimalType(value));
+        return item;
     }
 
     @Test
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void queuedValuesAreStoredAsOneBatch() throws JdbcSQLException {
+        batchingService.store(item(1));
+        batchingService.store(item(2));
+        verify(dao, after(200).never()).doStoreItemValues(any(), any());
+
+        batchingService.store(item(3));
+
+        ArgumentCaptor<List<PendingItemValue>> values = ArgumentCaptor.forClass(List.class);
+        verify(dao, timeout(5000)).doStoreItemValues(eq("item0001"), values.capture());
+        assertEquals(List.of(new DecimalType(1), new DecimalType(2), new DecimalType(3)),
+                values.getValue().stream().map(PendingItemValue::state).toList());
+        verify(dao, never()).doStoreItemValue(any(), any(), any(), any());
+        // waits for the running flush
+        batchingService.deactivate(0);
+        assertEquals(3, batchingService.getLastFlushCount());
+        assertEquals(0, batchingService.getWriteQueueSize());
+        assertEquals(0, batchingService.getDroppedCount());
+    }
+
+    @Test
+    void failedBatchIsStoredIndividually() throws JdbcSQLException {
+        doThrow(mock(JdbcSQLException.class)).when(dao).doStoreItemValues(any(), any());
+        Item rejected = item(2);
+        doThrow(mock(JdbcSQLException.class)).when(dao).doStoreItemValue(same(rejected), any(), any(), any());
+
+        batchingService.store(item(1));
+        batchingService.store(rejected);
+        batchingService.store(item(3));
+
+        verify(dao, timeout(5000).times(3)).doStoreItemValue(any(), any(), any(), any());
+        verify(dao, times(1)).doStoreItemValues(any(), any());
+        // waits for the running flush, only the rejected value is lost
+        batchingService.deactivate(0);
+        assertEquals(1, batchingService.getDroppedCount());
+        assertEquals(2, batchingService.getLastFlushCount());
+    }
 }
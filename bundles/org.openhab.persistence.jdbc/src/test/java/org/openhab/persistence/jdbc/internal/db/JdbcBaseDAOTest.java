@@ -66,6 +66,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -247,6 +248,23 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testInsertItemValueWithDateProviderUsesTimeParameter() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setValue(42.0);
+
+        String sql = jdbcBaseDAO.insertItemValueWithDateProvider(vo);
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+
+        ZonedDateTime date = parseDateTimeString("2022-01-10T15:01:44");
+        Object[] params = jdbcBaseDAO.insertItemValueWithDateParams(vo, date);
+        assertThat(params.length, is(3));
+        assertThat(params[0], is(new java.sql.Timestamp(date.toInstant().toEpochMilli())));
+        assertThat(params[1], is(42.0));
+        assertThat(params[2], is(42.0));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * A compact binary serializer for openHAB State values.
+ * <p>
+ * The most common state types are written with a one byte type tag followed by their value, all other types are
+ * written with their class name and full string representation, the same way the {@link StateTypeAdapter} does.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BinaryStateSerializer {
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_UNDEF = 2;
+    private static final byte TYPE_ON_OFF = 3;
+    private static final byte TYPE_OPEN_CLOSED = 4;
+    private static final byte TYPE_DECIMAL = 5;
+    private static final byte TYPE_PERCENT = 6;
+    private static final byte TYPE_QUANTITY = 7;
+    private static final byte TYPE_STRING = 8;
+    private static final byte TYPE_HSB = 9;
+
+    private BinaryStateSerializer() {
+        // prevent instantiation
+    }
+
+    /**
+     * Write a state
+     *
+     * @param out the output to write to
+     * @param state the state to write, may be <code>null</code>
+     * @throws IOException if writing fails
+     */
+    public static void write(DataOutput out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (state instanceof UnDefType) {
+            out.writeByte(TYPE_UNDEF);
+            out.writeBoolean(state == UnDefType.UNDEF);
+        } else if (state instanceof OnOffType) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(state == OnOffType.ON);
+        } else if (state instanceof OpenClosedType) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(state == OpenClosedType.OPEN);
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeBigDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeBigDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state instanceof QuantityType<?>) {
+            out.writeByte(TYPE_QUANTITY);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == HSBType.class) {
+            HSBType hsb = (HSBType) state;
+            out.writeByte(TYPE_HSB);
+            writeBigDecimal(out, hsb.getHue().toBigDecimal());
+            writeBigDecimal(out, hsb.getSaturation().toBigDecimal());
+            writeBigDecimal(out, hsb.getBrightness().toBigDecimal());
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    /**
+     * Read a state
+     *
+     * @param in the input to read from
+     * @return the state or <code>null</code> if no state was written or the state could not be parsed
+     * @throws IOException if reading fails
+     */
+    public static @Nullable State read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_UNDEF -> in.readBoolean() ? UnDefType.UNDEF : UnDefType.NULL;
+            case TYPE_ON_OFF -> OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED -> in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_DECIMAL -> new DecimalType(readBigDecimal(in));
+            case TYPE_PERCENT -> new PercentType(readBigDecimal(in));
+            case TYPE_QUANTITY -> new QuantityType<>(readString(in));
+            case TYPE_STRING -> new StringType(readString(in));
+            case TYPE_HSB -> new HSBType(new DecimalType(readBigDecimal(in)), new PercentType(readBigDecimal(in)),
+                    new PercentType(readBigDecimal(in)));
+            case TYPE_GENERIC -> readGeneric(in);
+            default -> throw new IOException("Unknown state type " + type);
+        };
+    }
+
+    private static @Nullable State readGeneric(DataInput in) throws IOException {
+        String valueTypeName = readString(in);
+        String valueAsString = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> valueType = (Class<? extends State>) Class.forName(valueTypeName);
+            return TypeParser.parseState(List.of(valueType), valueAsString);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private static void writeBigDecimal(DataOutput out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readBigDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readInt()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        // DataOutput.writeUTF is limited to 64k, which is not enough for large StringType values
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -12,6 +12,10 @@
  */
 package org.openhab.persistence.mapdb.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -25,7 +29,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +40,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
@@ -59,6 +67,9 @@ import com.google.gson.GsonBuilder;
 /**
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
+ * <p>
+ * Items are stored in a compact binary format (see {@link BinaryStateSerializer}). Stores are coalesced: only the
+ * latest state of an item is written when the pending changes are committed in one batch.
  *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
@@ -73,17 +84,28 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String MAP_NAME = "itemStates";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final int SERIALIZATION_VERSION = 1;
+    private static final int COMMIT_DELAY = 1000; // in ms
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    /**
+     * holds the items that have been stored but are not yet committed to the database
+     */
+    private final Map<String, MapDbItem> pendingItems = new ConcurrentHashMap<>();
+    private @Nullable ScheduledFuture<?> commitJob;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
@@ -102,8 +124,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -134,8 +155,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
@@ -144,10 +164,46 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    private void openDatabase(File dbFile) {
+        db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
+        // the legacy map is only converted once, when the binary map is created
+        boolean migrate = db.exists(LEGACY_MAP_NAME) && !db.exists(MAP_NAME);
+        map = db.createTreeMap(MAP_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+        if (migrate) {
+            migrateLegacyMap();
+        }
+    }
+
+    /**
+     * Convert the items stored as JSON by previous versions to the binary format. The legacy map is kept, so the
+     * states it holds can still be restored after a downgrade.
+     */
+    private void migrateLegacyMap() {
+        Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+        int migrated = 0;
+        for (Map.Entry<String, String> entry : legacyMap.entrySet()) {
+            Optional<MapDbItem> item = deserializeJson(entry.getValue());
+            if (item.isPresent()) {
+                map.put(entry.getKey(), serialize(item.get()));
+                migrated++;
+            }
+        }
+        db.commit();
+        logger.info("Migrated {} of {} items in the MapDB to the binary format", migrated, legacyMap.size());
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        synchronized (pendingItems) {
+            ScheduledFuture<?> commitJob = this.commitJob;
+            if (commitJob != null) {
+                commitJob.cancel(false);
+                this.commitJob = null;
+            }
+        }
         if (db != null) {
+            commit();
             db.close();
         }
     }
@@ -164,7 +220,8 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
+        return Stream.concat(map.keySet().stream(), pendingItems.keySet().stream()).distinct().map(this::getItem)
+                .flatMap(MapDbPersistenceService::streamOptional)
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
@@ -192,31 +249,25 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+
+        // replaces a previous state of the same item that has not been committed yet
+        pendingItems.put(localAlias, mItem);
+        scheduleCommit();
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = getItem(itemName);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = getItem(alias != null ? alias : itemName);
         MapDbItem dbItem = item.orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
@@ -224,12 +275,103 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    /**
+     * Get an item, pending changes take precedence over the database
+     *
+     * @param name the name of the item
+     * @return the item, a new instance for each call
+     */
+    private Optional<MapDbItem> getItem(String name) {
+        MapDbItem pendingItem = pendingItems.get(name);
+        // serialize to get a copy, the name of returned items may be changed
+        byte[] bytes = pendingItem != null ? serialize(pendingItem) : map.get(name);
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        return deserialize(bytes);
+    }
+
+    private void scheduleCommit() {
+        synchronized (pendingItems) {
+            if (commitJob == null) {
+                commitJob = scheduler.schedule(this::commit, COMMIT_DELAY, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Write all pending items and commit them in one transaction
+     */
+    private synchronized void commit() {
+        synchronized (pendingItems) {
+            commitJob = null;
+        }
+        if (pendingItems.isEmpty()) {
+            return;
+        }
+        int count = 0;
+        for (Map.Entry<String, MapDbItem> entry : pendingItems.entrySet()) {
+            String name = entry.getKey();
+            MapDbItem item = entry.getValue();
+            map.put(name, serialize(item));
+            // keep the item if it has been replaced in the meantime, it is written with the next commit
+            pendingItems.remove(name, item);
+            count++;
+        }
+        db.commit();
+        logger.debug("Committed {} items to MapDB database", count);
+    }
+
+    private byte[] serialize(MapDbItem item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SERIALIZATION_VERSION);
+            BinaryStateSerializer.writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            BinaryStateSerializer.write(out, item.getState());
+            BinaryStateSerializer.write(out, item.getLastState());
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeBoolean(lastStateChange != null);
+            if (lastStateChange != null) {
+                out.writeLong(lastStateChange.toInstant().toEpochMilli());
+            }
+        } catch (IOException e) {
+            // can't happen when writing to a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Optional<MapDbItem> deserialize(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version != SERIALIZATION_VERSION) {
+                logger.warn("Unsupported serialization version {} of item in MapDB", version);
+                return Optional.empty();
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(BinaryStateSerializer.readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            State state = BinaryStateSerializer.read(in);
+            if (state == null) {
+                logger.warn("Deserialized invalid item: {}", item);
+                return Optional.empty();
+            }
+            item.setState(state);
+            item.setLastState(BinaryStateSerializer.read(in));
+            item.setLastStateChange(in.readBoolean() ? new Date(in.readLong()) : null);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Deserialized '{}' with state '{}'", item.getName(), item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to deserialize item from MapDB: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.mapdb.internal.BinaryStateSerializer;
+import org.openhab.persistence.mapdb.internal.StateTypeAdapter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BinaryStateSerializerTest {
+    private static final List<State> VALUES = Stream.of(List.of(DecimalType.ZERO, new DecimalType(1.123),
+            new DecimalType(10000000), new DecimalType(new BigDecimal("-1.5E+30"))),
+            List.of(HSBType.BLACK, HSBType.GREEN, HSBType.WHITE, HSBType.fromRGB(1, 2, 3),
+                    HSBType.fromRGB(11, 22, 33), HSBType.fromRGB(0, 0, 255)),
+            List.of(OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED, UnDefType.NULL,
+                    UnDefType.UNDEF),
+            List.of(PercentType.ZERO, PercentType.HUNDRED, PercentType.valueOf("0.0000001"),
+                    PercentType.valueOf("12"), PercentType.valueOf("99.999")),
+            List.of(QuantityType.valueOf("0 W"), QuantityType.valueOf("1 kW"), QuantityType.valueOf(20, Units.AMPERE),
+                    new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                    new QuantityType<>(new BigDecimal("75"), ImperialUnits.MILES_PER_HOUR),
+                    QuantityType.valueOf(1000, Units.KELVIN), QuantityType.valueOf(100, Units.METRE_PER_SQUARE_SECOND)),
+            List.of(StringType.valueOf("test"), StringType.valueOf("a b c 1 2 3"), StringType.valueOf(""),
+                    StringType.valueOf("@@@###   @@@"), StringType.valueOf("ä€😀".repeat(30000))),
+            List.of(new PointType("52.5200,13.4050,34")))
+            .flatMap(list -> list.stream()).collect(Collectors.toList());
+
+    @ParameterizedTest
+    @MethodSource
+    public void readWriteRoundtripShouldRecreateTheWrittenState(State state) throws IOException {
+        assertThat(roundtrip(state), is(equalTo(state)));
+    }
+
+    public static Stream<State> readWriteRoundtripShouldRecreateTheWrittenState() {
+        return VALUES.stream();
+    }
+
+    @Test
+    public void nullIsPreserved() throws IOException {
+        assertThat(roundtrip(null), is(nullValue()));
+    }
+
+    @Test
+    public void binaryFormatIsSmallerThanJson() throws IOException {
+        Gson mapper = new GsonBuilder().registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        for (State state : List.of(OnOffType.ON, new DecimalType(21.5),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS), HSBType.fromRGB(11, 22, 33))) {
+            assertThat(state.toString(), serialize(state).length < mapper.toJson(state).length(), is(true));
+        }
+    }
+
+    private byte[] serialize(@Nullable State state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            BinaryStateSerializer.write(out, state);
+        }
+        return bytes.toByteArray();
+    }
+
+    private @Nullable State roundtrip(@Nullable State state) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(serialize(state)))) {
+            return BinaryStateSerializer.read(in);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,11 +30,15 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -117,6 +122,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * The lock of a database file and the number of threads using it. The number is only changed while the entry is
+     * computed in the map of locks.
+     */
+    private static class DatabaseLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -126,9 +140,16 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
+    private static final int WRITER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    private final ExecutorService writer;
+
+    // one lock per database file in use, so that different files can be opened and written concurrently
+    private final Map<String, DatabaseLock> databaseLocks = new ConcurrentHashMap<>();
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -155,7 +176,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
+        this(itemRegistry, config, WRITER_THREADS);
+    }
+
+    // Visible for testing
+    RRD4jPersistenceService(ItemRegistry itemRegistry, Map<String, Object> config, int writerThreads) {
         this.itemRegistry = itemRegistry;
+        writer = Executors.newFixedThreadPool(writerThreads, new NamedThreadFactory("RRD4j-writer"));
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -276,6 +303,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writer.shutdown();
     }
 
     @Override
@@ -341,22 +369,100 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
-    private void doStore(boolean force) {
+    private synchronized void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        long start = System.nanoTime();
+
+        // collect all values that are due, grouped by database and in ascending timestamp order
+        Map<String, List<Map.Entry<Key, Double>>> pending = new LinkedHashMap<>();
+        int count = 0;
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                if (entry != null) {
+                    pending.computeIfAbsent(entry.getKey().name, k -> new ArrayList<>()).add(entry);
+                    count++;
+                }
             } else {
-                return;
+                break;
             }
         }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (pending.size() == 1 || writer.isShutdown()) {
+            pending.forEach(this::writePointsToDatabase);
+        } else {
+            // each database is written by exactly one task, so the values of a database are stored in order
+            List<Future<?>> futures = new ArrayList<>(pending.size());
+            try {
+                pending.forEach(
+                        (name, entries) -> futures.add(writer.submit(() -> writePointsToDatabase(name, entries))));
+            } catch (RejectedExecutionException e) {
+                logger.debug("Writer rejected task, storing remaining values directly: {}", e.getMessage());
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.warn("Failed to store values in rrd4j database: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (futures.size() < pending.size()) {
+                pending.entrySet().stream().skip(futures.size())
+                        .forEach(e -> writePointsToDatabase(e.getKey(), e.getValue()));
+            }
+        }
+        logger.trace("Stored {} value(s) in {} rrd4j database(s) in {} ms", count, pending.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void writePointsToDatabase(String name, List<Map.Entry<Key, Double>> entries) {
+        lockDatabase(name);
+        try {
+            for (Map.Entry<Key, Double> entry : entries) {
+                writePointToDatabase(name, entry.getValue(), entry.getKey().timestamp);
+            }
+        } finally {
+            unlockDatabase(name);
+        }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    /**
+     * Locks the database file of an item. The lock is created on demand and removed again when it is not used by any
+     * thread anymore, so only the locks of the databases in use are kept.
+     *
+     * @param name the name of the database
+     */
+    private void lockDatabase(String name) {
+        DatabaseLock databaseLock = Objects.requireNonNull(databaseLocks.compute(name, (k, existing) -> {
+            DatabaseLock lock = existing != null ? existing : new DatabaseLock();
+            lock.users++;
+            return lock;
+        }));
+        databaseLock.lock.lock();
+    }
+
+    private void unlockDatabase(String name) {
+        databaseLocks.computeIfPresent(name, (k, lock) -> {
+            lock.lock.unlock();
+            return --lock.users == 0 ? null : lock;
+        });
+    }
+
+    // Visible for testing
+    int getDatabaseLockCount() {
+        return databaseLocks.size();
+    }
+
+    private void writePointToDatabase(String name, double value, long timestamp) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -700,9 +806,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
+        lockDatabase(alias);
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
@@ -731,6 +838,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (RejectedExecutionException e) {
             // this happens if the system is shut down
             logger.debug("Could not create rrd4j database file '{}': {}", path, e.getMessage());
+        } finally {
+            unlockDatabase(alias);
         }
         return db;
     }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests storing and querying several rrd4j databases concurrently.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jPersistenceServiceTest {
+    private static final int ITEM_COUNT = 8;
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceServiceTest.class);
+
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final List<NumberItem> items = new ArrayList<>();
+
+    @BeforeAll
+    public static void setUpUserData() throws IOException {
+        // the database folder is determined once, when the service class is loaded
+        System.setProperty("openhab.userdata", Files.createTempDirectory("rrd4j").toString());
+    }
+
+    @BeforeEach
+    public void setUp() throws ItemNotFoundException {
+        // the database files are kept between the tests, so each test uses new items
+        String prefix = "Item" + UUID.randomUUID().toString().replace("-", "");
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items.add(new NumberItem(prefix + i));
+        }
+        when(itemRegistry.getItem(anyString())).thenAnswer(invocation -> new NumberItem(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void testStoreInSeveralDatabases() {
+        RRD4jPersistenceService service = new RRD4jPersistenceService(itemRegistry, Map.of(), 4);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            store(service, items.get(i), i);
+        }
+        // stores all pending values
+        service.deactivate();
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            assertEquals(new DecimalType(i), queryLastState(service, items.get(i)));
+        }
+        assertEquals(0, service.getDatabaseLockCount());
+    }
+
+    @Test
+    public void testConcurrentStoreAndQuery() throws InterruptedException {
+        RRD4jPersistenceService service = new RRD4jPersistenceService(itemRegistry, Map.of(), 4);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        for (int r = 0; r < 4; r++) {
+            readers.execute(() -> {
+                while (running.get()) {
+                    for (NumberItem item : items) {
+                        try {
+                            queryLastState(service, item);
+                        } catch (RuntimeException e) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            });
+        }
+
+        // the store job writes the values of the past seconds while the readers query the same databases
+        long end = System.currentTimeMillis() + 3000;
+        int value = 0;
+        while (System.currentTimeMillis() < end) {
+            value++;
+            for (NumberItem item : items) {
+                store(service, item, value);
+            }
+            Thread.sleep(100);
+        }
+        running.set(false);
+        readers.shutdown();
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        service.deactivate();
+
+        assertEquals(List.of(), new ArrayList<>(errors));
+        for (NumberItem item : items) {
+            assertEquals(new DecimalType(value), queryLastState(service, item));
+        }
+        assertEquals(0, service.getDatabaseLockCount());
+    }
+
+    /**
+     * Measures the time to store one value in each of 500 existing databases, with a single writer thread and with
+     * the default number of writer threads.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "rrd4j.benchmark", matches = "true", disabledReason = "Only for manual execution.")
+    public void storeBenchmark() throws InterruptedException {
+        String prefix = "Benchmark" + UUID.randomUUID().toString().replace("-", "");
+        List<NumberItem> benchmarkItems = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            benchmarkItems.add(new NumberItem(prefix + i));
+        }
+        // create the database files upfront, the creation is not measured
+        measureStore(1, benchmarkItems, 0);
+
+        int[] writerThreads = { 1, Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())) };
+        for (int round = 1; round <= 3; round++) {
+            for (int threads : writerThreads) {
+                // each value needs a new timestamp in seconds
+                Thread.sleep(1100);
+                long nanos = measureStore(threads, benchmarkItems, round);
+                logger.info("{} writer thread(s): {} values in {} ms, {} values/s", threads, benchmarkItems.size(),
+                        TimeUnit.NANOSECONDS.toMillis(nanos), benchmarkItems.size() * 1_000_000_000L / nanos);
+            }
+        }
+    }
+
+    private long measureStore(int writerThreads, List<NumberItem> benchmarkItems, int value) {
+        RRD4jPersistenceService service = new RRD4jPersistenceService(itemRegistry, Map.of(), writerThreads);
+        for (NumberItem item : benchmarkItems) {
+            store(service, item, value);
+        }
+        long start = System.nanoTime();
+        service.deactivate();
+        return System.nanoTime() - start;
+    }
+
+    private void store(RRD4jPersistenceService service, NumberItem item, int value) {
+        item.setState(new DecimalType(value));
+        service.store(item);
+    }
+
+    private @Nullable State queryLastState(RRD4jPersistenceService service, NumberItem item) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(item.getName());
+        filter.setOrdering(Ordering.DESCENDING);
+        filter.setPageSize(1);
+        Iterator<HistoricItem> result = service.query(filter).iterator();
+        return result.hasNext() ? result.next().getState() : null;
+    }
+}
@@ -12,18 +12,26 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.UnDefType;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -31,16 +39,51 @@ import com.jayway.jsonpath.PathNotFoundException;
 
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
+ * <p>
+ * Compiled expressions are cached. Parsed documents are kept for a short time, so that extracting several values
+ * from the same source only parses it once. Expired documents are removed on the next transformation.
  *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=JSONPATH" })
+@Component(configurationPid = "org.openhab.transform.jsonpath", property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int PATH_CACHE_SIZE = 1000;
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final String DOCUMENT_CACHE_TIME_CONFIG = "documentCacheTime";
+    private static final long DOCUMENT_CACHE_TIME_DEFAULT = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> pathCache = new LRUMap<>(PATH_CACHE_SIZE);
+    // keyed by the hash code of the source, the source of the entry is compared on a hit
+    private final Map<Integer, CachedDocument> documentCache = new LRUMap<>(DOCUMENT_CACHE_SIZE);
+    private long documentCacheTime = DOCUMENT_CACHE_TIME_DEFAULT;
+
+    private final AtomicLong pathCacheHits = new AtomicLong();
+    private final AtomicLong pathCacheMisses = new AtomicLong();
+    private final AtomicLong documentCacheHits = new AtomicLong();
+    private final AtomicLong documentCacheMisses = new AtomicLong();
+
+    public JSonPathTransformationService() {
+    }
+
+    @Activate
+    public JSonPathTransformationService(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        documentCacheTime = ConfigParser.valueAsOrElse(config.get(DOCUMENT_CACHE_TIME_CONFIG), Long.class,
+                DOCUMENT_CACHE_TIME_DEFAULT);
+        synchronized (documentCache) {
+            documentCache.clear();
+        }
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +105,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getDocument(source).read(getPath(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +121,95 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    /**
+     * Returns the number of transformations that used an already compiled expression.
+     */
+    public long getPathCacheHits() {
+        return pathCacheHits.get();
+    }
+
+    /**
+     * Returns the number of transformations that had to compile their expression.
+     */
+    public long getPathCacheMisses() {
+        return pathCacheMisses.get();
+    }
+
+    /**
+     * Returns the number of transformations that used an already parsed document.
+     */
+    public long getDocumentCacheHits() {
+        return documentCacheHits.get();
+    }
+
+    /**
+     * Returns the number of transformations that had to parse their source.
+     */
+    public long getDocumentCacheMisses() {
+        return documentCacheMisses.get();
+    }
+
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path;
+        synchronized (pathCache) {
+            path = pathCache.get(jsonPathExpression);
+        }
+        if (path != null) {
+            pathCacheHits.incrementAndGet();
+            return path;
+        }
+        pathCacheMisses.incrementAndGet();
+        // compile outside the lock, invalid expressions throw and are not cached
+        path = JsonPath.compile(jsonPathExpression);
+        synchronized (pathCache) {
+            pathCache.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
+    private DocumentContext getDocument(String source) {
+        if (documentCacheTime <= 0) {
+            documentCacheMisses.incrementAndGet();
+            return JsonPath.parse(source);
+        }
+
+        long now = System.currentTimeMillis();
+        Integer key = source.hashCode();
+        CachedDocument cachedDocument;
+        synchronized (documentCache) {
+            removeExpiredDocuments(now);
+            cachedDocument = documentCache.get(key);
+        }
+        if (cachedDocument != null && cachedDocument.source().equals(source)) {
+            documentCacheHits.incrementAndGet();
+            return cachedDocument.document();
+        }
+        documentCacheMisses.incrementAndGet();
+        DocumentContext document = JsonPath.parse(source);
+        synchronized (documentCache) {
+            documentCache.put(key, new CachedDocument(source, document, now + documentCacheTime));
+        }
+        logger.trace("JSONPATH cache statistics: paths {} hits / {} misses, documents {} hits / {} misses",
+                pathCacheHits, pathCacheMisses, documentCacheHits, documentCacheMisses);
+        return document;
+    }
+
+    private void removeExpiredDocuments(long now) {
+        Iterator<CachedDocument> iterator = documentCache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiry() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // Visible for testing
+    int getCachedDocumentCount() {
+        synchronized (documentCache) {
+            return documentCache.size();
+        }
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -102,4 +234,23 @@ public class JSonPathTransformationService implements TransformationService {
     private String createStringList(List<?> list) {
         return list.stream().map(n -> "\"" + n + "\"").collect(Collectors.joining(", ", "[", "]"));
     }
+
+    private record CachedDocument(String source, DocumentContext document, long expiry) {
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -14,6 +14,8 @@ package org.openhab.transform.jsonpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -129,4 +131,58 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCachesPathAndDocument() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+
+        assertEquals(1, processor.getPathCacheHits());
+        assertEquals(2, processor.getPathCacheMisses());
+        assertEquals(2, processor.getDocumentCacheHits());
+        assertEquals(1, processor.getDocumentCacheMisses());
+    }
+
+    @Test
+    public void testDocumentCacheCanBeDisabled() throws TransformationException {
+        processor = new JSonPathTransformationService(Map.of("documentCacheTime", 0));
+
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+
+        assertEquals(0, processor.getDocumentCacheHits());
+        assertEquals(2, processor.getDocumentCacheMisses());
+    }
+
+    @Test
+    public void testExpiredDocumentsAreRemoved() throws TransformationException, InterruptedException {
+        processor = new JSonPathTransformationService(Map.of("documentCacheTime", 10));
+
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals(1, processor.getCachedDocumentCount());
+        Thread.sleep(50);
+
+        assertEquals("1", processor.transform("$.a", "{\"a\":1}"));
+        assertEquals(1, processor.getCachedDocumentCount());
+        assertEquals(2, processor.getDocumentCacheMisses());
+    }
+
+    @Test
+    public void testSourcesWithSameHashCodeAreNotMixedUp() throws TransformationException {
+        String first = "{\"a\":\"Aa\"}";
+        String second = "{\"a\":\"BB\"}";
+        assertEquals(first.hashCode(), second.hashCode());
+
+        assertEquals("Aa", processor.transform("$.a", first));
+        assertEquals("BB", processor.transform("$.a", second));
+        assertEquals(0, processor.getDocumentCacheHits());
+    }
+
+    @Test
+    public void testInvalidPathIsNotCached() {
+        assertThrows(TransformationException.class, () -> processor.transform("$$", JSON_ARRAY));
+        assertThrows(TransformationException.class, () -> processor.transform("$$", JSON_ARRAY));
+        assertEquals(0, processor.getPathCacheHits());
+    }
 }
@@ -75,4 +75,19 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_cachedExpressionIsReused() throws TransformationException {
+        // method under test
+        String first = processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "X12,Y54");
+        String second = processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "A1,B2");
+        String third = processor.transform("^OP:(.*?),.*", "OP:SetMode,ARG:42");
+        String fourth = processor.transform("^OP:(.*?),.*", "OP:GetMode,ARG:42");
+
+        // Asserts
+        assertEquals("varX=12 varY=54 ", first);
+        assertEquals("varA=1 varB=2 ", second);
+        assertEquals("SetMode", third);
+        assertEquals("GetMode", fourth);
+    }
 }
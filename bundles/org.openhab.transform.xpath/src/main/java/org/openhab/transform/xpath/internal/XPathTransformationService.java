@@ -13,19 +13,29 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -35,14 +45,60 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * <p>
+ * Document builders, XPath instances and compiled expressions are pooled, each instance is used by one
+ * transformation at a time. Parsed documents are kept for a short time, so that extracting several values from the
+ * same source only parses it once.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=XPATH" })
+@Component(configurationPid = "org.openhab.transform.xpath", property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int EXPRESSION_CACHE_SIZE = 1000;
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final String DOCUMENT_CACHE_TIME_CONFIG = "documentCacheTime";
+    private static final long DOCUMENT_CACHE_TIME_DEFAULT = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final Queue<DocumentBuilder> documentBuilders = new ConcurrentLinkedQueue<>();
+    private final Queue<XPath> xpaths = new ConcurrentLinkedQueue<>();
+    // compiled expressions are not thread-safe, so each expression has a pool of compiled instances
+    private final Map<String, Queue<XPathExpression>> expressionCache = new LRUMap<>(EXPRESSION_CACHE_SIZE);
+    private final Map<String, CachedDocument> documentCache = new LRUMap<>(DOCUMENT_CACHE_SIZE);
+    private long documentCacheTime = DOCUMENT_CACHE_TIME_DEFAULT;
+
+    public XPathTransformationService() {
+    }
+
+    @Activate
+    public XPathTransformationService(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        documentCacheTime = ConfigParser.valueAsOrElse(config.get(DOCUMENT_CACHE_TIME_CONFIG), Long.class,
+                DOCUMENT_CACHE_TIME_DEFAULT);
+        synchronized (documentCache) {
+            documentCache.clear();
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        documentBuilders.clear();
+        xpaths.clear();
+        synchronized (expressionCache) {
+            expressionCache.clear();
+        }
+        synchronized (documentCache) {
+            documentCache.clear();
+        }
+    }
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,9 +107,98 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
+        try {
+            Document doc = getDocument(source);
+            XPathExpression expr = borrowExpression(xpathExpression);
 
+            String transformationResult;
+            try {
+                // the DOM is not thread-safe, a cached document is only read by one transformation at a time
+                synchronized (doc) {
+                    transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+                }
+            } finally {
+                releaseExpression(xpathExpression, expr);
+            }
+
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
+
+    private XPathExpression borrowExpression(String xpathExpression) throws XPathExpressionException {
+        Queue<XPathExpression> expressions;
+        synchronized (expressionCache) {
+            expressions = expressionCache.get(xpathExpression);
+        }
+        XPathExpression expr = expressions != null ? expressions.poll() : null;
+        if (expr != null) {
+            return expr;
+        }
+        XPath xpath = xpaths.poll();
+        if (xpath == null) {
+            xpath = XPathFactory.newInstance().newXPath();
+        }
         try {
+            return xpath.compile(xpathExpression);
+        } finally {
+            xpath.reset();
+            xpaths.offer(xpath);
+        }
+    }
+
+    private void releaseExpression(String xpathExpression, XPathExpression expr) {
+        synchronized (expressionCache) {
+            expressionCache.computeIfAbsent(xpathExpression, k -> new ConcurrentLinkedQueue<>()).offer(expr);
+        }
+    }
+
+    // Visible for testing
+    int getPooledExpressionCount(String xpathExpression) {
+        synchronized (expressionCache) {
+            Queue<XPathExpression> expressions = expressionCache.get(xpathExpression);
+            return expressions != null ? expressions.size() : 0;
+        }
+    }
+
+    private Document getDocument(String source) throws Exception {
+        if (documentCacheTime <= 0) {
+            return parse(source);
+        }
+
+        long now = System.currentTimeMillis();
+        CachedDocument cachedDocument;
+        synchronized (documentCache) {
+            cachedDocument = documentCache.get(source);
+        }
+        if (cachedDocument != null && cachedDocument.expiry() > now) {
+            return cachedDocument.document();
+        }
+        Document doc = parse(source);
+        synchronized (documentCache) {
+            documentCache.put(source, new CachedDocument(doc, now + documentCacheTime));
+        }
+        return doc;
+    }
+
+    private Document parse(String source) throws Exception {
+        DocumentBuilder builder = borrowDocumentBuilder();
+        try (StringReader stringReader = new StringReader(source)) {
+            InputSource inputSource = new InputSource(stringReader);
+            inputSource.setEncoding("UTF-8");
+            return builder.parse(inputSource);
+        } finally {
+            builder.reset();
+            documentBuilders.offer(builder);
+        }
+    }
+
+    private DocumentBuilder borrowDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = documentBuilders.poll();
+        if (builder == null) {
             DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
@@ -63,28 +208,27 @@ public class XPathTransformationService implements TransformationService {
             domFactory.setExpandEntityReferences(false);
             domFactory.setNamespaceAware(true);
             domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
+            builder = domFactory.newDocumentBuilder();
+        }
+        return builder;
+    }
 
-            Document doc = builder.parse(inputSource);
+    private record CachedDocument(Document document, long expiry) {
+    }
 
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+        private final int maxEntries;
 
-            logger.debug("transformation resulted in '{}'", transformationResult);
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
 
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
-            }
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
         }
     }
 }
@@ -14,6 +14,13 @@ package org.openhab.transform.xpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
@@ -38,4 +45,56 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformSameSourceWithDifferentExpressions() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
+
+    @Test
+    public void testTransformWithoutDocumentCache() throws TransformationException {
+        processor = new XPathTransformationService(Map.of("documentCacheTime", 0));
+
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+    }
+
+    @Test
+    public void testInvalidExpressionThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("//[", source));
+    }
+
+    @Test
+    public void testConcurrentTransformations() throws Exception {
+        String expression = "/value/text()";
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String value = String.valueOf(i);
+                results.add(executor.submit(() -> processor.transform(expression, "<value>" + value + "</value>")));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(String.valueOf(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // at most one compiled expression per thread
+        int pooled = processor.getPooledExpressionCount(expression);
+        assertTrue(pooled >= 1 && pooled <= 8, "pooled expressions: " + pooled);
+    }
+
+    @Test
+    public void testDeactivateClearsPools() throws TransformationException {
+        String expression = "//current_conditions/temp_c/@data";
+        assertEquals("8", processor.transform(expression, source));
+        assertEquals(1, processor.getPooledExpressionCount(expression));
+
+        processor.deactivate();
+        assertEquals(0, processor.getPooledExpressionCount(expression));
+    }
 }
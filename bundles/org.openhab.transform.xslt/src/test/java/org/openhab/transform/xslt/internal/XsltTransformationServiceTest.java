@@ -13,8 +13,10 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -22,16 +24,26 @@ import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 public class XsltTransformationServiceTest extends AbstractTransformationServiceTest {
 
     private XsltTransformationService processor;
 
+    private @Mock WatchService watchService;
+
     private final Path transformHttpPath = Paths.get(OpenHAB.getConfigFolder()).resolve("transform/http");
 
     @BeforeEach
@@ -40,7 +52,8 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        when(watchService.getWatchPath()).thenReturn(Paths.get(OpenHAB.getConfigFolder()));
+        processor = new XsltTransformationService(watchService);
     }
 
     @Test
@@ -54,4 +67,21 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsReloaded() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("google_weather_changed.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather_changed.xsl", source));
+
+        String changed = Files.readString(stylesheet, StandardCharsets.UTF_8).replace("temp_c", "temp_f");
+        Files.writeString(stylesheet, changed, StandardCharsets.UTF_8);
+
+        // the compiled stylesheet is used until the watch service reports the change
+        assertEquals("8", processor.transform("http/google_weather_changed.xsl", source));
+        processor.processWatchEvent(WatchService.Kind.MODIFY,
+                Path.of("transform", "http", "google_weather_changed.xsl"));
+        assertEquals("46", processor.transform("http/google_weather_changed.xsl", source));
+    }
 }
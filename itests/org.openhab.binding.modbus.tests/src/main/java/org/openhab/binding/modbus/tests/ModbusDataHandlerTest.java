@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -454,13 +455,19 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
                 true);
     }
 
-    @SuppressWarnings({ "null" })
     private ModbusDataThingHandler testReadHandlingGeneric(ModbusReadFunctionCode functionCode, String start,
             String transform, ValueType valueType, BitArray bits, ModbusRegisterArray registers, Exception error,
             BundleContext context, boolean autoCreateItemsAndLinkToChannels) {
-        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+        return testReadHandlingGeneric(functionCode, start, transform, valueType, bits, registers, error, context,
+                autoCreateItemsAndLinkToChannels, 3, new Configuration());
+    }
 
-        int pollLength = 3;
+    @SuppressWarnings({ "null" })
+    private ModbusDataThingHandler testReadHandlingGeneric(ModbusReadFunctionCode functionCode, String start,
+            String transform, ValueType valueType, BitArray bits, ModbusRegisterArray registers, Exception error,
+            BundleContext context, boolean autoCreateItemsAndLinkToChannels, int pollLength,
+            Configuration dataConfig) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
 
         // Minimally mocked request
         ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
@@ -473,7 +480,6 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
 
         Bridge poller = createPollerMock("poller1", task);
 
-        Configuration dataConfig = new Configuration();
         dataConfig.put("readStart", start);
         dataConfig.put("readTransform", transform);
         dataConfig.put("readValueType", valueType.getConfigValue());
@@ -593,6 +599,102 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         // no datetime, conversion not possible without transformation
     }
 
+    @Test
+    public void testOnRegistersUnchangedValueIsNotUpdated() {
+        ModbusDataThingHandler dataHandler = testReadHandlingGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
+                "0", "default", ModbusConstants.ValueType.INT16, null,
+                new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 }), null);
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        // unchanged value is not updated again before updateUnchangedValuesEveryMillis has passed
+        dataHandler.onReadResult(
+                new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 })));
+        dataHandler.onReadResult(
+                new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x06 })));
+
+        String itemName = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(6)), getStateUpdates(itemName)));
+        String switchItemName = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_SWITCH));
+        waitForAssert(() -> assertEquals(List.of(OnOffType.ON), getStateUpdates(switchItemName)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "READ_COILS", "READ_INPUT_DISCRETES" })
+    public void testOnBitsUnchangedValueIsNotUpdated(ModbusReadFunctionCode functionCode) {
+        ModbusDataThingHandler dataHandler = testReadHandlingGeneric(functionCode, "1", "default",
+                ModbusConstants.ValueType.BIT, new BitArray(false, true, false), null, null);
+        assertSingleStateUpdate(dataHandler, CHANNEL_SWITCH, OnOffType.ON);
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        // only the bit of the data thing is compared, the other bits of the poll change
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new BitArray(true, true, true)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new BitArray(true, false, true)));
+
+        ThingUID thingUID = dataHandler.getThing().getUID();
+        waitForAssert(() -> assertEquals(List.of(OnOffType.ON, OnOffType.OFF),
+                getStateUpdates(getItemName(new ChannelUID(thingUID, CHANNEL_SWITCH)))));
+        waitForAssert(() -> assertEquals(List.of(OpenClosedType.OPEN, OpenClosedType.CLOSED),
+                getStateUpdates(getItemName(new ChannelUID(thingUID, CHANNEL_CONTACT)))));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(BigDecimal.ONE), DecimalType.ZERO),
+                getStateUpdates(getItemName(new ChannelUID(thingUID, CHANNEL_NUMBER)))));
+    }
+
+    @Test
+    public void testOnRegistersInt32HighWordChangeIsUpdated() {
+        testOnRegistersHighWordChangeIsUpdated(ModbusConstants.ValueType.INT32,
+                new byte[] { (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x05 },
+                new byte[] { (byte) 0x00, (byte) 0x01, (byte) 0x00, (byte) 0x05 }, new DecimalType(65541));
+    }
+
+    @Test
+    public void testOnRegistersInt64HighWordChangeIsUpdated() {
+        testOnRegistersHighWordChangeIsUpdated(ModbusConstants.ValueType.INT64,
+                new byte[] { (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+                        (byte) 0x00, (byte) 0x05 },
+                new byte[] { (byte) 0x00, (byte) 0x01, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00,
+                        (byte) 0x00, (byte) 0x05 },
+                new DecimalType(281474976710661L));
+    }
+
+    private void testOnRegistersHighWordChangeIsUpdated(ValueType valueType, byte[] initial, byte[] highWordChanged,
+            DecimalType expected) {
+        ModbusDataThingHandler dataHandler = testReadHandlingGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
+                "0", "default", valueType, null, new ModbusRegisterArray(initial), null, null, true,
+                initial.length / 2, new Configuration());
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        // all registers of the value are compared, not only the last one
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(initial)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(highWordChanged)));
+
+        String itemName = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), expected), getStateUpdates(itemName)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsUpdatedAfterInterval() throws InterruptedException {
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("updateUnchangedValuesEveryMillis", 1500L);
+        ModbusDataThingHandler dataHandler = testReadHandlingGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
+                "0", "default", ModbusConstants.ValueType.INT16, null,
+                new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 }), null, null, true, 3, dataConfig);
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        dataHandler.onReadResult(
+                new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 })));
+        String itemName = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        assertEquals(List.of(new DecimalType(5)), getStateUpdates(itemName));
+
+        // the unchanged value is posted again once updateUnchangedValuesEveryMillis has passed
+        Thread.sleep(1600);
+        dataHandler.onReadResult(
+                new AsyncModbusReadResult(request, new ModbusRegisterArray(new byte[] { (byte) 0x00, (byte) 0x05 })));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(5)), getStateUpdates(itemName)));
+    }
+
     @Test
     public void testOnRegistersRealTransformation() {
         mockTransformation("MULTIPLY", new MultiplyTransformation());